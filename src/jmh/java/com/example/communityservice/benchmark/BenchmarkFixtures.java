@@ -0,0 +1,90 @@
+package com.example.communityservice.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.communityservice.entity.Authors;
+import com.example.communityservice.entity.Comments;
+import com.example.communityservice.entity.PostAttachments;
+import com.example.communityservice.entity.PostCategory;
+import com.example.communityservice.entity.Posts;
+
+/**
+ * 벤치마크 입력 데이터 <br>
+ * - DB 없이 엔티티를 직접 만들어 매핑/직렬화 비용만 측정 <br>
+ * - 실행마다 같은 값이 나오도록 난수를 쓰지 않음 (커밋 간 결과 비교용)
+ */
+final class BenchmarkFixtures {
+
+  private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 9, 25, 10, 30);
+  private static final PostCategory[] CATEGORIES = PostCategory.values();
+
+  private BenchmarkFixtures() {}
+
+  /**
+   * 게시글 목록 한 페이지 분량의 엔티티 생성
+   *
+   * @param count 게시글 수
+   * @param commentsPerPost 게시글당 댓글 수
+   * @param attachmentsPerPost 게시글당 첨부파일 수
+   */
+  static List<Posts> posts(int count, int commentsPerPost, int attachmentsPerPost) {
+    List<Posts> posts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      posts.add(post(i, commentsPerPost, attachmentsPerPost));
+    }
+    return posts;
+  }
+
+  static Posts post(long id, int commentsPerPost, int attachmentsPerPost) {
+    Authors author =
+        id % 3 == 0
+            ? Authors.createAnonymousAuthor("anon" + id + "@example.com", "{bcrypt}hash")
+            : Authors.createMemberAuthor(id, "회원" + id);
+    Posts post =
+        Posts.builder()
+            .postId(id)
+            .authors(author)
+            .category(CATEGORIES[(int) (id % CATEGORIES.length)])
+            .title("맛있는 와인 추천해주세요! #" + id)
+            .content("안녕하세요! 와인 입문자인데 추천해주실 만한 와인 있을까요? ".repeat(8))
+            .views((int) (id * 7 % 1000))
+            .likes((int) (id * 3 % 100))
+            .attachmentCount(attachmentsPerPost)
+            .tags(tagsJson(id))
+            .createdAt(BASE_TIME.plusMinutes(id))
+            .updatedAt(BASE_TIME.plusMinutes(id + 5))
+            .build();
+
+    for (int c = 0; c < commentsPerPost; c++) {
+      post.getComments()
+          .add(
+              Comments.builder()
+                  .commentId(id * 100 + c)
+                  .post(post)
+                  .authors(author)
+                  .content("좋은 글 감사합니다 " + c)
+                  .createdAt(BASE_TIME.plusMinutes(id + c))
+                  .updatedAt(BASE_TIME.plusMinutes(id + c))
+                  .build());
+    }
+    for (int a = 0; a < attachmentsPerPost; a++) {
+      PostAttachments attachment =
+          PostAttachments.create(
+              post,
+              "wine_photo_" + a + ".jpg",
+              "wine_photo_" + a + "_20250925_103000_1a2b3c4d.jpg",
+              "/uploads/posts/2025/09/25/wine_photo_" + a + "_20250925_103000_1a2b3c4d.jpg",
+              120_000L + a,
+              "0".repeat(64));
+      post.getAttachments().add(attachment);
+    }
+    return post;
+  }
+
+  /** posts.tags 컬럼에 저장되는 형식 (JSON 문자열 배열) */
+  static String tagsJson(long id) {
+    return "[\"와인\",\"추천\",\"초보자\",\"tag" + (id % 10) + "\"]";
+  }
+}
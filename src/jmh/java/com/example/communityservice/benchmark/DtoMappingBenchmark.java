@@ -0,0 +1,71 @@
+package com.example.communityservice.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.communityservice.dto.posts.PostsResponseDTO;
+import com.example.communityservice.dto.posts.PostsSummaryDTO;
+import com.example.communityservice.entity.Posts;
+import com.example.communityservice.global.common.PageResponseDTO;
+
+/**
+ * 엔티티 → DTO 변환 비용 측정 <br>
+ * - 목록 조회: Page&lt;Posts&gt; → Page&lt;PostsSummaryDTO&gt; → PageResponseDTO <br>
+ * - 상세 조회: Posts(첨부파일 포함) → PostsResponseDTO
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+  // 게시글 목록 기본 페이지 크기
+  @Param({"20"})
+  private int pageSize;
+
+  @Param({"0", "3"})
+  private int attachmentsPerPost;
+
+  private Page<Posts> page;
+  private Posts detail;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<Posts> posts = BenchmarkFixtures.posts(pageSize, 5, attachmentsPerPost);
+    page = new PageImpl<>(posts, PageRequest.of(0, pageSize), 1_000);
+    detail = posts.get(1);
+  }
+
+  @Benchmark
+  public PageResponseDTO<PostsSummaryDTO> summaryPage() {
+    return PageResponseDTO.from(page.map(PostsSummaryDTO::from));
+  }
+
+  @Benchmark
+  public PostsSummaryDTO summary() {
+    return PostsSummaryDTO.from(detail);
+  }
+
+  @Benchmark
+  public PostsResponseDTO detail() {
+    return PostsResponseDTO.from(detail);
+  }
+}
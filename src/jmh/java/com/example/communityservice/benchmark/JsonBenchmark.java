@@ -0,0 +1,95 @@
+package com.example.communityservice.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.communityservice.dto.auth.AuthApiResponseDTO;
+import com.example.communityservice.dto.posts.PostsResponseDTO;
+import com.example.communityservice.dto.posts.PostsSummaryDTO;
+import com.example.communityservice.entity.Posts;
+import com.example.communityservice.global.common.ApiResponseDTO;
+import com.example.communityservice.global.common.PageResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * JSON 직렬화/역직렬화 비용 측정 <br>
+ * - 응답: ApiResponseDTO로 감싼 게시글 목록 페이지/상세 (Spring MVC와 같은 설정의 ObjectMapper) <br>
+ * - Auth Service 응답(AuthApiResponseDTO) 역직렬화 (AuthService와 같은 기본 ObjectMapper) <br>
+ * - posts.tags 컬럼 형식(JSON 문자열 배열) 파싱
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+  private static final String AUTH_RESPONSE =
+      "{\"result\":\"SUCCESS\",\"message\":\"사용자 정보 조회 성공\","
+          + "\"data\":{\"id\":123,\"username\":\"술린이\",\"email\":\"user@example.com\"}}";
+
+  private ObjectMapper webMapper;
+  private ObjectMapper authMapper;
+  private ObjectReader tagsReader;
+
+  private ApiResponseDTO<PageResponseDTO<PostsSummaryDTO>> listResponse;
+  private ApiResponseDTO<PostsResponseDTO> detailResponse;
+  private byte[] authResponse;
+  private String tags;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    webMapper = Jackson2ObjectMapperBuilder.json().build();
+    authMapper = new ObjectMapper();
+    tagsReader = webMapper.readerFor(new TypeReference<List<String>>() {});
+
+    List<Posts> posts = BenchmarkFixtures.posts(20, 5, 1);
+    listResponse =
+        ApiResponseDTO.success(
+            PageResponseDTO.from(
+                new PageImpl<>(posts, PageRequest.of(0, 20), 1_000).map(PostsSummaryDTO::from)));
+    detailResponse = ApiResponseDTO.success(PostsResponseDTO.from(posts.get(1)));
+    authResponse = AUTH_RESPONSE.getBytes(StandardCharsets.UTF_8);
+    tags = BenchmarkFixtures.tagsJson(7);
+  }
+
+  @Benchmark
+  public byte[] serializeListPage() throws IOException {
+    return webMapper.writeValueAsBytes(listResponse);
+  }
+
+  @Benchmark
+  public byte[] serializeDetail() throws IOException {
+    return webMapper.writeValueAsBytes(detailResponse);
+  }
+
+  @Benchmark
+  public AuthApiResponseDTO deserializeAuthResponse() throws IOException {
+    return authMapper.readValue(authResponse, AuthApiResponseDTO.class);
+  }
+
+  @Benchmark
+  public List<String> parseTags() throws IOException {
+    return tagsReader.readValue(tags);
+  }
+}
@@ -0,0 +1,98 @@
+package com.example.communityservice.global.exception;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 없는 게시글 조회(404) 처리량: 예외 생성 → GlobalExceptionHandler → 응답 JSON 직렬화 <br>
+ * - stackTrace: 변경 전 방식 (스택 트레이스를 만드는 예외 + 매번 새 ErrorResponseDTO) <br>
+ * - stackless: 현재 방식 (스택 트레이스 없는 BusinessException + 미리 만든 ErrorResponseDTO) <br>
+ * - depth: 예외가 던져지는 위치의 호출 깊이 (실제 요청은 Tomcat/필터/프록시로 100단계 이상) <br>
+ * 로그 출력은 두 경우 모두 제외 (로그 I/O 비용은 설정에 따라 달라서 측정 대상에서 뺌) <br>
+ * 핸들러 메서드가 protected라 GlobalExceptionHandler와 같은 패키지에 위치
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class NotFoundBenchmark {
+
+  @Param({"20", "150"})
+  private int depth;
+
+  private ObjectMapper webMapper;
+  private GlobalExceptionHandler handler;
+
+  /** 변경 전 BusinessException과 같은 방식으로 스택 트레이스를 만드는 예외 */
+  private static class StackTraceException extends RuntimeException {
+    private final ErrorCode errorCode;
+
+    StackTraceException(ErrorCode errorCode) {
+      super(errorCode.getMessage());
+      this.errorCode = errorCode;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // 벤치마크 classpath에는 logback 설정이 없어 기본 DEBUG로 출력되므로 애플리케이션 기본값(WARN)보다 높게 설정
+    ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+        .setLevel(ch.qos.logback.classic.Level.ERROR);
+    webMapper = Jackson2ObjectMapperBuilder.json().build();
+    handler = new GlobalExceptionHandler(new ExpectedErrorLogger(60_000));
+  }
+
+  @Benchmark
+  public byte[] stackTrace() throws IOException {
+    try {
+      throwAt(depth, true);
+      return null;
+    } catch (StackTraceException e) {
+      ErrorResponseDTO response =
+          ErrorResponseDTO.of(e.errorCode.getCode(), e.getMessage()); // 매번 새로 생성
+      return webMapper.writeValueAsBytes(response);
+    }
+  }
+
+  @Benchmark
+  public byte[] stackless() throws IOException {
+    try {
+      throwAt(depth, false);
+      return null;
+    } catch (BusinessException e) {
+      return webMapper.writeValueAsBytes(handler.handleBusinessException(e).getBody());
+    }
+  }
+
+  private static void throwAt(int depth, boolean withStackTrace) {
+    if (depth > 0) {
+      throwAt(depth - 1, withStackTrace);
+      return;
+    }
+    if (withStackTrace) {
+      throw new StackTraceException(ErrorCode.POST_NOT_FOUND);
+    }
+    throw new PostNotFoundException();
+  }
+}
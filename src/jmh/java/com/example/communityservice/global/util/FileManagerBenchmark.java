@@ -0,0 +1,63 @@
+package com.example.communityservice.global.util;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 업로드 요청마다 실행되는 파일명 처리 비용 측정 <br>
+ * - 파일명/크기/확장자 검증 <br>
+ * - 저장용 고유 파일명 생성 (타임스탬프 포맷 + UUID) <br>
+ * generateUniqueFileName이 package-private이라 FileManager와 같은 패키지에 위치
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileManagerBenchmark {
+
+  private static final String FILENAME = "2025_여름_와인_시음회_사진_모음_최종본.jpg";
+
+  private FileManager fileManager;
+
+  @Setup(Level.Trial)
+  public void setUp() throws ReflectiveOperationException {
+    fileManager = new FileManager(Optional.empty(), new SimpleMeterRegistry());
+    // @Value 필드는 application.properties 기본값으로 직접 주입
+    setField("baseUploadPath", "uploads");
+    setField("maxFileSize", 10L * 1024 * 1024);
+  }
+
+  @Benchmark
+  public String generateUniqueFileName() {
+    return fileManager.generateUniqueFileName(FILENAME);
+  }
+
+  @Benchmark
+  public String validateAndGenerate() {
+    fileManager.validateFileMetadata(FILENAME, 120_000L);
+    return fileManager.generateUniqueFileName(FILENAME);
+  }
+
+  private void setField(String name, Object value) throws ReflectiveOperationException {
+    Field field = FileManager.class.getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(fileManager, value);
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.communityservice.global.util;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.communityservice.global.util.RateLimitFilter.Rule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 요청 수 제한 필터가 요청마다 더하는 비용 측정 (단일 스레드, RateLimitFilter.doFilter 전체 경로) <br>
+ * - read: 조회 요청 (메서드 비교만 하고 통과) <br>
+ * - anonymousWrite: 10,000개 IP 중 하나의 익명 댓글 작성 (Authorization 없음 → IP 키) <br>
+ * - junkTokenWrite: 검증되지 않은 Authorization 헤더 (캐시 조회 실패 → IP 키) <br>
+ * - memberLike: 검증된 회원 10,000명 중 하나의 좋아요 (헤더 SHA-256 + 캐시 조회 → 회원 키, 헤더 교체 비용 포함) <br>
+ * - rejected: 이미 소진된 IP의 비밀번호 확인 (429 응답 본문 작성, 응답 객체 생성 포함) <br>
+ * 요청 객체는 시나리오별로 하나만 두고 IP/헤더만 바꿔서 재사용 <br>
+ * (실제 요청 객체는 방금 파싱되어 캐시에 있으므로, 미리 만든 요청 수만 개를 번갈아 쓰면 캐시 미스만 측정하게 됨)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+
+  private static final int KEYS = 10_000;
+  private static final FilterChain PASS = (request, response) -> {};
+
+  private RateLimitFilter filter;
+  private RateLimitFilter exhaustedFilter;
+  private String[] ips;
+  private String[] tokens;
+  private MockHttpServletRequest read;
+  private MockHttpServletRequest anonymousWrite;
+  private MockHttpServletRequest junkTokenWrite;
+  private MockHttpServletRequest memberLike;
+  private MockHttpServletRequest rejectedVerify;
+  private MockHttpServletResponse response;
+
+  @Setup(Level.Trial)
+  public void setUp() throws ServletException, IOException {
+    ValidatedTokenCache validatedTokenCache = new ValidatedTokenCache(3_600_000, KEYS * 2);
+    // 측정 중에 제한에 걸리지 않을 만큼 큰 허용량
+    filter =
+        newFilter(
+            new RateLimiter(Integer.MAX_VALUE, Integer.MAX_VALUE / 1000, KEYS * 4),
+            validatedTokenCache);
+    exhaustedFilter = newFilter(new RateLimiter(1, 1, KEYS * 4), validatedTokenCache);
+    response = new MockHttpServletResponse();
+
+    read = request("GET", "/api/posts/12345", "10.0.0.1");
+    junkTokenWrite = request("POST", "/api/comments", "10.0.0.2");
+    junkTokenWrite.addHeader(HttpHeaders.AUTHORIZATION, "Bearer not-validated");
+    anonymousWrite = request("POST", "/api/comments", "10.0.0.3");
+    memberLike = request("POST", "/api/posts/12345/likes", "10.0.0.4");
+    ips = new String[KEYS];
+    tokens = new String[KEYS];
+    for (int i = 0; i < KEYS; i++) {
+      ips[i] = "10.1." + (i / 256) + "." + (i % 256);
+      tokens[i] = "Bearer member-token-" + i;
+      validatedTokenCache.put(tokens[i], (long) i);
+      // 측정 전에 모든 키의 bucket을 만들어 둠 (측정은 기존 키 갱신)
+      anonymousWrite.setRemoteAddr(ips[i]);
+      filter.doFilter(anonymousWrite, response, PASS);
+      memberLike.removeHeader(HttpHeaders.AUTHORIZATION);
+      memberLike.addHeader(HttpHeaders.AUTHORIZATION, tokens[i]);
+      filter.doFilter(memberLike, response, PASS);
+    }
+    rejectedVerify = request("POST", "/api/comments/12345/verify", "10.2.0.1");
+    exhaustedFilter.doFilter(rejectedVerify, new MockHttpServletResponse(), PASS);
+  }
+
+  @Benchmark
+  public int read() throws ServletException, IOException {
+    filter.doFilter(read, response, PASS);
+    return response.getStatus();
+  }
+
+  @Benchmark
+  public int anonymousWrite() throws ServletException, IOException {
+    anonymousWrite.setRemoteAddr(ips[ThreadLocalRandom.current().nextInt(KEYS)]);
+    filter.doFilter(anonymousWrite, response, PASS);
+    return response.getStatus();
+  }
+
+  @Benchmark
+  public int junkTokenWrite() throws ServletException, IOException {
+    filter.doFilter(junkTokenWrite, response, PASS);
+    return response.getStatus();
+  }
+
+  @Benchmark
+  public int memberLike() throws ServletException, IOException {
+    memberLike.removeHeader(HttpHeaders.AUTHORIZATION);
+    memberLike.addHeader(
+        HttpHeaders.AUTHORIZATION, tokens[ThreadLocalRandom.current().nextInt(KEYS)]);
+    filter.doFilter(memberLike, response, PASS);
+    return response.getStatus();
+  }
+
+  @Benchmark
+  public int rejected() throws ServletException, IOException {
+    MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+    exhaustedFilter.doFilter(rejectedVerify, rejectedResponse, PASS);
+    return rejectedResponse.getStatus();
+  }
+
+  private static RateLimitFilter newFilter(
+      RateLimiter limiter, ValidatedTokenCache validatedTokenCache) {
+    Map<Rule, RateLimiter> limiters = new EnumMap<>(Rule.class);
+    for (Rule rule : Rule.values()) {
+      limiters.put(rule, limiter);
+    }
+    return new RateLimitFilter(
+        limiters,
+        validatedTokenCache,
+        false,
+        Jackson2ObjectMapperBuilder.json().build(),
+        new SimpleMeterRegistry());
+  }
+
+  private static MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+    request.setRemoteAddr(remoteAddr);
+    return request;
+  }
+}
@@ -0,0 +1,107 @@
+package com.example.communityservice.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * LOAD DATA용 CSV 파일 출력 <br>
+ * - 테이블마다 {테이블}.csv + 전체를 적재하는 load.sql <br>
+ * - 적재: mysql --local-infile=1 community_db &lt; load.sql (테이블은 애플리케이션이 먼저 생성)
+ */
+class CsvDatasetSink implements DatasetSink {
+
+  private static final DateTimeFormatter DATE_TIME =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  private final Path directory;
+  private final Map<Table, BufferedWriter> writers = new EnumMap<>(Table.class);
+  private final StringBuilder line = new StringBuilder(1024);
+
+  CsvDatasetSink(Path directory) throws IOException {
+    this.directory = directory.toAbsolutePath();
+    Files.createDirectories(this.directory);
+  }
+
+  @Override
+  public void row(Table table, Object... values) throws IOException {
+    BufferedWriter writer = writers.get(table);
+    if (writer == null) {
+      writer =
+          Files.newBufferedWriter(
+              directory.resolve(table.tableName + ".csv"), StandardCharsets.UTF_8);
+      writers.put(table, writer);
+    }
+
+    line.setLength(0);
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        line.append(',');
+      }
+      appendValue(values[i]);
+    }
+    line.append('\n');
+    writer.append(line);
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (BufferedWriter writer : writers.values()) {
+      writer.close();
+    }
+    writeLoadScript();
+  }
+
+  // NULL은 \N, 문자열은 큰따옴표로 감싸고 \ " 줄바꿈은 \로 이스케이프
+  private void appendValue(Object value) {
+    if (value == null) {
+      line.append("\\N");
+    } else if (value instanceof Boolean flag) {
+      line.append(flag ? '1' : '0');
+    } else if (value instanceof Number) {
+      line.append(value);
+    } else if (value instanceof LocalDateTime time) {
+      line.append(DATE_TIME.format(time));
+    } else {
+      String text = value.toString();
+      line.append('"');
+      for (int i = 0; i < text.length(); i++) {
+        char c = text.charAt(i);
+        switch (c) {
+          case '"', '\\' -> line.append('\\').append(c);
+          case '\n' -> line.append("\\n");
+          case '\r' -> line.append("\\r");
+          default -> line.append(c);
+        }
+      }
+      line.append('"');
+    }
+  }
+
+  private void writeLoadScript() throws IOException {
+    StringBuilder script = new StringBuilder();
+    script.append("SET foreign_key_checks = 0;\n");
+    script.append("SET unique_checks = 0;\n");
+    for (Table table : writers.keySet()) {
+      script
+          .append("LOAD DATA LOCAL INFILE '")
+          .append(directory.resolve(table.tableName + ".csv").toString().replace("\\", "/"))
+          .append("' INTO TABLE ")
+          .append(table.tableName)
+          .append(" CHARACTER SET utf8mb4")
+          .append(" FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\'")
+          .append(" LINES TERMINATED BY '\\n' (")
+          .append(String.join(", ", table.columns))
+          .append(");\n");
+    }
+    script.append("SET unique_checks = 1;\n");
+    script.append("SET foreign_key_checks = 1;\n");
+    Files.writeString(directory.resolve("load.sql"), script, StandardCharsets.UTF_8);
+  }
+}
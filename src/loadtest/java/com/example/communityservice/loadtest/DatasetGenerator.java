@@ -0,0 +1,259 @@
+package com.example.communityservice.loadtest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+import com.example.communityservice.entity.PostCategory;
+import com.example.communityservice.loadtest.DatasetSink.Table;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운영과 비슷한 모양의 합성 데이터 생성 <br>
+ * - 조회수/댓글 수/좋아요 수: 게시글 인기 순위에 대한 Zipf 분포 (posts.likes = 실제 좋아요 행 수) <br>
+ * - 댓글: 몰려서 달리는 스레드 (짧은 간격의 burst가 긴 간격을 두고 반복, 소수 참여자가 대화를 주고받음) <br>
+ * - 작성자: 회원은 소수의 헤비 유저가 많이 작성, 익명 글/댓글은 애플리케이션처럼 건마다 작성자 행 생성 <br>
+ * - 본문/댓글: 로그정규 길이의 한국어 텍스트 <br>
+ * 게시글 ID 순서대로 한 건씩 생성해서 바로 출력 (데이터 규모와 관계없이 메모리 사용량 일정)
+ */
+@Slf4j
+class DatasetGenerator {
+
+  private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+  private static final int MAX_VIEWS = 200_000;
+  // 댓글 burst: 같은 burst 안에서 이어질 확률, burst 안/사이 평균 간격(분)
+  private static final double SAME_BURST = 0.85;
+  private static final double MINUTES_IN_BURST = 3;
+  private static final double MINUTES_BETWEEN_BURSTS = 18 * 60;
+  // 댓글 중 스레드 참여자(대화 상대)가 작성하는 비율
+  private static final double PARTICIPANT_RATIO = 0.6;
+
+  private final DatasetSpec spec;
+  private final PostPopularity popularity;
+  private final ZipfSampler tagSampler;
+  private final ZipfSampler memberSampler;
+  private final double popularityNormalizer;
+
+  private long nextAnonymousAuthorId;
+  private long nextCommentId = 1;
+  private long nextLikeId = 1;
+
+  DatasetGenerator(DatasetSpec spec) {
+    this.spec = spec;
+    this.popularity = new PostPopularity(spec.posts(), spec.seed());
+    this.tagSampler = new ZipfSampler(spec.tags(), spec.tagSkew());
+    this.memberSampler = new ZipfSampler(spec.users(), 0.8);
+    double sum = 0;
+    for (int rank = 1; rank <= spec.posts(); rank++) {
+      sum += Math.pow(rank, -spec.popularitySkew());
+    }
+    this.popularityNormalizer = sum;
+  }
+
+  /** 생성한 데이터의 게시글 인기 순위 (부하 발생기가 같은 인기 게시글을 조회하도록 공유) */
+  PostPopularity popularity() {
+    return popularity;
+  }
+
+  /**
+   * 전체 데이터 생성
+   *
+   * @param sink 출력 대상
+   * @param anonymousPasswordHash 익명 작성자 비밀번호 해시 (모든 익명 작성자가 같은 비밀번호)
+   */
+  void generate(DatasetSink sink, String anonymousPasswordHash) throws Exception {
+    long startTime = System.nanoTime();
+    SplittableRandom random = new SplittableRandom(spec.seed());
+    nextAnonymousAuthorId = spec.users() + 1L;
+    nextCommentId = 1;
+    nextLikeId = 1;
+
+    for (int userId = 1; userId <= spec.users(); userId++) {
+      sink.row(Table.AUTHORS, (long) userId, (long) userId, "회원" + userId, false, null, null);
+    }
+
+    PostCategory[] categories = PostCategory.values();
+    long comments = 0;
+    long likes = 0;
+    int progressStep = Math.max(1, spec.posts() / 10);
+    for (int postId = 1; postId <= spec.posts(); postId++) {
+      // 게시글마다 분리한 난수 (게시글 하나의 댓글/좋아요 수가 뒤 게시글 내용에 영향 X)
+      SplittableRandom postRandom = random.split();
+      int rank = popularity.rank(postId);
+      LocalDateTime createdAt = createdAtOf(postId);
+      int likeCount = Math.min(spec.users(), allocate(postRandom, spec.likes(), rank));
+      long authorId = author(postRandom, sink, anonymousPasswordHash);
+
+      sink.row(
+          Table.POSTS,
+          (long) postId,
+          authorId,
+          categories[postRandom.nextInt(categories.length)].name(),
+          KoreanText.title(postRandom),
+          KoreanText.content(postRandom),
+          (int) (MAX_VIEWS / Math.pow(rank + 1, 0.9) * (0.5 + postRandom.nextDouble())),
+          likeCount,
+          0,
+          tagsJson(postRandom),
+          createdAt,
+          createdAt);
+
+      comments +=
+          commentThread(
+              postRandom,
+              sink,
+              postId,
+              createdAt,
+              allocate(postRandom, spec.comments(), rank),
+              anonymousPasswordHash);
+      likes += likes(postRandom, sink, postId, createdAt, likeCount);
+
+      if (postId % progressStep == 0) {
+        log.info("데이터 생성 중: 게시글 {}/{}, 댓글 {}, 좋아요 {}", postId, spec.posts(), comments, likes);
+      }
+    }
+
+    double seconds = Duration.ofNanos(System.nanoTime() - startTime).toMillis() / 1000.0;
+    long rows = (nextAnonymousAuthorId - 1) + spec.posts() + comments + likes;
+    log.info(
+        "데이터 생성 완료: 작성자 {}, 게시글 {}, 댓글 {}, 좋아요 {} ({}초, 초당 {}행)",
+        nextAnonymousAuthorId - 1,
+        spec.posts(),
+        comments,
+        likes,
+        String.format("%.1f", seconds),
+        (long) (rows / Math.max(seconds, 0.001)));
+  }
+
+  /** 게시글 ID의 작성 시각 (ID 순서 = 작성 순서) */
+  LocalDateTime createdAtOf(long postId) {
+    long minutes = Duration.ofDays(spec.days()).toMinutes() * postId / Math.max(1, spec.posts());
+    return BASE_TIME.plusMinutes(minutes);
+  }
+
+  // 전체 수를 인기 순위 비중대로 배분 (소수점 이하는 확률적으로 올림 → 합계가 전체 수에 가까움)
+  private int allocate(SplittableRandom random, long total, int rank) {
+    double expected = total * Math.pow(rank + 1, -spec.popularitySkew()) / popularityNormalizer;
+    int count = (int) expected;
+    return random.nextDouble() < expected - count ? count + 1 : count;
+  }
+
+  // 회원(헤비 유저일수록 자주) 또는 익명 (익명은 작성자 행을 새로 만듦)
+  private long author(SplittableRandom random, DatasetSink sink, String passwordHash)
+      throws Exception {
+    if (random.nextDouble() >= spec.anonymousRatio()) {
+      return 1 + memberSampler.next(random);
+    }
+    long authorId = nextAnonymousAuthorId++;
+    sink.row(
+        Table.AUTHORS,
+        authorId,
+        null,
+        "익명",
+        true,
+        "anon" + authorId + "@example.com",
+        passwordHash);
+    return authorId;
+  }
+
+  private int commentThread(
+      SplittableRandom random,
+      DatasetSink sink,
+      long postId,
+      LocalDateTime postCreatedAt,
+      int count,
+      String passwordHash)
+      throws Exception {
+    if (count == 0) {
+      return 0;
+    }
+    long[] participants = new long[2 + random.nextInt(5)];
+    for (int i = 0; i < participants.length; i++) {
+      participants[i] = author(random, sink, passwordHash);
+    }
+
+    double minutes = exponential(random, 30); // 첫 댓글은 평균 30분 뒤
+    for (int i = 0; i < count; i++) {
+      long authorId =
+          random.nextDouble() < PARTICIPANT_RATIO
+              ? participants[random.nextInt(participants.length)]
+              : author(random, sink, passwordHash);
+      LocalDateTime createdAt = postCreatedAt.plusSeconds((long) (minutes * 60));
+      sink.row(
+          Table.COMMENTS,
+          nextCommentId++,
+          postId,
+          authorId,
+          KoreanText.comment(random),
+          createdAt,
+          createdAt);
+      minutes +=
+          exponential(
+              random, random.nextDouble() < SAME_BURST ? MINUTES_IN_BURST : MINUTES_BETWEEN_BURSTS);
+    }
+    return count;
+  }
+
+  // 게시글마다 서로 다른 회원 count명 (시작 위치와 보폭을 무작위로 정한 순열 → 중복 없음)
+  private int likes(
+      SplittableRandom random,
+      DatasetSink sink,
+      long postId,
+      LocalDateTime postCreatedAt,
+      int count)
+      throws Exception {
+    int users = spec.users();
+    long start = random.nextInt(users);
+    long stride = coprimeStride(random, users);
+    for (int i = 0; i < count; i++) {
+      long userId = 1 + (start + i * stride) % users;
+      LocalDateTime createdAt =
+          postCreatedAt.plusMinutes((long) exponential(random, 60 * 24)); // 평균 하루 안에 대부분
+      sink.row(Table.POST_LIKES, nextLikeId++, userId, postId, createdAt);
+    }
+    return count;
+  }
+
+  private static long coprimeStride(SplittableRandom random, int users) {
+    if (users == 1) {
+      return 1;
+    }
+    long stride = 1 + random.nextInt(users - 1);
+    while (gcd(stride, users) != 1) {
+      stride = stride % (users - 1) + 1;
+    }
+    return stride;
+  }
+
+  private static long gcd(long a, long b) {
+    return b == 0 ? a : gcd(b, a % b);
+  }
+
+  private static double exponential(SplittableRandom random, double mean) {
+    return -mean * Math.log(1 - random.nextDouble());
+  }
+
+  // posts.tags 형식: JSON 문자열 배열 (0~4개, 중복 없음)
+  private String tagsJson(SplittableRandom random) {
+    int count = random.nextInt(5);
+    StringBuilder json = new StringBuilder("[");
+    int[] picked = new int[count];
+    int size = 0;
+    for (int attempt = 0; attempt < count * 3 && size < count; attempt++) {
+      int rank = tagSampler.next(random);
+      boolean duplicate = false;
+      for (int i = 0; i < size; i++) {
+        duplicate |= picked[i] == rank;
+      }
+      if (!duplicate) {
+        picked[size] = rank;
+        if (size++ > 0) {
+          json.append(',');
+        }
+        json.append('"').append(KoreanText.tag(rank)).append('"');
+      }
+    }
+    return json.append(']').toString();
+  }
+}
@@ -0,0 +1,49 @@
+package com.example.communityservice.loadtest;
+
+import java.nio.file.Path;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 합성 데이터셋 생성 (./gradlew generateDataset) <br>
+ * - dataset.output=jdbc: dataset.url DB에 바로 적재 (테이블은 애플리케이션이 먼저 생성, 기존 데이터는 비움) <br>
+ * - dataset.output=csv: dataset.dir에 테이블별 CSV + load.sql 출력 (LOAD DATA로 적재) <br>
+ * - 규모/분포는 dataset.* (DatasetSpec 참고), 익명 작성자 비밀번호는 부하 테스트와 동일
+ */
+@Slf4j
+public class DatasetGeneratorMain {
+
+  public static void main(String[] args) throws Exception {
+    DatasetSpec spec = DatasetSpec.fromSystemProperties("dataset.");
+    String output = System.getProperty("dataset.output", "csv");
+    log.info("데이터셋 생성 시작: {} ({})", spec, output);
+
+    DatasetGenerator generator = new DatasetGenerator(spec);
+    String passwordHash = new BCryptPasswordEncoder().encode(LoadTestRunner.ANONYMOUS_PASSWORD);
+    try (DatasetSink sink = openSink(output)) {
+      generator.generate(sink, passwordHash);
+    }
+  }
+
+  private static DatasetSink openSink(String output) throws Exception {
+    switch (output) {
+      case "jdbc" -> {
+        String url = System.getProperty("dataset.url", "jdbc:mysql://localhost:3306/community_db");
+        String username = System.getProperty("dataset.username", "root");
+        String password = System.getProperty("dataset.password", "");
+        JdbcDatasetSink.truncate(url, username, password);
+        return new JdbcDatasetSink(
+            url,
+            username,
+            password,
+            Integer.parseInt(System.getProperty("dataset.batch-size", "2000")));
+      }
+      case "csv" -> {
+        return new CsvDatasetSink(Path.of(System.getProperty("dataset.dir", "build/dataset")));
+      }
+      default -> throw new IllegalArgumentException("dataset.output은 jdbc 또는 csv: " + output);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.communityservice.loadtest;
+
+import java.util.List;
+
+/** 합성 데이터 행을 받는 곳 (DB 직접 적재 / LOAD DATA용 CSV 파일) */
+interface DatasetSink extends AutoCloseable {
+
+  /** 적재 대상 테이블과 컬럼 순서 (row 값도 이 순서) */
+  enum Table {
+    AUTHORS(
+        "authors",
+        List.of(
+            "author_id",
+            "user_id",
+            "author_name",
+            "is_anonymous",
+            "anonymous_email",
+            "anonymous_pwd")),
+    POSTS(
+        "posts",
+        List.of(
+            "post_id",
+            "author_id",
+            "category",
+            "title",
+            "content",
+            "views",
+            "likes",
+            "attachment_count",
+            "tags",
+            "created_at",
+            "updated_at")),
+    COMMENTS(
+        "comments",
+        List.of("comment_id", "post_id", "author_id", "content", "created_at", "updated_at")),
+    POST_LIKES("post_likes", List.of("like_id", "user_id", "post_id", "created_at"));
+
+    final String tableName;
+    final List<String> columns;
+
+    Table(String tableName, List<String> columns) {
+      this.tableName = tableName;
+      this.columns = columns;
+    }
+  }
+
+  /**
+   * 행 하나 추가
+   *
+   * @param table 테이블
+   * @param values 컬럼 순서대로의 값 (null, Long, Integer, Boolean, String, LocalDateTime)
+   */
+  void row(Table table, Object... values) throws Exception;
+
+  /** 남은 행을 모두 반영하고 자원 정리 */
+  @Override
+  void close() throws Exception;
+}
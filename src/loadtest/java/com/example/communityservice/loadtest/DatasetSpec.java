@@ -0,0 +1,55 @@
+package com.example.communityservice.loadtest;
+
+/**
+ * 합성 데이터셋 규모/분포 설정 (같은 설정 + 같은 seed = 같은 데이터)
+ *
+ * @param seed 난수 seed
+ * @param users 회원 수 (회원 작성자 ID 1..users)
+ * @param posts 게시글 수
+ * @param comments 댓글 수 (게시글별 배분은 인기도에 비례하므로 합계는 약간 다를 수 있음)
+ * @param likes 좋아요 수 (게시글당 최대 회원 수까지)
+ * @param tags 태그 종류 수
+ * @param tagSkew 태그 사용 빈도 Zipf 지수
+ * @param popularitySkew 게시글별 조회수/댓글/좋아요 배분 Zipf 지수 (클수록 인기 게시글에 집중)
+ * @param anonymousRatio 익명 게시글/댓글 비율 (익명 글마다 작성자 행을 새로 만드는 애플리케이션 동작과 동일)
+ * @param days 게시글 작성 기간 (일)
+ */
+record DatasetSpec(
+    long seed,
+    int users,
+    int posts,
+    int comments,
+    int likes,
+    int tags,
+    double tagSkew,
+    double popularitySkew,
+    double anonymousRatio,
+    int days) {
+
+  /**
+   * 시스템 프로퍼티에서 설정 읽기
+   *
+   * @param prefix 프로퍼티 접두사 (예: "dataset.", "loadtest.")
+   */
+  static DatasetSpec fromSystemProperties(String prefix) {
+    return new DatasetSpec(
+        Long.parseLong(System.getProperty(prefix + "seed", "42")),
+        intProperty(prefix + "users", 20_000),
+        intProperty(prefix + "posts", 100_000),
+        intProperty(prefix + "comments", 1_000_000),
+        intProperty(prefix + "likes", 500_000),
+        intProperty(prefix + "tags", 200),
+        doubleProperty(prefix + "tag-skew", 1.1),
+        doubleProperty(prefix + "popularity-skew", 0.6),
+        doubleProperty(prefix + "anonymous-ratio", 0.3),
+        intProperty(prefix + "days", 365));
+  }
+
+  private static int intProperty(String name, int defaultValue) {
+    return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+  }
+
+  private static double doubleProperty(String name, double defaultValue) {
+    return Double.parseDouble(System.getProperty(name, String.valueOf(defaultValue)));
+  }
+}
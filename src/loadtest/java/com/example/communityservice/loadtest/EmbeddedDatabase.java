@@ -0,0 +1,127 @@
+package com.example.communityservice.loadtest;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * 부하 테스트용 내장 MariaDB (MySQL 호환, 로컬 설치 없이 실행) <br>
+ * - 데이터 디렉토리를 종료 후에도 유지 → 큰 데이터셋은 처음 한 번만 적재 <br>
+ * - 두 인스턴스를 primary/복제본으로 연결 가능 (읽기 복제본 라우팅 확인용)
+ */
+class EmbeddedDatabase implements AutoCloseable {
+
+  static final String DATABASE = "community_db";
+  // 복제 원본: binlog + ROW 형식, 복제본: 시작 시 이전 실행의 primary 포트로 자동 복제하지 않음 (relay log 이름은 호스트명과 무관하게 고정)
+  static final List<String> PRIMARY_ARGS =
+      List.of("--server-id=1", "--log-bin=mariadb-bin", "--binlog-format=ROW");
+  static final List<String> REPLICA_ARGS =
+      List.of("--server-id=2", "--skip-slave-start", "--relay-log=mariadb-relay-bin");
+
+  private final DB db;
+  private final int port;
+
+  private EmbeddedDatabase(DB db, int port) {
+    this.db = db;
+    this.port = port;
+  }
+
+  /**
+   * 내장 DB 시작 (빈 포트 사용)
+   *
+   * @param workDir 작업 디렉토리 ({name}-data, {name}-base 사용)
+   * @param name 인스턴스 이름
+   * @param extraArgs mariadbd 추가 인자
+   */
+  static EmbeddedDatabase start(Path workDir, String name, List<String> extraArgs)
+      throws ManagedProcessException {
+    DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+    config.setPort(0); // 0이면 빈 포트 선택
+    config.setDataDir(workDir.resolve(name + "-data").toAbsolutePath().toFile());
+    config.setBaseDir(workDir.resolve(name + "-base").toAbsolutePath().toFile());
+    config.setDeletingTemporaryBaseAndDataDirsOnShutdown(false);
+    config.setDefaultCharacterSet("utf8mb4");
+    // 적재/쓰기 부하 중 디스크 flush 대기를 줄여 측정이 로컬 디스크 속도에 묶이지 않게 함
+    config.addArg("--innodb-flush-log-at-trx-commit=2");
+    config.addArg("--innodb-buffer-pool-size=1G");
+    config.addArg("--max-connections=500");
+    if ("root".equals(System.getProperty("user.name"))) {
+      config.addArg("--user=root"); // 컨테이너 등 root로 실행할 때 mariadbd가 거부하지 않도록
+    }
+    extraArgs.forEach(config::addArg);
+
+    DB db = DB.newEmbeddedDB(config.build());
+    db.start();
+    db.createDB(DATABASE);
+    return new EmbeddedDatabase(db, db.getConfiguration().getPort());
+  }
+
+  /** 애플리케이션/적재기에서 사용할 JDBC URL */
+  String jdbcUrl() {
+    return "jdbc:mysql://localhost:" + port + "/" + DATABASE;
+  }
+
+  /**
+   * 이 DB를 primary의 복제본으로 연결 (GTID 기준이라 실행마다 primary 포트가 바뀌어도 이어서 복제)
+   *
+   * @param primary PRIMARY_ARGS로 시작한 DB
+   * @param delaySeconds 의도적인 복제 지연 (복제 지연 시 primary 대체 확인용)
+   */
+  void replicateFrom(EmbeddedDatabase primary, int delaySeconds) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(jdbcUrl(), "root", "");
+        Statement statement = connection.createStatement()) {
+      statement.execute("STOP SLAVE");
+      statement.execute(
+          "CHANGE MASTER TO MASTER_HOST = '127.0.0.1', MASTER_PORT = "
+              + primary.port
+              + ", MASTER_USER = 'root', MASTER_PASSWORD = '', MASTER_USE_GTID = slave_pos,"
+              // 로컬 연결이라 SSL 생략 (MariaDB 11.4부터 기본값이 인증서 검증), 연결 실패 시 1초마다 재시도
+              + " MASTER_SSL = 0, MASTER_CONNECT_RETRY = 1, MASTER_DELAY = "
+              + delaySeconds);
+      statement.execute("START SLAVE");
+    }
+  }
+
+  /** primary의 현재 binlog 위치까지 복제될 때까지 대기 */
+  void awaitReplication(EmbeddedDatabase primary, Duration timeout) throws SQLException {
+    String position;
+    try (Connection connection = DriverManager.getConnection(primary.jdbcUrl(), "root", "");
+        Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery("SELECT @@gtid_binlog_pos")) {
+      result.next();
+      position = result.getString(1);
+    }
+    try (Connection connection = DriverManager.getConnection(jdbcUrl(), "root", "");
+        PreparedStatement statement =
+            connection.prepareStatement("SELECT MASTER_GTID_WAIT(?, ?)")) {
+      statement.setString(1, position);
+      statement.setLong(2, timeout.toSeconds());
+      try (ResultSet result = statement.executeQuery()) {
+        result.next();
+        if (result.getInt(1) != 0) {
+          throw new IllegalStateException("복제본이 " + timeout + " 안에 따라오지 못했습니다: " + position);
+        }
+      }
+    }
+  }
+
+  File dataDir() {
+    return db.getConfiguration().getDataDir();
+  }
+
+  @Override
+  public void close() throws ManagedProcessException {
+    db.stop();
+  }
+}
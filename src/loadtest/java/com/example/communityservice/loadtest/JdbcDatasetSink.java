@@ -0,0 +1,205 @@
+package com.example.communityservice.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 직접 적재 <br>
+ * - 테이블마다 전용 커넥션/스레드에서 배치 INSERT (rewriteBatchedStatements → multi-row INSERT) <br>
+ * - 테이블별로 대기 중인 배치 수를 제한 → 생성이 적재보다 빨라도 메모리가 늘지 않음 <br>
+ * - 적재 중에는 FK/unique 검사를 끔 (생성기가 ID와 (사용자, 게시글) 조합의 유일성을 보장)
+ */
+@Slf4j
+class JdbcDatasetSink implements DatasetSink {
+
+  private static final int MAX_PENDING_BATCHES = 4;
+
+  private final String url;
+  private final String username;
+  private final String password;
+  private final int batchSize;
+  private final Map<Table, TableWriter> writers = new EnumMap<>(Table.class);
+  private final AtomicReference<Exception> failure = new AtomicReference<>();
+  private final AtomicLong insertedRows = new AtomicLong();
+
+  /**
+   * @param url JDBC URL (rewriteBatchedStatements 등은 자동으로 추가)
+   * @param batchSize INSERT 한 번에 보낼 행 수
+   */
+  JdbcDatasetSink(String url, String username, String password, int batchSize) {
+    this.url = withBulkOptions(url);
+    this.username = username;
+    this.password = password;
+    this.batchSize = batchSize;
+  }
+
+  /** 테이블 행 수 (적재 생략 여부 판단용) */
+  static long count(String url, String username, String password, Table table) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url, username, password);
+        Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM " + table.tableName)) {
+      result.next();
+      return result.getLong(1);
+    }
+  }
+
+  /** 생성 대상 테이블 비우기 (첨부파일은 게시글을 참조하므로 함께 비움) */
+  static void truncate(String url, String username, String password) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url, username, password);
+        Statement statement = connection.createStatement()) {
+      statement.execute("SET foreign_key_checks = 0");
+      statement.execute("TRUNCATE TABLE post_attachments");
+      for (Table table : Table.values()) {
+        statement.execute("TRUNCATE TABLE " + table.tableName);
+      }
+      statement.execute("SET foreign_key_checks = 1");
+    }
+  }
+
+  /** 지금까지 DB에 반영된 행 수 */
+  long insertedRows() {
+    return insertedRows.get();
+  }
+
+  @Override
+  public void row(Table table, Object... values) throws Exception {
+    Exception error = failure.get();
+    if (error != null) {
+      throw error;
+    }
+    TableWriter writer = writers.get(table);
+    if (writer == null) {
+      writer = new TableWriter(table);
+      writers.put(table, writer);
+    }
+    writer.add(values);
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (TableWriter writer : writers.values()) {
+      writer.flush();
+    }
+    for (TableWriter writer : writers.values()) {
+      writer.close();
+    }
+    Exception error = failure.get();
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  private static String withBulkOptions(String url) {
+    String options = "rewriteBatchedStatements=true&useServerPrepStmts=false&useUnicode=true";
+    return url + (url.contains("?") ? "&" : "?") + options;
+  }
+
+  /** 테이블 하나의 배치 버퍼 + 전용 적재 스레드 */
+  private class TableWriter {
+    private final Table table;
+    private final Connection connection;
+    private final PreparedStatement insert;
+    private final ExecutorService executor;
+    private final Semaphore pending = new Semaphore(MAX_PENDING_BATCHES);
+    private List<Object[]> buffer;
+
+    TableWriter(Table table) throws SQLException {
+      this.table = table;
+      this.connection = DriverManager.getConnection(url, username, password);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("SET foreign_key_checks = 0");
+        statement.execute("SET unique_checks = 0");
+      }
+      connection.setAutoCommit(false);
+      String placeholders = String.join(", ", table.columns.stream().map(c -> "?").toList());
+      this.insert =
+          connection.prepareStatement(
+              "INSERT INTO "
+                  + table.tableName
+                  + " ("
+                  + String.join(", ", table.columns)
+                  + ") VALUES ("
+                  + placeholders
+                  + ")");
+      this.executor =
+          Executors.newSingleThreadExecutor(
+              runnable ->
+                  Thread.ofPlatform().name("dataset-" + table.tableName).unstarted(runnable));
+      this.buffer = new ArrayList<>(batchSize);
+    }
+
+    void add(Object[] values) throws InterruptedException {
+      buffer.add(values);
+      if (buffer.size() >= batchSize) {
+        flush();
+      }
+    }
+
+    void flush() throws InterruptedException {
+      if (buffer.isEmpty()) {
+        return;
+      }
+      List<Object[]> batch = buffer;
+      buffer = new ArrayList<>(batchSize);
+      pending.acquire(); // 대기 중인 배치가 많으면 생성 스레드를 멈춤
+      executor.execute(
+          () -> {
+            try {
+              if (failure.get() == null) {
+                write(batch);
+              }
+            } catch (Exception e) {
+              failure.compareAndSet(null, e);
+            } finally {
+              pending.release();
+            }
+          });
+    }
+
+    private void write(List<Object[]> batch) throws SQLException {
+      for (Object[] values : batch) {
+        for (int i = 0; i < values.length; i++) {
+          Object value = values[i];
+          insert.setObject(
+              i + 1, value instanceof LocalDateTime time ? Timestamp.valueOf(time) : value);
+        }
+        insert.addBatch();
+      }
+      insert.executeBatch();
+      connection.commit();
+      insertedRows.addAndGet(batch.size());
+    }
+
+    void close() throws Exception {
+      executor.shutdown();
+      if (!executor.awaitTermination(1, TimeUnit.HOURS)) {
+        throw new IllegalStateException(table.tableName + " 적재가 끝나지 않았습니다.");
+      }
+      try (connection;
+          insert;
+          Statement statement = connection.createStatement()) {
+        statement.execute("SET foreign_key_checks = 1");
+        statement.execute("SET unique_checks = 1");
+      }
+      log.debug("{} 적재 종료", table.tableName);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.communityservice.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * 합성 한국어 텍스트 (술 커뮤니티 게시글/댓글 느낌) <br>
+ * - 문장 템플릿 + 단어 목록, 받침 유무에 맞춰 조사(은/는, 이/가, 을/를) 선택 <br>
+ * - 길이는 로그정규분포 (대부분 짧고 가끔 아주 긴 글) <br>
+ * - 난수만 주어지면 같은 텍스트 (seed 고정 시 재현 가능)
+ */
+final class KoreanText {
+
+  private static final String[] DRINKS = {
+    "와인", "레드와인", "화이트와인", "샴페인", "위스키", "싱글몰트", "버번", "하이볼", "막걸리", "소주", "맥주", "수제맥주", "사케",
+    "전통주", "약주", "증류주", "칵테일", "진", "럼", "데킬라"
+  };
+  private static final String[] THINGS = {
+    "안주", "가격", "향", "바디감", "산미", "여운", "빈티지", "병", "잔", "디캔터", "라벨", "마트", "편의점", "주류샵", "시음회",
+    "페어링", "치즈", "회", "삼겹살", "파스타", "선물", "모임", "캠핑", "주말", "할인", "재고", "면세점", "후기"
+  };
+  private static final String[] ADJECTIVES = {
+    "부드러운", "깔끔한", "묵직한", "달콤한", "상큼한", "스모키한", "가성비 좋은", "비싼", "향긋한", "독특한", "무난한", "진한", "가벼운",
+    "새로 나온", "한정판"
+  };
+  private static final String[] SENTENCES = {
+    "{D}{은} 생각보다 {A} 편이에요.",
+    "어제 {T}에서 {D}{을} 샀는데 {A} 맛이 나더라고요.",
+    "{D}{와} 어울리는 {T} 추천 부탁드립니다.",
+    "요즘 {T} 때문에 {D}{을} 자주 마시게 되네요.",
+    "{A} {D}{을} 찾고 있는데 어디서 사야 할까요?",
+    "{T}{이} 좋아서 재구매 의사 있습니다.",
+    "{D} 입문자라면 {A} 걸로 시작해 보세요.",
+    "개인적으로 {T}{은} 조금 아쉬웠어요.",
+    "{T} 기준으로 보면 이 정도면 괜찮은 것 같아요.",
+    "다음 {T}에는 {A} {D}{을} 준비해 보려고요.",
+    "혹시 {D} 보관은 어떻게 하시나요?",
+    "{D}{은} 역시 {T}{와} 함께 먹어야 제맛이죠."
+  };
+  private static final String[] TITLE_SUFFIXES = {
+    " 추천해주세요", " 후기", " 질문있어요", " 가격 정보 공유합니다", " 마셔봤습니다", " 어떤가요?", " 비교", " 입문 팁", ""
+  };
+  private static final String[] REPLIES = {
+    "좋은 정보 감사합니다!", "저도 궁금했는데 도움이 됐어요.", "동의합니다 ㅎㅎ", "오 다음에 꼭 마셔볼게요.", "가격이 많이 올랐네요.",
+    "저는 조금 다르게 느꼈어요.", "어디서 사셨나요?", "맞아요 그거 진짜 맛있어요.", "추천 감사합니다.", "ㅋㅋㅋ 공감합니다"
+  };
+
+  private KoreanText() {}
+
+  /** 게시글 제목 (10~40자 정도) */
+  static String title(SplittableRandom random) {
+    StringBuilder title = new StringBuilder();
+    if (random.nextInt(3) == 0) {
+      title.append(pick(random, ADJECTIVES)).append(' ');
+    }
+    title.append(pick(random, DRINKS));
+    if (random.nextBoolean()) {
+      title.append(' ').append(pick(random, THINGS));
+    }
+    return title.append(pick(random, TITLE_SUFFIXES)).toString();
+  }
+
+  /** 게시글 본문 (중앙값 약 300자, 문단 구분 포함) */
+  static String content(SplittableRandom random) {
+    return paragraphs(random, logNormalLength(random, 300, 0.8, 20, 5_000));
+  }
+
+  /** 댓글 (중앙값 약 40자, 최대 1000자 = 댓글 길이 제한) */
+  static String comment(SplittableRandom random) {
+    int length = logNormalLength(random, 40, 0.7, 2, 1_000);
+    if (length < 25) {
+      return pick(random, REPLIES);
+    }
+    String text = paragraphs(random, length);
+    return text.length() > 1_000 ? text.substring(0, 1_000) : text;
+  }
+
+  /** 태그 이름 (순위 0이 가장 많이 쓰이는 태그) */
+  static String tag(int rank) {
+    String word =
+        rank < DRINKS.length ? DRINKS[rank] : THINGS[(rank - DRINKS.length) % THINGS.length];
+    int round = rank < DRINKS.length ? 0 : (rank - DRINKS.length) / THINGS.length;
+    return round == 0 ? word : word + round;
+  }
+
+  private static String paragraphs(SplittableRandom random, int targetLength) {
+    StringBuilder text = new StringBuilder(targetLength + 64);
+    int sentencesInParagraph = 0;
+    while (text.length() < targetLength) {
+      if (sentencesInParagraph >= 3 + random.nextInt(3)) {
+        text.append("\n\n");
+        sentencesInParagraph = 0;
+      } else if (!text.isEmpty()) {
+        text.append(' ');
+      }
+      appendSentence(random, text);
+      sentencesInParagraph++;
+    }
+    return text.toString();
+  }
+
+  private static void appendSentence(SplittableRandom random, StringBuilder text) {
+    String template = pick(random, SENTENCES);
+    int i = 0;
+    while (i < template.length()) {
+      char c = template.charAt(i);
+      if (c != '{') {
+        text.append(c);
+        i++;
+        continue;
+      }
+      int end = template.indexOf('}', i);
+      String key = template.substring(i + 1, end);
+      switch (key) {
+        case "D" -> text.append(pick(random, DRINKS));
+        case "T" -> text.append(pick(random, THINGS));
+        case "A" -> text.append(pick(random, ADJECTIVES));
+        case "은" -> text.append(hasFinalConsonant(text) ? "은" : "는");
+        case "이" -> text.append(hasFinalConsonant(text) ? "이" : "가");
+        case "을" -> text.append(hasFinalConsonant(text) ? "을" : "를");
+        case "와" -> text.append(hasFinalConsonant(text) ? "과" : "와");
+        default -> throw new IllegalStateException("알 수 없는 템플릿 키: " + key);
+      }
+      i = end + 1;
+    }
+  }
+
+  // 마지막 글자가 한글이고 받침이 있으면 true
+  private static boolean hasFinalConsonant(StringBuilder text) {
+    char last = text.charAt(text.length() - 1);
+    return last >= '가' && last <= '힣' && (last - '가') % 28 != 0;
+  }
+
+  private static int logNormalLength(
+      SplittableRandom random, double median, double sigma, int min, int max) {
+    double length = median * Math.exp(sigma * random.nextGaussian());
+    return (int) Math.max(min, Math.min(max, length));
+  }
+
+  private static String pick(SplittableRandom random, String[] words) {
+    return words[random.nextInt(words.length)];
+  }
+}
@@ -0,0 +1,182 @@
+package com.example.communityservice.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * API별 응답 시간 집계 (HdrHistogram, 마이크로초 단위) <br>
+ * - 부하 스레드마다 하나씩 사용하고 마지막에 합침 (기록 시 스레드 간 경합 없음) <br>
+ * - 2xx가 아닌 응답/예외는 오류로 따로 세고, X-Sql-Stats 헤더의 SQL 실행 횟수도 함께 집계
+ */
+class LatencyReport {
+
+  // 최대 60초까지 유효숫자 3자리로 기록
+  private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+  private final Map<String, Endpoint> endpoints = new TreeMap<>();
+
+  /** API 한 종류의 집계 */
+  private static class Endpoint {
+    private final Histogram histogram = new Histogram(MAX_MICROS, 3);
+    private long errors;
+    private long sqlStatements;
+    private long sqlSamples;
+  }
+
+  /** API별 결과 (JSON 출력용) */
+  record Row(
+      String endpoint,
+      long count,
+      long errors,
+      double throughputPerSecond,
+      double p50Ms,
+      double p90Ms,
+      double p99Ms,
+      double p999Ms,
+      double maxMs,
+      Double avgSqlStatements) {}
+
+  /**
+   * 요청 1건 기록
+   *
+   * @param endpoint API 이름
+   * @param micros 응답 시간 (open loop면 예정 시각부터 잰 시간)
+   * @param success 2xx 응답 여부
+   * @param sqlStatements X-Sql-Stats의 SQL 실행 횟수 (헤더가 없으면 -1)
+   */
+  void record(String endpoint, long micros, boolean success, int sqlStatements) {
+    Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+    stats.histogram.recordValue(Math.min(Math.max(micros, 0), MAX_MICROS));
+    if (!success) {
+      stats.errors++;
+    }
+    if (sqlStatements >= 0) {
+      stats.sqlStatements += sqlStatements;
+      stats.sqlSamples++;
+    }
+  }
+
+  /** 다른 스레드의 집계를 합침 */
+  void merge(LatencyReport other) {
+    other.endpoints.forEach(
+        (name, source) -> {
+          Endpoint target = endpoints.computeIfAbsent(name, key -> new Endpoint());
+          target.histogram.add(source.histogram);
+          target.errors += source.errors;
+          target.sqlStatements += source.sqlStatements;
+          target.sqlSamples += source.sqlSamples;
+        });
+  }
+
+  /**
+   * API별 결과 + 전체 합계 (마지막 행)
+   *
+   * @param seconds 측정 시간 (처리량 계산용)
+   */
+  List<Row> rows(double seconds) {
+    List<Row> rows = new ArrayList<>();
+    Endpoint total = new Endpoint();
+    endpoints.forEach(
+        (name, stats) -> {
+          rows.add(toRow(name, stats, seconds));
+          total.histogram.add(stats.histogram);
+          total.errors += stats.errors;
+          total.sqlStatements += stats.sqlStatements;
+          total.sqlSamples += stats.sqlSamples;
+        });
+    rows.add(toRow("TOTAL", total, seconds));
+    return rows;
+  }
+
+  /** 콘솔 표 출력 */
+  void print(double seconds) {
+    System.out.printf(
+        "%n%-36s %9s %7s %9s %9s %9s %9s %9s %9s %6s%n",
+        "endpoint",
+        "count",
+        "errors",
+        "req/s",
+        "p50(ms)",
+        "p90(ms)",
+        "p99(ms)",
+        "p999(ms)",
+        "max(ms)",
+        "sql");
+    for (Row row : rows(seconds)) {
+      System.out.printf(
+          "%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %6s%n",
+          row.endpoint(),
+          row.count(),
+          row.errors(),
+          row.throughputPerSecond(),
+          row.p50Ms(),
+          row.p90Ms(),
+          row.p99Ms(),
+          row.p999Ms(),
+          row.maxMs(),
+          row.avgSqlStatements() == null ? "-" : String.format("%.1f", row.avgSqlStatements()));
+    }
+  }
+
+  /**
+   * 결과를 JSON 파일로 저장 (실행 설정 포함, 커밋 간 비교용)
+   *
+   * @param file 저장 경로
+   * @param config 실행 설정
+   * @param seconds 측정 시간
+   */
+  void write(Path file, LoadTestConfig config, double seconds) throws IOException {
+    Map<String, Object> result = new LinkedHashMap<>();
+    Map<String, Object> settings = new LinkedHashMap<>();
+    settings.put("dataset", config.dataset());
+    settings.put("threads", config.threads());
+    settings.put("rate", config.rate());
+    settings.put("warmupSeconds", config.warmupSeconds());
+    settings.put("durationSeconds", config.durationSeconds());
+    settings.put("authLatencyMs", config.authLatencyMs());
+    settings.put("mix", config.mix());
+    if (config.downloads()) {
+      settings.put("downloadFiles", config.downloadFiles());
+      settings.put("downloadSizeKb", config.downloadSizeKb());
+    }
+    result.put("config", settings);
+    result.put("measuredSeconds", seconds);
+    result.put("endpoints", rows(seconds));
+
+    if (file.getParent() != null) {
+      Files.createDirectories(file.getParent());
+    }
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), result);
+  }
+
+  private static Row toRow(String name, Endpoint stats, double seconds) {
+    Histogram histogram = stats.histogram;
+    return new Row(
+        name,
+        histogram.getTotalCount(),
+        stats.errors,
+        histogram.getTotalCount() / seconds,
+        millis(histogram.getValueAtPercentile(50)),
+        millis(histogram.getValueAtPercentile(90)),
+        millis(histogram.getValueAtPercentile(99)),
+        millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()),
+        stats.sqlSamples == 0 ? null : (double) stats.sqlStatements / stats.sqlSamples);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+}
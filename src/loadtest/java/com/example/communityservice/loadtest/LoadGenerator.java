@@ -0,0 +1,138 @@
+package com.example.communityservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 발생기 <br>
+ * - rate = 0: closed loop (각 스레드가 응답을 받자마자 다음 요청) <br>
+ * - rate &gt; 0: open loop (스레드마다 고정 간격으로 예정 시각을 정하고, 응답 시간은 예정 시각부터 측정 → 서버가 밀려서 늦게 보낸 요청의 대기 시간도
+ * 응답 시간에 포함, coordinated omission 방지) <br>
+ * - 워밍업 동안의 요청은 집계하지 않음
+ */
+@Slf4j
+class LoadGenerator {
+
+  private static final String SQL_STATS_HEADER = "X-Sql-Stats";
+
+  private final LoadTestConfig config;
+  private final Workload workload;
+  private final HttpClient client;
+
+  LoadGenerator(LoadTestConfig config, Workload workload) {
+    this.config = config;
+    this.workload = workload;
+    this.client =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+  }
+
+  /**
+   * 워밍업 + 측정 시간 동안 부하 실행
+   *
+   * @return 측정 구간의 집계
+   */
+  LatencyReport run() throws InterruptedException {
+    long now = System.nanoTime();
+    long measureFrom = now + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+    long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+    long interval =
+        config.rate() > 0 ? TimeUnit.SECONDS.toNanos(1) * config.threads() / config.rate() : 0;
+
+    log.info(
+        "부하 시작: 스레드 {}개, {}, 워밍업 {}초, 측정 {}초",
+        config.threads(),
+        config.rate() > 0 ? "초당 " + config.rate() + "건" : "closed loop",
+        config.warmupSeconds(),
+        config.durationSeconds());
+
+    List<LatencyReport> reports = new ArrayList<>();
+    List<Thread> workers = new ArrayList<>();
+    for (int i = 0; i < config.threads(); i++) {
+      LatencyReport report = new LatencyReport();
+      reports.add(report);
+      SplittableRandom random = new SplittableRandom(1000L + i);
+      // 스레드마다 시작 시각을 간격 안에서 나눠서 요청이 한 순간에 몰리지 않게 함
+      long firstStart = now + interval * i / config.threads();
+      workers.add(
+          Thread.ofPlatform()
+              .name("loadtest-" + i)
+              .start(() -> work(random, report, firstStart, interval, measureFrom, measureUntil)));
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+
+    LatencyReport merged = new LatencyReport();
+    reports.forEach(merged::merge);
+    return merged;
+  }
+
+  private void work(
+      SplittableRandom random,
+      LatencyReport report,
+      long firstStart,
+      long interval,
+      long measureFrom,
+      long measureUntil) {
+    long scheduled = firstStart;
+    while (true) {
+      long start;
+      if (interval > 0) {
+        LockSupport.parkNanos(scheduled - System.nanoTime()); // 이미 지났으면 바로 실행
+        start = scheduled;
+        scheduled += interval;
+      } else {
+        start = System.nanoTime();
+      }
+      if (start >= measureUntil) {
+        return;
+      }
+
+      Workload.Call call = workload.next(random);
+      boolean success;
+      int sqlStatements = -1;
+      try {
+        HttpResponse<Void> response = client.send(call.request(), BodyHandlers.discarding());
+        success = response.statusCode() / 100 == 2;
+        sqlStatements =
+            response
+                .headers()
+                .firstValue(SQL_STATS_HEADER)
+                .map(LoadGenerator::statements)
+                .orElse(-1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        success = false;
+      }
+      long elapsed = System.nanoTime() - start;
+      if (start >= measureFrom) {
+        report.record(
+            call.endpoint(), TimeUnit.NANOSECONDS.toMicros(elapsed), success, sqlStatements);
+      }
+    }
+  }
+
+  // 예: statements=3;time=12ms;rows=20 → 3
+  private static int statements(String header) {
+    for (String part : header.split(";")) {
+      if (part.startsWith("statements=")) {
+        return Integer.parseInt(part.substring("statements=".length()));
+      }
+    }
+    return -1;
+  }
+}
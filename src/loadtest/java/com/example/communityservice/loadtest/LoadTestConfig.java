@@ -0,0 +1,99 @@
+package com.example.communityservice.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, Gradle에서는 -Ploadtest.*로 전달)
+ *
+ * @param workDir 내장 DB 데이터/업로드 파일 디렉토리 (데이터 유지 시 다음 실행에서 적재 생략)
+ * @param report 결과 JSON 파일 경로
+ * @param dataset 적재할 데이터셋 (loadtest.posts 등, DatasetSpec 참고)
+ * @param threads 부하 발생 스레드 수
+ * @param rate 초당 목표 요청 수 (0이면 각 스레드가 응답 즉시 다음 요청 = closed loop)
+ * @param warmupSeconds 측정에서 제외할 워밍업 시간
+ * @param durationSeconds 측정 시간
+ * @param authLatencyMs 인증 서버 스텁의 응답 지연 (실제 인증 서비스 왕복 시간 흉내)
+ * @param replica 내장 DB를 하나 더 띄워 복제본으로 연결하고 읽기 전용 트랜잭션을 복제본으로 라우팅
+ * @param replicaDelaySeconds 복제본의 의도적인 복제 지연 (지연 시 primary 대체 확인용)
+ * @param downloadFiles 다운로드 비교(download/static)용으로 미리 올려 둘 첨부파일 수
+ * @param downloadSizeKb 다운로드 비교용 첨부파일 하나의 크기
+ * @param mix 요청 종류별 비중
+ */
+record LoadTestConfig(
+    Path workDir,
+    Path report,
+    DatasetSpec dataset,
+    int threads,
+    int rate,
+    int warmupSeconds,
+    int durationSeconds,
+    int authLatencyMs,
+    boolean replica,
+    int replicaDelaySeconds,
+    int downloadFiles,
+    int downloadSizeKb,
+    Map<Operation, Integer> mix) {
+
+  /** 요청 종류 */
+  enum Operation {
+    LIST,
+    DETAIL,
+    SEARCH,
+    LIKE,
+    COMMENT,
+    UPLOAD,
+    // 첨부파일 다운로드 API (ETag/Range/sendfile)
+    DOWNLOAD,
+    // 같은 파일을 /uploads/** 정적 리소스 핸들러로 조회
+    STATIC
+  }
+
+  /** 혼합 비중에 첨부파일 다운로드(download/static)가 있는지 (있으면 비교용 파일을 미리 업로드) */
+  boolean downloads() {
+    return mix.containsKey(Operation.DOWNLOAD) || mix.containsKey(Operation.STATIC);
+  }
+
+  static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+        Path.of(System.getProperty("loadtest.work-dir", "build/loadtest")),
+        Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/results.json")),
+        DatasetSpec.fromSystemProperties("loadtest."),
+        intProperty("loadtest.threads", 32),
+        intProperty("loadtest.rate", 0),
+        intProperty("loadtest.warmup-seconds", 30),
+        intProperty("loadtest.duration-seconds", 120),
+        intProperty("loadtest.auth-latency-ms", 5),
+        Boolean.parseBoolean(System.getProperty("loadtest.replica", "false")),
+        intProperty("loadtest.replica-delay-seconds", 0),
+        intProperty("loadtest.download-files", 20),
+        intProperty("loadtest.download-size-kb", 256),
+        parseMix(
+            System.getProperty(
+                "loadtest.mix", "list:50,detail:30,search:8,like:5,comment:5,upload:2")));
+  }
+
+  private static int intProperty(String name, int defaultValue) {
+    return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+  }
+
+  // 예: list:50,detail:30,search:8 → 지정하지 않은 종류는 실행하지 않음
+  private static Map<Operation, Integer> parseMix(String value) {
+    Map<Operation, Integer> mix = new LinkedHashMap<>();
+    for (String entry : value.split(",")) {
+      String[] parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("loadtest.mix 형식 오류: " + entry);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+      }
+    }
+    if (mix.isEmpty()) {
+      throw new IllegalArgumentException("loadtest.mix에 실행할 요청이 없습니다: " + value);
+    }
+    return mix;
+  }
+}
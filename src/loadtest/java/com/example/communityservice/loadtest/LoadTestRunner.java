@@ -0,0 +1,129 @@
+package com.example.communityservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.communityservice.CommunityServiceApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트 실행 (./gradlew loadTest) <br>
+ * 1. 내장 MariaDB(loadtest.replica=true면 복제본 포함), 인증 서버 스텁 시작 <br>
+ * 2. loadtest 프로필로 애플리케이션 시작 (빈 포트, 스키마는 ddl-auto로 생성) <br>
+ * 3. 데이터 적재 (이미 있으면 생략), 복제본이 있으면 따라올 때까지 대기 <br>
+ * 3-1. 혼합 비중에 download/static이 있으면 비교용 첨부파일 업로드 <br>
+ * 4. 혼합 부하 실행 후 API별 처리량/p50/p99/p999 출력 및 JSON 저장
+ */
+@Slf4j
+public class LoadTestRunner {
+
+  // 적재한 익명 작성자들의 비밀번호 (익명 댓글 부하에서도 사용)
+  static final String ANONYMOUS_PASSWORD = "loadtest1234";
+
+  private static final int BATCH_SIZE = 2_000;
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    Files.createDirectories(config.workDir());
+
+    // 복제본을 쓸 때는 binlog가 처음부터 있어야 하므로 primary 데이터 디렉토리를 따로 사용
+    try (EmbeddedDatabase database =
+            config.replica()
+                ? EmbeddedDatabase.start(
+                    config.workDir(), "mariadb-primary", EmbeddedDatabase.PRIMARY_ARGS)
+                : EmbeddedDatabase.start(config.workDir(), "mariadb", List.of());
+        EmbeddedDatabase replica = config.replica() ? startReplica(config, database) : null;
+        StubAuthServer authServer = StubAuthServer.start(config.authLatencyMs());
+        ConfigurableApplicationContext application =
+            startApplication(config, database, replica, authServer)) {
+
+      DatasetGenerator generator = new DatasetGenerator(config.dataset());
+      seedIfEmpty(config, database, generator, application.getBean(PasswordEncoder.class));
+      if (replica != null) {
+        log.info("복제본 동기화 대기");
+        replica.awaitReplication(database, Duration.ofHours(1));
+      }
+
+      int port =
+          application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+      String baseUrl = "http://localhost:" + port;
+      List<Workload.StoredFile> downloadFiles =
+          uploadDownloadFiles(config, baseUrl, application.getBean(ObjectMapper.class));
+      Workload workload = new Workload(config, baseUrl, generator.popularity(), downloadFiles);
+      LatencyReport report = new LoadGenerator(config, workload).run();
+
+      report.print(config.durationSeconds());
+      report.write(config.report(), config, config.durationSeconds());
+      log.info("결과 저장: {}", config.report().toAbsolutePath());
+    }
+  }
+
+  // 설정한 수 이상의 게시글이 이미 있으면 기존 데이터 사용 (같은 seed면 같은 데이터)
+  private static void seedIfEmpty(
+      LoadTestConfig config,
+      EmbeddedDatabase database,
+      DatasetGenerator generator,
+      PasswordEncoder passwordEncoder)
+      throws Exception {
+    String url = database.jdbcUrl();
+    if (JdbcDatasetSink.count(url, "root", "", DatasetSink.Table.POSTS)
+        >= config.dataset().posts()) {
+      log.info("기존 데이터 사용, 다시 적재하려면 {} 삭제", config.workDir().toAbsolutePath());
+      return;
+    }
+    JdbcDatasetSink.truncate(url, "root", "");
+    try (JdbcDatasetSink sink = new JdbcDatasetSink(url, "root", "", BATCH_SIZE)) {
+      generator.generate(sink, passwordEncoder.encode(ANONYMOUS_PASSWORD));
+    }
+  }
+
+  // 다운로드 API와 /uploads/** 핸들러가 같은 파일을 받도록 실행마다 새로 업로드
+  private static List<Workload.StoredFile> uploadDownloadFiles(
+      LoadTestConfig config, String baseUrl, ObjectMapper objectMapper) throws Exception {
+    if (!config.downloads()) {
+      return List.of();
+    }
+    log.info("다운로드 비교용 파일 업로드: {}KB × {}개", config.downloadSizeKb(), config.downloadFiles());
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    return Workload.uploadDownloadFiles(
+        client, objectMapper, baseUrl, config.downloadFiles(), config.downloadSizeKb() * 1024);
+  }
+
+  private static EmbeddedDatabase startReplica(LoadTestConfig config, EmbeddedDatabase primary)
+      throws Exception {
+    EmbeddedDatabase replica =
+        EmbeddedDatabase.start(config.workDir(), "mariadb-replica", EmbeddedDatabase.REPLICA_ARGS);
+    replica.replicateFrom(primary, config.replicaDelaySeconds());
+    return replica;
+  }
+
+  // 실행 인자는 application.properties보다 우선 적용
+  private static ConfigurableApplicationContext startApplication(
+      LoadTestConfig config,
+      EmbeddedDatabase database,
+      EmbeddedDatabase replica,
+      StubAuthServer authServer) {
+    List<String> args = new ArrayList<>();
+    args.add("--spring.profiles.active=loadtest");
+    args.add("--spring.datasource.url=" + database.jdbcUrl());
+    args.add("--spring.datasource.username=root");
+    args.add("--spring.datasource.password=");
+    args.add("--auth.service.url=" + authServer.baseUrl());
+    args.add("--loadtest.work-dir=" + config.workDir().toAbsolutePath());
+    if (replica != null) {
+      args.add("--datasource.replica.enabled=true");
+      args.add("--datasource.replica.urls=" + replica.jdbcUrl());
+    }
+    return new SpringApplicationBuilder(CommunityServiceApplication.class)
+        .run(args.toArray(String[]::new));
+  }
+}
@@ -0,0 +1,47 @@
+package com.example.communityservice.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * 게시글 인기 순위 (적재기와 부하 발생기가 같은 인기 게시글을 사용) <br>
+ * - 순위는 게시글 ID를 고정 seed로 섞어서 배정 (최신 글만 인기 있는 편향 방지) <br>
+ * - 순위는 Zipf 분포로 추출 → 댓글/좋아요/상세 조회가 소수의 인기 게시글에 집중
+ */
+class PostPopularity {
+
+  // 부하 발생기의 조회 대상 추출용 지수
+  private static final double EXPONENT = 1.0;
+
+  private final int[] postByRank;
+  private final int[] rankByPost;
+  private final ZipfSampler sampler;
+
+  PostPopularity(int posts, long seed) {
+    postByRank = new int[posts];
+    rankByPost = new int[posts + 1];
+    for (int i = 0; i < posts; i++) {
+      postByRank[i] = i + 1;
+    }
+    SplittableRandom random = new SplittableRandom(seed);
+    for (int i = posts - 1; i > 0; i--) { // Fisher-Yates
+      int j = random.nextInt(i + 1);
+      int swap = postByRank[i];
+      postByRank[i] = postByRank[j];
+      postByRank[j] = swap;
+    }
+    for (int rank = 0; rank < posts; rank++) {
+      rankByPost[postByRank[rank]] = rank;
+    }
+    sampler = new ZipfSampler(posts, EXPONENT);
+  }
+
+  /** 인기도에 비례해서 게시글 ID 추출 */
+  long next(SplittableRandom random) {
+    return postByRank[sampler.next(random)];
+  }
+
+  /** 게시글의 인기 순위 (0이 가장 인기) */
+  int rank(long postId) {
+    return rankByPost[(int) postId];
+  }
+}
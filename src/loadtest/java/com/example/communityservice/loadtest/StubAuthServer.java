@@ -0,0 +1,99 @@
+package com.example.communityservice.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Auth Service 대신 응답하는 스텁 서버 (GET /api/v1/auth/me) <br>
+ * - "Bearer user-{id}" 토큰이면 해당 ID의 회원 정보를 반환, 그 외에는 인증 실패 <br>
+ * - 설정한 지연 시간만큼 기다린 뒤 응답 (실제 인증 서비스 왕복 시간 흉내)
+ */
+class StubAuthServer implements AutoCloseable {
+
+  static final String TOKEN_PREFIX = "Bearer user-";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private StubAuthServer(HttpServer server, ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /**
+   * 빈 포트로 스텁 서버 시작
+   *
+   * @param latencyMs 응답 지연 (밀리초)
+   */
+  static StubAuthServer start(int latencyMs) throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 512);
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    server.createContext("/auth/api/v1/auth/me", exchange -> handle(exchange, latencyMs));
+    server.setExecutor(executor);
+    server.start();
+    return new StubAuthServer(server, executor);
+  }
+
+  /** 테스트 사용자의 Authorization 헤더 값 */
+  static String authorization(long userId) {
+    return TOKEN_PREFIX + userId;
+  }
+
+  /** 애플리케이션의 auth.service.url 값 */
+  String baseUrl() {
+    return "http://localhost:" + server.getAddress().getPort() + "/auth";
+  }
+
+  private static void handle(HttpExchange exchange, int latencyMs) throws IOException {
+    try (exchange) {
+      if (latencyMs > 0) {
+        Thread.sleep(latencyMs);
+      }
+      byte[] body =
+          responseBody(exchange.getRequestHeaders().getFirst("Authorization"))
+              .getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream output = exchange.getResponseBody()) {
+        output.write(body);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static String responseBody(String authorization) {
+    Long userId = parseUserId(authorization);
+    if (userId == null) {
+      return "{\"result\":\"FAIL\",\"message\":\"유효하지 않은 토큰\",\"data\":null}";
+    }
+    return String.format(
+        "{\"result\":\"SUCCESS\",\"message\":\"사용자 정보 조회 성공\","
+            + "\"data\":{\"id\":%d,\"username\":\"회원%d\",\"email\":\"user%d@example.com\"}}",
+        userId, userId, userId);
+  }
+
+  private static Long parseUserId(String authorization) {
+    if (authorization == null || !authorization.startsWith(TOKEN_PREFIX)) {
+      return null;
+    }
+    try {
+      return Long.parseLong(authorization.substring(TOKEN_PREFIX.length()));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.close();
+  }
+}
@@ -0,0 +1,284 @@
+package com.example.communityservice.loadtest;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import com.example.communityservice.entity.PostCategory;
+import com.example.communityservice.loadtest.LoadTestConfig.Operation;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 혼합 부하의 요청 생성 (목록/상세/검색/좋아요/댓글/업로드/다운로드) <br>
+ * - 상세 조회/좋아요/댓글 대상은 인기 게시글 위주 (PostPopularity) <br>
+ * - 같은 사용자가 같은 게시글에 다시 좋아요하면 취소 요청으로 바꿔서 중복 좋아요 오류를 만들지 않음 <br>
+ * - 다운로드(download)와 /uploads/**(static)는 미리 올려 둔 같은 파일들을 받음 → 두 경로의 처리량 비교
+ */
+class Workload {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+  private static final String[] SORTS = {"createdAt", "createdAt", "createdAt", "views", "likes"};
+  private static final String BOUNDARY = "----loadtest-boundary";
+
+  private final LoadTestConfig config;
+  private final String baseUrl;
+  private final PostPopularity popularity;
+  private final ZipfSampler tags;
+  private final Operation[] weightedOperations;
+  private final byte[] image;
+  private final List<StoredFile> downloadFiles;
+  // 부하 중 좋아요한 (사용자, 게시글) 조합
+  private final Set<Long> liked = ConcurrentHashMap.newKeySet();
+  // 좋아요 사용자 ID 시작값: 적재 데이터 및 이전 실행(데이터 재사용 시)의 좋아요와 겹치지 않도록 실행마다 다른 범위
+  private final long likeUserOffset;
+
+  /** 보낼 요청과 결과를 집계할 API 이름 */
+  record Call(String endpoint, HttpRequest request) {}
+
+  /** 다운로드 비교용으로 올려 둔 첨부파일 */
+  record StoredFile(long attachmentId, String fileUrl) {}
+
+  Workload(
+      LoadTestConfig config,
+      String baseUrl,
+      PostPopularity popularity,
+      List<StoredFile> downloadFiles) {
+    this.config = config;
+    this.baseUrl = baseUrl;
+    this.popularity = popularity;
+    this.tags = new ZipfSampler(config.dataset().tags(), config.dataset().tagSkew());
+    this.weightedOperations =
+        config.mix().entrySet().stream()
+            .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+            .toArray(Operation[]::new);
+    this.image = createImage();
+    this.downloadFiles = downloadFiles;
+    this.likeUserOffset =
+        config.dataset().users() * (1L + System.currentTimeMillis() / 1000 % 100_000);
+  }
+
+  /** 설정한 비중에 따라 다음 요청 생성 */
+  Call next(SplittableRandom random) {
+    Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+    return switch (operation) {
+      case LIST -> list(random);
+      case DETAIL -> detail(random);
+      case SEARCH -> search(random);
+      case LIKE -> like(random);
+      case COMMENT -> comment(random);
+      case UPLOAD -> upload(random);
+      case DOWNLOAD -> download(random);
+      case STATIC -> staticFile(random);
+    };
+  }
+
+  // 대부분 첫 1~2페이지 (카테고리 × 정렬)
+  private Call list(SplittableRandom random) {
+    double pageRoll = random.nextDouble();
+    int page = pageRoll < 0.7 ? 0 : pageRoll < 0.9 ? 1 : random.nextInt(50);
+    String sort = SORTS[random.nextInt(SORTS.length)];
+    StringBuilder query = new StringBuilder("page=" + page + "&size=20&sort=" + sort);
+    if (random.nextDouble() >= 0.4) {
+      PostCategory[] categories = PostCategory.values();
+      query.append("&category=").append(categories[random.nextInt(categories.length)].name());
+    }
+    return new Call("GET /api/posts", get(random, "/api/posts?" + query).build());
+  }
+
+  // 절반은 로그인 사용자 (인증 서버 호출 + 좋아요 여부 조회), 조회수 증가 포함
+  private Call detail(SplittableRandom random) {
+    HttpRequest.Builder request = get(random, "/api/posts/" + popularity.next(random));
+    if (random.nextBoolean()) {
+      request.header("Authorization", StubAuthServer.authorization(randomUser(random)));
+    }
+    return new Call("GET /api/posts/{id}", request.build());
+  }
+
+  private Call search(SplittableRandom random) {
+    if (random.nextBoolean()) {
+      String tag = KoreanText.tag(tags.next(random));
+      return new Call(
+          "GET /api/posts?tag", get(random, "/api/posts?size=20&tag=" + encode(tag)).build());
+    }
+    String keyword = KoreanText.tag(random.nextInt(Math.min(20, config.dataset().tags())));
+    return new Call(
+        "GET /api/posts?search",
+        get(random, "/api/posts?size=20&search=" + encode(keyword)).build());
+  }
+
+  private Call like(SplittableRandom random) {
+    long user = randomUser(random);
+    long userId = likeUserOffset + user;
+    long postId = popularity.next(random);
+    long key = user * (config.dataset().posts() + 1L) + postId;
+    // 이미 좋아요한 조합이면 취소
+    boolean remove = !liked.add(key);
+    if (remove) {
+      liked.remove(key);
+    }
+    HttpRequest.Builder request =
+        request(random, "/api/posts/" + postId + "/likes")
+            .header("Authorization", StubAuthServer.authorization(userId));
+    return remove
+        ? new Call("DELETE /api/posts/{id}/likes", request.DELETE().build())
+        : new Call("POST /api/posts/{id}/likes", request.POST(BodyPublishers.noBody()).build());
+  }
+
+  // 80%는 회원, 20%는 익명 (비밀번호 BCrypt 비용 포함)
+  private Call comment(SplittableRandom random) {
+    long postId = popularity.next(random);
+    String body;
+    if (random.nextDouble() < 0.8) {
+      long userId = randomUser(random);
+      body =
+          String.format(
+              "{\"postId\":%d,\"content\":\"부하 테스트 댓글입니다\",\"authorId\":%d,"
+                  + "\"isAnonymous\":false,\"authorName\":\"회원%d\"}",
+              postId, userId, userId);
+    } else {
+      body =
+          String.format(
+              "{\"postId\":%d,\"content\":\"부하 테스트 익명 댓글입니다\",\"isAnonymous\":true,"
+                  + "\"anonymousEmail\":\"loadtest@example.com\",\"anonymousPassword\":\"%s\"}",
+              postId, LoadTestRunner.ANONYMOUS_PASSWORD);
+    }
+    return new Call(
+        "POST /api/comments",
+        request(random, "/api/comments")
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString(body))
+            .build());
+  }
+
+  // 작은 PNG 한 장 (저장 + 커밋 후 축소본 생성까지 포함)
+  private Call upload(SplittableRandom random) {
+    long postId = popularity.next(random);
+    return new Call(
+        "POST /api/posts/{id}/attachments",
+        request(random, "/api/posts/" + postId + "/attachments")
+            .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+            .POST(BodyPublishers.ofByteArray(multipart("loadtest.png", "image/png", image)))
+            .build());
+  }
+
+  // 전체 파일 (Range/조건부 요청 없음, sendfile-min-size 이상이면 sendfile 전송)
+  private Call download(SplittableRandom random) {
+    StoredFile file = downloadFiles.get(random.nextInt(downloadFiles.size()));
+    return new Call(
+        "GET /api/posts/attachments/{id}/download",
+        get(random, "/api/posts/attachments/" + file.attachmentId() + "/download").build());
+  }
+
+  private Call staticFile(SplittableRandom random) {
+    StoredFile file = downloadFiles.get(random.nextInt(downloadFiles.size()));
+    return new Call("GET /uploads/**", get(random, file.fileUrl()).build());
+  }
+
+  /**
+   * 다운로드 비교용 첨부파일 업로드 (게시글 1번, 파일마다 내용이 달라 중복 제거로 합쳐지지 않음)
+   *
+   * @return 업로드한 첨부파일 ID와 /uploads/** URL
+   */
+  static List<StoredFile> uploadDownloadFiles(
+      HttpClient client, ObjectMapper objectMapper, String baseUrl, int count, int sizeBytes)
+      throws IOException, InterruptedException {
+    SplittableRandom random = new SplittableRandom(7);
+    List<StoredFile> files = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      byte[] content = new byte[sizeBytes];
+      random.nextBytes(content);
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create(baseUrl + "/api/posts/1/attachments"))
+              .timeout(TIMEOUT)
+              .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+              .POST(
+                  BodyPublishers.ofByteArray(
+                      multipart("download-" + i + ".zip", "application/zip", content)))
+              .build();
+      HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException(
+            "다운로드 비교용 파일 업로드 실패: " + response.statusCode() + " " + response.body());
+      }
+      JsonNode attachment = objectMapper.readTree(response.body()).path("data").path(0);
+      files.add(
+          new StoredFile(
+              attachment.path("postAttachmentId").asLong(), attachment.path("fileUrl").asText()));
+    }
+    return files;
+  }
+
+  private static byte[] multipart(String filename, String contentType, byte[] content) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+    String header =
+        "--"
+            + BOUNDARY
+            + "\r\nContent-Disposition: form-data; name=\"files\"; filename=\""
+            + filename
+            + "\"\r\nContent-Type: "
+            + contentType
+            + "\r\n\r\n";
+    body.writeBytes(header.getBytes(StandardCharsets.UTF_8));
+    body.writeBytes(content);
+    body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    return body.toByteArray();
+  }
+
+  private long randomUser(SplittableRandom random) {
+    return 1 + random.nextInt(config.dataset().users());
+  }
+
+  private HttpRequest.Builder get(SplittableRandom random, String path) {
+    return request(random, path).GET();
+  }
+
+  // 클라이언트마다 다른 IP처럼 보이게 함 (게이트웨이 뒤 운영 환경처럼 익명 사용자 구분, read-your-writes 등)
+  private HttpRequest.Builder request(SplittableRandom random, String path) {
+    long client = randomUser(random);
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(TIMEOUT)
+        .header(
+            "X-Forwarded-For",
+            "10." + (client >> 16 & 0xFF) + "." + (client >> 8 & 0xFF) + "." + (client & 0xFF));
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+
+  private static byte[] createImage() {
+    BufferedImage image = new BufferedImage(320, 240, BufferedImage.TYPE_INT_RGB);
+    SplittableRandom random = new SplittableRandom(1);
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        image.setRGB(x, y, (x * 255 / image.getWidth()) << 16 | random.nextInt(64) << 8 | y);
+      }
+    }
+    try {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      ImageIO.write(image, "png", output);
+      return output.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
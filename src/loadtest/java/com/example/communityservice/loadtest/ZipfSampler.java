@@ -0,0 +1,39 @@
+package com.example.communityservice.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 표본 추출 (순위 1의 확률이 가장 높고 순위가 뒤로 갈수록 1/k^s로 감소) <br>
+ * 누적 분포를 미리 계산해 두고 이진 탐색으로 추출 (추출 1회 O(log n))
+ */
+class ZipfSampler {
+
+  private final double[] cumulative;
+
+  /**
+   * @param size 항목 수
+   * @param exponent 지수 s (0이면 균등 분포, 1 근처면 일반적인 인기도 분포)
+   */
+  ZipfSampler(int size, double exponent) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("항목 수는 1 이상이어야 합니다: " + size);
+    }
+    cumulative = new double[size];
+    double sum = 0;
+    for (int rank = 1; rank <= size; rank++) {
+      sum += 1.0 / Math.pow(rank, exponent);
+      cumulative[rank - 1] = sum;
+    }
+    for (int i = 0; i < size; i++) {
+      cumulative[i] /= sum;
+    }
+  }
+
+  /** 0부터 시작하는 순위 추출 (0이 가장 자주 나옴) */
+  int next(SplittableRandom random) {
+    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+    int rank = index >= 0 ? index : -index - 1;
+    return Math.min(rank, cumulative.length - 1);
+  }
+}
@@ -1,25 +1,56 @@
 package com.example.communityservice.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.communityservice.dto.auth.AnonymousAuthRequestDTO;
 import com.example.communityservice.dto.auth.UserInfoResponseDTO;
+import com.example.communityservice.dto.posts.ChunkedUploadRequestDTO;
+import com.example.communityservice.dto.posts.ChunkedUploadStatusDTO;
 import com.example.communityservice.dto.posts.PostAttachmentsResponseDTO;
 import com.example.communityservice.dto.posts.PostsRequestDTO;
 import com.example.communityservice.dto.posts.PostsResponseDTO;
 import com.example.communityservice.dto.posts.PostsSummaryDTO;
+import com.example.communityservice.entity.PostCategory;
 import com.example.communityservice.global.common.ApiResponseDTO;
 import com.example.communityservice.global.common.PageResponseDTO;
+import com.example.communityservice.global.util.AsyncTimeoutInterceptor;
+import com.example.communityservice.global.util.ZeroCopyFileSender;
 import com.example.communityservice.service.AuthService;
+import com.example.communityservice.service.ChunkedUploadService;
 import com.example.communityservice.service.FileUploadService;
+import com.example.communityservice.service.FileUploadService.AttachmentDownload;
+import com.example.communityservice.service.PostEventBroadcaster;
+import com.example.communityservice.service.PostListCacheService;
+import com.example.communityservice.service.PostReadCoalescer;
+import com.example.communityservice.service.PostsExportService;
+import com.example.communityservice.service.PostsExportService.ExportFormat;
+import com.example.communityservice.service.PostsExportService.ExportOptions;
 import com.example.communityservice.service.PostsService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +69,12 @@ public class PostsController {
   private final PostsService postsService;
   private final FileUploadService fileUploadService;
   private final AuthService authService;
+  private final PostsExportService postsExportService;
+  private final ZeroCopyFileSender zeroCopyFileSender;
+  private final ChunkedUploadService chunkedUploadService;
+  private final PostListCacheService postListCacheService;
+  private final PostReadCoalescer postReadCoalescer;
+  private final PostEventBroadcaster postEventBroadcaster;
 
   // 게시글 목록 조회
   // GET /api/posts?category=전체&page=0&size=20&sort=views 또는 sort=createdAt
@@ -49,7 +86,22 @@ public class PostsController {
       @RequestParam(required = false, defaultValue = "createdAt") String sort,
       @RequestParam(required = false) String tag,
       @RequestParam(required = false) String search,
-      Pageable pageable) {
+      Pageable pageable,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+
+    // 앞쪽 페이지의 카테고리/정렬 목록은 직렬화(+gzip)된 응답 캐시에서 바로 전송
+    PostListCacheService.Key cacheKey =
+        postListCacheService.keyOf(request, category, sort, pageable);
+    if (cacheKey != null) {
+      postListCacheService.serve(
+          cacheKey,
+          request,
+          response,
+          () -> ApiResponseDTO.success(PageResponseDTO.from(listPosts(category, sort, pageable))));
+      return null;
+    }
 
     Page<PostsSummaryDTO> posts;
 
@@ -62,18 +114,24 @@ public class PostsController {
       posts = postsService.searchPosts(search, pageable);
     }
     // 일반 목록 조회
-    else if ("views".equals(sort)) {
-      posts = postsService.getPopularPosts(category, pageable);
-    } else if ("likes".equals(sort)) {
-      posts = postsService.getPopularPostsByLikes(category, pageable);
-    } else {
-      posts = postsService.getPosts(category, pageable);
+    else {
+      posts = listPosts(category, sort, pageable);
     }
 
     PageResponseDTO<PostsSummaryDTO> pageResponse = PageResponseDTO.from(posts);
     return ResponseEntity.ok(ApiResponseDTO.success(pageResponse));
   }
 
+  // 카테고리 목록 (sort=views: 조회수 순, sort=likes: 좋아요 순, 그 외: 최신순), 동시에 들어온 같은 조회는 합침
+  private Page<PostsSummaryDTO> listPosts(String category, String sort, Pageable pageable) {
+    if ("views".equals(sort)) {
+      return postReadCoalescer.getPopularPosts(category, pageable);
+    } else if ("likes".equals(sort)) {
+      return postReadCoalescer.getPopularPostsByLikes(category, pageable);
+    }
+    return postReadCoalescer.getPosts(category, pageable);
+  }
+
   // 게시글 상세 조회
   // GET /api/posts/{id}
   @Operation(summary = "게시글 상세 조회")
@@ -93,17 +151,14 @@ public class PostsController {
         userId = userInfo.getId();
       } catch (Exception e) {
         // 토큰이 유효하지 않아도 게시글 조회는 가능하므로 로그만 남기고 진행
-        log.warn("토큰 유효성 검사 실패, 비로그인으로 처리: {}", e.getMessage());
+        log.debug("토큰 유효성 검사 실패, 비로그인으로 처리: {}", e.getMessage());
       }
     }
-    PostsResponseDTO post;
     if (incrementView) {
-      post = postsService.getPost(id, userId); // 조회수 증가
-    } else {
-      post =
-          postsService.getPostInfo(
-              id, userId); // 조회수 증가 없음 (GET /api/posts/123?incrementView=false)
+      postsService.increaseViewCount(id); // 조회수 증가 (조회는 커밋 이후 다른 요청과 합쳐서 실행)
     }
+    // 같은 게시글을 동시에 조회하는 요청은 한 번만 조회 (GET /api/posts/123?incrementView=false면 조회만)
+    PostsResponseDTO post = postReadCoalescer.getPostInfo(id, userId);
 
     return ResponseEntity.ok(ApiResponseDTO.success(post));
   }
@@ -118,35 +173,20 @@ public class PostsController {
 
     // Authorization 헤더가 있으면 무조건 인증된 사용자로 처리 (강제)
     if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-      log.info("인증 헤더 감지, 토큰 유효성 검사 중...");
-      try {
-        UserInfoResponseDTO userInfo = authService.validateTokenAndGetUser(authorizationHeader);
-        log.info(
-            "사용자 정보 조회됨: id={}, username={}, email={}",
-            userInfo.getId(),
-            userInfo.getUsername(),
-            userInfo.getEmail());
-        // 로그인한 사용자는 무조건 해당 계정으로만 작성 가능
-        requestDto.setAuthorId(userInfo.getId());
-        requestDto.setIsAnonymous(false);
-        requestDto.setAuthorName(userInfo.getUsername()); // 사용자 이름 설정
-        // 익명 관련 필드 무시 (Defense in Depth)
-        requestDto.setAnonymousEmail(null);
-        requestDto.setAnonymousPassword(null);
-        log.info(
-            "요청 DTO 업데이트됨: authorId={}, isAnonymous={}",
-            requestDto.getAuthorId(),
-            requestDto.getIsAnonymous());
-      } catch (Exception e) {
-        log.error("토큰 유효성 검사 및 사용자 정보 조회 실패", e);
-        throw e;
-      }
-    } else {
-      log.info("유효한 인증 헤더 없음 (헤더: {}), 익명으로 진행", authorizationHeader);
+      // 인증 실패는 GlobalExceptionHandler에서 기록
+      UserInfoResponseDTO userInfo = authService.validateTokenAndGetUser(authorizationHeader);
+      // 로그인한 사용자는 무조건 해당 계정으로만 작성 가능
+      requestDto.setAuthorId(userInfo.getId());
+      requestDto.setIsAnonymous(false);
+      requestDto.setAuthorName(userInfo.getUsername()); // 사용자 이름 설정
+      // 익명 관련 필드 무시 (Defense in Depth)
+      requestDto.setAnonymousEmail(null);
+      requestDto.setAnonymousPassword(null);
     }
 
-    log.info(
-        "최종 요청 DTO: authorId={}, isAnonymous={}",
+    // 헤더/이메일/비밀번호는 기록하지 않음
+    log.debug(
+        "게시글 작성 요청: authorId={}, isAnonymous={}",
         requestDto.getAuthorId(),
         requestDto.getIsAnonymous());
 
@@ -214,6 +254,24 @@ public class PostsController {
     return ResponseEntity.ok(ApiResponseDTO.success("인증이 성공했습니다.", null));
   }
 
+  // === 실시간 수치 (SSE) ===
+
+  // 게시글 좋아요/조회수/댓글 변경 구독 (event: counts, data: PostCountsEventDTO)
+  // GET /api/posts/{id}/events
+  @Operation(summary = "게시글 실시간 수치 구독 (SSE)")
+  @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribePostEvents(@PathVariable Long id) {
+    return postEventBroadcaster.subscribePost(id);
+  }
+
+  // 카테고리 목록의 수치 변경 구독 (event: counts, data: PostCountsEventDTO 목록)
+  // GET /api/posts/events?category=전체
+  @Operation(summary = "게시글 목록 실시간 수치 구독 (SSE)")
+  @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeListEvents(@RequestParam(required = false) String category) {
+    return postEventBroadcaster.subscribeCategory(category);
+  }
+
   // === 첨부파일 관련 API ===
 
   // 첨부파일 목록 조회
@@ -237,6 +295,63 @@ public class PostsController {
     return ResponseEntity.ok(ApiResponseDTO.success("파일이 성공적으로 업로드되었습니다.", attachments));
   }
 
+  // 분할 업로드 세션 생성 (큰 파일을 조각 단위로 나눠서 전송, 실패 시 받지 못한 조각만 재전송)
+  // POST /api/posts/{id}/attachments/uploads
+  @Operation(summary = "분할 업로드 세션 생성")
+  @PostMapping("/{id}/attachments/uploads")
+  public ResponseEntity<ApiResponseDTO<ChunkedUploadStatusDTO>> createUploadSession(
+      @PathVariable Long id, @Valid @RequestBody ChunkedUploadRequestDTO request) {
+    ChunkedUploadStatusDTO status =
+        chunkedUploadService.createSession(postsService.getPostEntity(id), request);
+    return ResponseEntity.ok(ApiResponseDTO.success("업로드 세션이 생성되었습니다.", status));
+  }
+
+  // 분할 업로드 조각 전송 (본문은 조각의 원본 바이트, X-Chunk-SHA256 헤더로 조각 체크섬 전달)
+  // PUT /api/posts/attachments/uploads/{uploadId}?offset=0
+  @Operation(summary = "분할 업로드 조각 전송")
+  @PutMapping(
+      value = "/attachments/uploads/{uploadId}",
+      consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<ApiResponseDTO<ChunkedUploadStatusDTO>> uploadChunk(
+      @PathVariable String uploadId,
+      @RequestParam long offset,
+      @RequestHeader("X-Chunk-SHA256") String checksum,
+      HttpServletRequest request)
+      throws IOException {
+    ChunkedUploadStatusDTO status =
+        chunkedUploadService.writeChunk(
+            uploadId, offset, request.getContentLengthLong(), checksum, request.getInputStream());
+    return ResponseEntity.ok(ApiResponseDTO.success(status));
+  }
+
+  // 분할 업로드 상태 조회 (재개 시 missingChunks 확인)
+  // GET /api/posts/attachments/uploads/{uploadId}
+  @Operation(summary = "분할 업로드 상태 조회")
+  @GetMapping("/attachments/uploads/{uploadId}")
+  public ResponseEntity<ApiResponseDTO<ChunkedUploadStatusDTO>> getUploadStatus(
+      @PathVariable String uploadId) {
+    return ResponseEntity.ok(ApiResponseDTO.success(chunkedUploadService.getStatus(uploadId)));
+  }
+
+  // 분할 업로드 완료 (첨부파일 생성)
+  // POST /api/posts/attachments/uploads/{uploadId}/commit
+  @Operation(summary = "분할 업로드 완료")
+  @PostMapping("/attachments/uploads/{uploadId}/commit")
+  public ResponseEntity<ApiResponseDTO<PostAttachmentsResponseDTO>> commitUpload(
+      @PathVariable String uploadId) {
+    PostAttachmentsResponseDTO attachment = chunkedUploadService.commit(uploadId);
+    return ResponseEntity.ok(ApiResponseDTO.success("파일이 성공적으로 업로드되었습니다.", attachment));
+  }
+
+  // 분할 업로드 취소
+  // DELETE /api/posts/attachments/uploads/{uploadId}
+  @Operation(summary = "분할 업로드 취소")
+  @DeleteMapping("/attachments/uploads/{uploadId}")
+  public ResponseEntity<ApiResponseDTO<Void>> abortUpload(@PathVariable String uploadId) {
+    chunkedUploadService.abort(uploadId);
+    return ResponseEntity.ok(ApiResponseDTO.success("업로드가 취소되었습니다.", null));
+  }
+
   // 첨부파일 삭제
   // DELETE /api/posts/attachments/{attachmentId}
   @Operation(summary = "첨부파일 삭제")
@@ -246,6 +361,72 @@ public class PostsController {
     return ResponseEntity.ok(ApiResponseDTO.success("첨부파일이 삭제되었습니다.", null));
   }
 
+  // 첨부파일 다운로드 (Range/조건부 요청 지원, 변경되지 않는 파일이므로 1년 immutable 캐시)
+  // GET /api/posts/attachments/{attachmentId}/download
+  @Operation(summary = "첨부파일 다운로드")
+  @GetMapping("/attachments/{attachmentId}/download")
+  public ResponseEntity<Resource> downloadAttachment(
+      @PathVariable Long attachmentId,
+      ServletWebRequest webRequest,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    AttachmentDownload download = fileUploadService.getDownload(attachmentId);
+    return serveFile(download, ContentDisposition.attachment(), webRequest, request, response);
+  }
+
+  // 이미지 첨부파일 축소본 조회 (없으면 이 요청에서 생성, 브라우저에서 바로 표시되도록 inline)
+  // GET /api/posts/attachments/{attachmentId}/variants/thumb 또는 /variants/w800
+  @Operation(summary = "이미지 첨부파일 축소본 조회")
+  @GetMapping("/attachments/{attachmentId}/variants/{variant}")
+  public ResponseEntity<Resource> getAttachmentVariant(
+      @PathVariable Long attachmentId,
+      @PathVariable String variant,
+      ServletWebRequest webRequest,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    AttachmentDownload download = fileUploadService.getVariantDownload(attachmentId, variant);
+    return serveFile(download, ContentDisposition.inline(), webRequest, request, response);
+  }
+
+  /** 파일 응답 공통 처리 (조건부 요청, 캐시 헤더, Range, sendfile) */
+  private ResponseEntity<Resource> serveFile(
+      AttachmentDownload download,
+      ContentDisposition.Builder disposition,
+      ServletWebRequest webRequest,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    // If-None-Match / If-Modified-Since 일치 시 304 응답을 설정하고 본문 없이 종료
+    if (webRequest.checkNotModified(download.etag(), download.lastModified())) {
+      return null;
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(
+        MediaTypeFactory.getMediaType(download.originalFilename())
+            .orElse(MediaType.APPLICATION_OCTET_STREAM));
+    headers.setContentDisposition(
+        disposition.filename(download.originalFilename(), StandardCharsets.UTF_8).build());
+    headers.setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+    headers.setETag(download.etag());
+    headers.setLastModified(download.lastModified());
+    headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+    // 전체 파일 요청은 컨테이너의 sendfile로 전송 (Range 요청은 Spring이 206 부분 응답으로 처리)
+    // (segment 저장소 파일은 이미 메모리 매핑되어 있으므로 일반 스트리밍)
+    if (download.resource() instanceof FileSystemResource file
+        && HttpMethod.GET.matches(request.getMethod())
+        && request.getHeader(HttpHeaders.RANGE) == null
+        && zeroCopyFileSender.isAvailable(request, download.size())) {
+      response.setStatus(HttpServletResponse.SC_OK);
+      headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+      zeroCopyFileSender.send(request, response, file.getFile().toPath(), download.size());
+      return null;
+    }
+
+    // Content-Length와 206 부분 응답(Content-Range)은 Resource 컨버터가 설정
+    return ResponseEntity.ok().headers(headers).body(download.resource());
+  }
+
   // === 태그 관련 API ===
 
   // 모든 태그 목록 조회
@@ -301,4 +482,44 @@ public class PostsController {
 
     return ResponseEntity.ok(ApiResponseDTO.success(response));
   }
+
+  // === 내보내기 API ===
+
+  // 게시글 전체 내보내기 (분석용, 페이징 없이 스트리밍)
+  // GET
+  // /api/posts/export?format=ndjson&category=FREE_BOARD&from=2025-09-01T00:00:00&includeComments=true
+  @Operation(summary = "게시글 전체 내보내기 (NDJSON/CSV 스트리밍)")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportPosts(
+      @RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(required = false) String category,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to,
+      @RequestParam(defaultValue = "false") boolean includeComments,
+      @RequestParam(defaultValue = "true") boolean includeLikes,
+      @RequestParam(defaultValue = "true") boolean includeTags,
+      HttpServletRequest request) {
+
+    ExportFormat exportFormat = ExportFormat.from(format);
+    PostCategory postCategory =
+        (category == null || category.equals("전체"))
+            ? null
+            : PostCategory.valueOf(category.toUpperCase());
+    ExportOptions options =
+        new ExportOptions(postCategory, from, to, includeComments, includeLikes, includeTags);
+
+    // StreamingResponseBody : 요청 스레드를 반환하고, 별도 스레드에서 응답 스트림에 직접 기록
+    StreamingResponseBody body = out -> postsExportService.export(exportFormat, options, out);
+    // 기본 비동기 타임아웃(spring.mvc.async.request-timeout) 대신 내보내기 전용 타임아웃 적용
+    AsyncTimeoutInterceptor.setTimeout(request, postsExportService.getTimeoutMillis());
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"posts-export." + exportFormat.getExtension() + "\"")
+        .body(body);
+  }
 }
@@ -0,0 +1,51 @@
+package com.example.communityservice.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.communityservice.global.exception.BusinessException;
+import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.global.util.FileManager;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * segment 저장소 파일 서빙 컨트롤러 <br>
+ * 일반 업로드 파일은 WebConfig의 /uploads/** 정적 리소스 핸들러가 처리하고, segment 파일은 디스크 경로가 없으므로 여기서 처리
+ */
+@Tag(name = "Uploads", description = "업로드 파일 조회 API")
+@RestController
+@RequiredArgsConstructor
+public class UploadsController {
+
+  private final FileManager fileManager;
+
+  // segment 저장소 파일 조회 (Range/If-Modified-Since는 Spring이 처리)
+  // GET /uploads/segments/{fileName}
+  @Operation(summary = "segment 저장소 파일 조회")
+  @GetMapping(FileManager.SEGMENT_URL_PREFIX + "{fileName}")
+  public ResponseEntity<Resource> getSegmentFile(@PathVariable String fileName) throws IOException {
+    Resource resource =
+        fileManager
+            .findResource(FileManager.SEGMENT_URL_PREFIX + fileName)
+            .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND));
+
+    return ResponseEntity.ok()
+        .contentType(
+            MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM))
+        .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+        .lastModified(resource.lastModified())
+        .body(resource);
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.communityservice.dto.posts;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/** 분할 업로드 세션 생성 요청 DTO - 업로드할 파일 정보를 먼저 등록하고 조각(chunk) 단위로 전송 */
+@Schema(description = "분할 업로드 세션 생성 요청 DTO")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChunkedUploadRequestDTO {
+
+  @Schema(description = "원본 파일명", example = "발표자료.pdf")
+  @NotBlank(message = "파일명은 필수입니다")
+  private String originalFilename;
+
+  @Schema(description = "전체 파일 크기 (바이트)", example = "10485760")
+  @NotNull(message = "파일 크기는 필수입니다")
+  @Positive(message = "파일 크기는 0보다 커야 합니다")
+  private Long totalSize;
+
+  @Schema(
+      description = "전체 파일 SHA-256 (선택, 완료 시 검증)",
+      example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+  @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "SHA-256은 16진수 64자여야 합니다")
+  private String sha256;
+}
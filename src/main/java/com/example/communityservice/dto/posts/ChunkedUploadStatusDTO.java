@@ -0,0 +1,44 @@
+package com.example.communityservice.dto.posts;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/** 분할 업로드 세션 상태 응답 DTO - 클라이언트가 이어서 보낼 조각을 판단할 때 사용 */
+@Schema(description = "분할 업로드 세션 상태 응답 DTO")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChunkedUploadStatusDTO {
+
+  @Schema(description = "업로드 세션 ID", example = "3f2b9c0e6d7a4b1e9a8c5d4e3f2a1b0c")
+  private String uploadId;
+
+  @Schema(description = "게시글 ID", example = "1")
+  private Long postId;
+
+  @Schema(description = "원본 파일명", example = "발표자료.pdf")
+  private String originalFilename;
+
+  @Schema(description = "전체 파일 크기 (바이트)", example = "10485760")
+  private Long totalSize;
+
+  @Schema(description = "조각 크기 (바이트, 마지막 조각만 더 작을 수 있음)", example = "1048576")
+  private Integer chunkSize;
+
+  @Schema(description = "전체 조각 수", example = "10")
+  private Integer totalChunks;
+
+  @Schema(description = "받은 바이트 수", example = "5242880")
+  private Long receivedBytes;
+
+  @Schema(description = "아직 받지 못한 조각 번호 (offset = 번호 × chunkSize)", example = "[5, 6, 7, 8, 9]")
+  private List<Integer> missingChunks;
+
+  @Schema(description = "세션 만료 시각 (조각을 받을 때마다 연장)", example = "2025-09-19T10:30:00")
+  private LocalDateTime expiresAt;
+}
@@ -1,6 +1,7 @@
 package com.example.communityservice.dto.posts;
 
 import com.example.communityservice.entity.PostAttachments;
+import com.example.communityservice.global.util.ImageVariant;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -34,6 +35,16 @@ public class PostAttachmentsResponseDTO {
   @Schema(description = "포맷된 파일 크기", example = "1.0 MB")
   private String formattedFileSize; // 사용자 친화적 표시
 
+  @Schema(
+      description = "썸네일 URL (이미지 파일만, 최초 요청 시 생성될 수 있음)",
+      example = "/api/posts/attachments/1/variants/thumb")
+  private String thumbnailUrl;
+
+  @Schema(
+      description = "미리보기(가로 800px) URL (이미지 파일만)",
+      example = "/api/posts/attachments/1/variants/w800")
+  private String previewUrl;
+
   /**
    * PostAttachments 엔티티를 PostAttachmentsResponseDTO로 변환하는 정적 팩토리 메서드
    *
@@ -48,6 +59,18 @@ public class PostAttachmentsResponseDTO {
         .fileUrl(attachment.getFileUrl())
         .fileSize(attachment.getFileSize())
         .formattedFileSize(attachment.getFormattedFileSize())
+        .thumbnailUrl(variantUrl(attachment, ImageVariant.THUMB))
+        .previewUrl(variantUrl(attachment, ImageVariant.PREVIEW))
         .build();
   }
+
+  /** 이미지 첨부파일이면 축소본 조회 API 경로, 아니면 null */
+  private static String variantUrl(PostAttachments attachment, ImageVariant variant) {
+    if (!ImageVariant.supports(attachment.getFileUrl())) {
+      return null;
+    }
+    return String.format(
+        "/api/posts/attachments/%d/variants/%s",
+        attachment.getPostAttachmentId(), variant.getSuffix());
+  }
 }
@@ -0,0 +1,43 @@
+package com.example.communityservice.dto.posts;
+
+import java.util.List;
+
+import com.example.communityservice.dto.comments.CommentsResponseDTO;
+import com.example.communityservice.entity.PostCategory;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * 실시간 수치 변경 이벤트 DTO (SSE) <br>
+ * - 직전 이벤트 이후 변경된 좋아요/조회수/댓글 수 (절대값이 아닌 증감) <br>
+ * - 게시글 스트림에는 새 댓글 목록도 포함, 목록 스트림에는 수치만 포함
+ */
+@Schema(description = "게시글 수치 변경 이벤트 DTO")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class PostCountsEventDTO {
+
+  @Schema(description = "게시글 ID", example = "1")
+  private Long postId;
+
+  @Schema(description = "게시글 카테고리", example = "FREE_BOARD")
+  private PostCategory category;
+
+  @Schema(description = "좋아요 수 증감", example = "3")
+  private int likes;
+
+  @Schema(description = "조회수 증감", example = "12")
+  private int views;
+
+  @Schema(description = "댓글 수 증감", example = "1")
+  private int comments;
+
+  @Schema(description = "새 댓글 목록 (게시글 스트림만)")
+  private List<CommentsResponseDTO> newComments;
+}
@@ -22,7 +22,7 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostsResponseDTO {
 
   @Schema(description = "게시글 ID", example = "1")
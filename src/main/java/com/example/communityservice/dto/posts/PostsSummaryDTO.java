@@ -68,9 +68,7 @@ public class PostsSummaryDTO {
         .likes(post.getLikes())
         .commentsCount(post.getCommentsCount())
         .createdAt(post.getCreatedAt())
-        .hasAttachments(
-            !post.getAttachments()
-                .isEmpty()) // 게시글에 첨부파일이 있으면 DTO의 hasAttachments를 true로, 없으면 false로 세팅
+        .hasAttachments(post.hasAttachments()) // 게시글에 저장된 첨부파일 수로 판단 (첨부파일 테이블 조회 X)
         .build();
   }
 }
@@ -2,9 +2,14 @@ package com.example.communityservice.entity;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors") // 목록/댓글마다 조회되는 작성자 정보
 @Table(
     name = "authors",
     indexes = {
@@ -2,13 +2,21 @@ package com.example.communityservice.entity;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post_attachments")
+@Cacheable
+// 생성 이후 바뀌지 않음 (저장 위치 변경은 JPQL 벌크 UPDATE → Hibernate가 region 전체를 무효화)
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "postAttachments")
+@Table(
+    name = "post_attachments",
+    indexes = @Index(name = "idx_post_attachments_file_url", columnList = "file_url"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +44,10 @@ public class PostAttachments {
   @Column(name = "file_size", nullable = false)
   private Long fileSize;
 
+  // 파일 내용의 SHA-256 (내용 기반 저장소에서 같은 파일을 공유하는 기준, 기존 데이터는 null일 수 있음)
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+
   // 생성자 팩토리 메서드
 
   /**
@@ -59,6 +71,34 @@ public class PostAttachments {
         .build();
   }
 
+  /**
+   * 내용 해시를 포함한 첨부파일 엔티티 생성
+   *
+   * @param post 첨부파일이 속한 게시글
+   * @param originalFilename 원본 파일명
+   * @param fileName 서버에 저장된 파일명
+   * @param fileUrl 파일 접근 URL
+   * @param fileSize 파일 크기 (바이트 단위)
+   * @param contentHash 파일 내용의 SHA-256 (16진수 문자열)
+   * @return 첨부파일 엔티티
+   */
+  public static PostAttachments create(
+      Posts post,
+      String originalFilename,
+      String fileName,
+      String fileUrl,
+      Long fileSize,
+      String contentHash) {
+    return PostAttachments.builder()
+        .post(post)
+        .originalFilename(originalFilename)
+        .fileName(fileName)
+        .fileUrl(fileUrl)
+        .fileSize(fileSize)
+        .contentHash(contentHash)
+        .build();
+  }
+
   // 파일 크기 유틸리티 메서드
 
   /**
@@ -6,6 +6,9 @@ import java.util.List;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -53,6 +56,11 @@ public class Posts {
   @Builder.Default
   private Integer likes = 0;
 
+  // 첨부파일 수 (목록 화면에서 첨부파일 테이블을 조회하지 않도록 업로드/삭제 시 함께 갱신)
+  @Column(name = "attachment_count", nullable = false)
+  @Builder.Default
+  private Integer attachmentCount = 0;
+
   @Column(name = "tags", columnDefinition = "JSON")
   private String tags;
 
@@ -65,18 +73,20 @@ public class Posts {
   private LocalDateTime updatedAt;
 
   // 연관관계 매핑
+  // @BatchSize: 목록에서 여러 게시글의 컬렉션을 처음 접근할 때 게시글마다 조회하지 않고 IN 조회로 묶어서 로딩
   @OneToMany(
       mappedBy = "post",
       cascade = CascadeType.ALL,
       orphanRemoval = true) // OneToMany는 기본이 LAZY
+  @BatchSize(size = 100)
   @Builder.Default
   private List<Comments> comments = new ArrayList<>();
 
-  @OneToMany(
-      mappedBy = "post",
-      cascade = CascadeType.ALL,
-      orphanRemoval = true,
-      fetch = FetchType.EAGER)
+  // 상세 조회에서만 사용 (좋아요/댓글/조회수 처리 시 findById가 첨부파일까지 로딩하지 않도록 LAZY)
+  // 첨부파일 ID 목록은 2차 캐시에 저장 (JDBC 일괄 INSERT 시 PostAttachmentsRepositoryCustomImpl에서 무효화)
+  @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 100)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "posts.attachments")
   @Builder.Default
   private List<PostAttachments> attachments = new ArrayList<>();
 
@@ -106,6 +116,15 @@ public class Posts {
     this.tags = tags;
   }
 
+  /**
+   * 첨부파일 존재 여부 (첨부파일 컬렉션을 로딩하지 않음)
+   *
+   * @return 첨부파일이 하나라도 있으면 true
+   */
+  public boolean hasAttachments() {
+    return attachmentCount > 0;
+  }
+
   /**
    * 댓글 개수 조회 연관된 댓글 컬렉션의 크기를 반환하여 댓글 개수를 제공
    *
@@ -0,0 +1,84 @@
+package com.example.communityservice.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/** 백그라운드/병렬 작업용 스레드 풀 설정 (요청 스레드와 분리된 크기 제한 풀) */
+@Configuration
+public class ExecutorConfig {
+
+  /**
+   * 파일 I/O 전용 풀 (다중 파일 업로드 병렬 저장) <br>
+   * 큐가 가득 차면 CallerRunsPolicy로 요청 스레드가 직접 처리 → 풀 크기 이상으로 디스크를 점유하지 않음
+   */
+  @Bean(name = "fileIoExecutor", destroyMethod = "shutdown")
+  public ThreadPoolTaskExecutor fileIoExecutor(
+      @Value("${file.io.pool-size:4}") int poolSize,
+      @Value("${file.io.queue-capacity:64}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("file-io-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 이미지 축소본 생성 전용 풀 (CPU 사용량이 크므로 작게 유지) <br>
+   * 큐가 가득 차면 작업을 거절 → 축소본은 처음 조회될 때 생성되므로 업로드 요청 스레드가 이미지 처리를 떠안지 않음
+   */
+  @Bean(name = "thumbnailExecutor", destroyMethod = "shutdown")
+  public ThreadPoolTaskExecutor thumbnailExecutor(
+      @Value("${thumbnail.pool-size:2}") int poolSize,
+      @Value("${thumbnail.queue-capacity:200}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("thumbnail-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 실시간 이벤트(SSE) 전송 전용 풀 (구독자별 전송 큐를 비우는 작업) <br>
+   * 큐가 가득 차면 작업을 거절 → 이벤트는 구독자 큐에 남아 다음 tick에 다시 전송 시도
+   */
+  @Bean(name = "sseExecutor", destroyMethod = "shutdown")
+  public ThreadPoolTaskExecutor sseExecutor(
+      @Value("${post.events.pool-size:4}") int poolSize,
+      @Value("${post.events.executor-queue-capacity:10000}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("sse-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 저장소 점검 전용 스레드 (디렉토리 전체 탐색 + DB 전체 스캔) <br>
+   * 스케줄러 스레드에서 바로 실행하면 그동안 다른 @Scheduled 작업이 모두 멈추므로 이 스레드로 넘김 <br>
+   * 한 번에 하나만 실행하고 대기열 없음 → 실행 중이면 작업을 거절
+   */
+  @Bean(name = "reconcileExecutor", destroyMethod = "shutdown")
+  public ThreadPoolTaskExecutor reconcileExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("reconcile-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.initialize();
+    return executor;
+  }
+}
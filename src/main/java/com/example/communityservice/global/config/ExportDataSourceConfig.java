@@ -0,0 +1,39 @@
+package com.example.communityservice.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 게시글 내보내기 전용 커넥션 풀 <br>
+ * - MySQL 서버 커서(useCursorFetch=true)는 이 풀의 커넥션에만 적용 (다른 요청은 기존 prepared statement 동작 유지) <br>
+ * - 접속 정보와 풀 설정은 spring.datasource.* / spring.datasource.hikari.*를 복사하고 풀 크기만 작게 → 동시 내보내기 수 제한
+ * <br>
+ * - defaultCandidate = false: 기본 DataSource 자동 설정/JPA/JdbcTemplate은 이 풀을 무시하고, 이름으로만 주입
+ */
+@Configuration
+public class ExportDataSourceConfig {
+
+  @Bean(name = "exportDataSource", destroyMethod = "close", defaultCandidate = false)
+  public HikariDataSource exportDataSource(
+      DataSourceProperties properties,
+      Environment environment,
+      @Value("${post.export.max-connections:2}") int maxConnections) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    dataSource.setPoolName("export");
+    dataSource.setMaximumPoolSize(maxConnections);
+    dataSource.setMinimumIdle(0); // 내보내기가 없을 때는 커넥션을 잡아두지 않음
+    dataSource.setReadOnly(true);
+    // MySQL Connector/J: 양수 fetch size로 서버 커서 사용 (없으면 전체 결과를 메모리에 적재)
+    dataSource.addDataSourceProperty("useCursorFetch", "true");
+    return dataSource;
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.communityservice.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.communityservice.global.util.DroppingAsyncAppender;
+import com.example.communityservice.global.util.FileDeletionQueue;
+import com.example.communityservice.global.util.SegmentStore;
+import com.example.communityservice.global.util.UploadLimiter;
+import com.example.communityservice.service.ChunkedUploadService;
+import com.example.communityservice.service.ThumbnailService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 서비스가 직접 관리하는 메모리 큐/캐시 상태 메트릭 <br>
+ * HTTP 요청, 커넥션 풀(hikaricp.*), 스레드 풀(executor.*), JVM/GC, Hibernate 2차 캐시는 Actuator가 자동으로 기록
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public MeterBinder backgroundQueueMetrics(
+      FileDeletionQueue fileDeletionQueue,
+      UploadLimiter uploadLimiter,
+      ChunkedUploadService chunkedUploadService,
+      ThumbnailService thumbnailService,
+      ObjectProvider<SegmentStore> segmentStore) {
+    return registry -> {
+      Gauge.builder("file.delete.queue.size", fileDeletionQueue, FileDeletionQueue::size)
+          .description("삭제 대기 중인 파일 수")
+          .register(registry);
+      Gauge.builder("file.upload.in-flight", uploadLimiter, UploadLimiter::inFlightBytes)
+          .description("업로드 중인 총 바이트 수")
+          .baseUnit("bytes")
+          .register(registry);
+      Gauge.builder(
+              "file.upload.chunked.sessions",
+              chunkedUploadService,
+              ChunkedUploadService::activeSessionCount)
+          .description("메모리에 올라와 있는 분할 업로드 세션 수")
+          .register(registry);
+      Gauge.builder("thumbnail.in-flight", thumbnailService, ThumbnailService::inFlightCount)
+          .description("요청 시점에 생성 중인 축소본 수")
+          .register(registry);
+      // segment 백엔드를 사용할 때만 존재
+      segmentStore.ifAvailable(
+          store ->
+              Gauge.builder("file.segment.entries", store, SegmentStore::size)
+                  .description("segment 저장소의 파일 수")
+                  .register(registry));
+      FunctionCounter.builder(
+              "logging.events.dropped",
+              DroppingAsyncAppender.class,
+              c -> DroppingAsyncAppender.droppedCount())
+          .description("비동기 로그 큐가 차서 버린 로그 수")
+          .register(registry);
+    };
+  }
+}
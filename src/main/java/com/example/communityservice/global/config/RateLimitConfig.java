@@ -0,0 +1,59 @@
+package com.example.communityservice.global.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.example.communityservice.global.util.RateLimitFilter;
+import com.example.communityservice.global.util.RateLimitFilter.Rule;
+import com.example.communityservice.global.util.RateLimiter;
+import com.example.communityservice.global.util.ValidatedTokenCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 작성/좋아요/익명 비밀번호 확인 요청 수 제한 (rate-limit.enabled=false면 비활성화) <br>
+ * 규칙별 분당 허용 수와 burst는 rate-limit.{write,like,verify}.*
+ */
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+  @Bean
+  public RateLimitFilter rateLimitFilter(
+      ValidatedTokenCache validatedTokenCache,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${rate-limit.write.permits-per-minute:10}") int writePerMinute,
+      @Value("${rate-limit.write.burst:5}") int writeBurst,
+      @Value("${rate-limit.like.permits-per-minute:60}") int likePerMinute,
+      @Value("${rate-limit.like.burst:20}") int likeBurst,
+      @Value("${rate-limit.verify.permits-per-minute:10}") int verifyPerMinute,
+      @Value("${rate-limit.verify.burst:5}") int verifyBurst,
+      @Value("${rate-limit.max-keys:100000}") int maxKeys,
+      @Value("${rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+    Map<Rule, RateLimiter> limiters = new EnumMap<>(Rule.class);
+    limiters.put(Rule.WRITE, new RateLimiter(writePerMinute, writeBurst, maxKeys));
+    limiters.put(Rule.LIKE, new RateLimiter(likePerMinute, likeBurst, maxKeys));
+    limiters.put(Rule.VERIFY, new RateLimiter(verifyPerMinute, verifyBurst, maxKeys));
+    return new RateLimitFilter(
+        limiters, validatedTokenCache, trustForwardedFor, objectMapper, meterRegistry);
+  }
+
+  /** SqlStatsFilter/ReadYourWritesFilter 다음, Spring Security/DispatcherServlet보다 먼저 거절 */
+  @Bean
+  public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(
+      RateLimitFilter rateLimitFilter) {
+    FilterRegistrationBean<RateLimitFilter> registration =
+        new FilterRegistrationBean<>(rateLimitFilter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+    return registration;
+  }
+}
@@ -0,0 +1,106 @@
+package com.example.communityservice.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.example.communityservice.global.util.ReadYourWritesFilter;
+import com.example.communityservice.global.util.ReplicaRouter;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 전용 복제본 라우팅 (datasource.replica.enabled=true일 때만) <br>
+ * - @Transactional(readOnly = true)는 복제본, 나머지는 primary(spring.datasource.*) <br>
+ * - 트랜잭션 시작 시점에는 readOnly 여부만 기록하고 첫 SQL 실행 때 커넥션을 가져옴 (LazyConnectionDataSourceProxy) <br>
+ * - 복제 지연/장애 시 대체와 지연 측정은 ReplicaRouter, 쓰기 직후 primary 고정은 ReadYourWritesFilter
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+  /** 애플리케이션이 사용하는 DataSource (기본 Hikari DataSource 자동 설정 대신 등록) */
+  @Bean
+  public DataSource dataSource(ReplicaRouter replicaRouter) {
+    LazyConnectionDataSourceProxy dataSource =
+        new LazyConnectionDataSourceProxy(replicaRouter.primary());
+    dataSource.setReadOnlyDataSource(replicaRouter.readOnlyDataSource());
+    return dataSource;
+  }
+
+  /**
+   * primary/복제본 풀 생성 (복제본은 primary의 spring.datasource.hikari.* 설정을 그대로 복사하고 URL만 변경) <br>
+   * 복제본이 시작 시점에 내려가 있어도 애플리케이션은 뜨고 읽기는 primary로 대체
+   */
+  @Bean(destroyMethod = "close")
+  public ReplicaRouter replicaRouter(
+      DataSourceProperties properties,
+      Environment environment,
+      MeterRegistry meterRegistry,
+      @Value("${datasource.replica.urls:}") List<String> replicaUrls,
+      @Value("${datasource.replica.max-lag-ms:2000}") long maxLagMs,
+      @Value("${datasource.replica.heartbeat-interval-ms:500}") long heartbeatIntervalMs,
+      @Value("${datasource.replica.check-timeout-ms:1000}") long checkTimeoutMs,
+      @Value("${datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs) {
+    HikariDataSource primary =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+    if (primary.getPoolName() == null) {
+      primary.setPoolName("primary");
+    }
+
+    List<HikariDataSource> replicas = new ArrayList<>();
+    for (String url : replicaUrls) {
+      if (url.isBlank()) {
+        continue;
+      }
+      HikariDataSource replica = new HikariDataSource();
+      primary.copyStateTo(replica);
+      replica.setJdbcUrl(url.trim());
+      replica.setPoolName("replica-" + (replicas.size() + 1));
+      replica.setReadOnly(true);
+      // 복제본이 느리거나 풀이 가득 차면 오래 기다리지 않고 primary 사용
+      replica.setConnectionTimeout(connectionTimeoutMs);
+      replica.setInitializationFailTimeout(-1);
+      replica.setMetricRegistry(meterRegistry); // hikaricp.* 메트릭 (primary는 Actuator가 등록)
+      replicas.add(replica);
+    }
+    if (replicas.isEmpty()) {
+      throw new IllegalStateException(
+          "datasource.replica.enabled=true이면 datasource.replica.urls가 필요합니다.");
+    }
+    return new ReplicaRouter(
+        primary, replicas, maxLagMs, heartbeatIntervalMs, checkTimeoutMs, meterRegistry);
+  }
+
+  @Bean
+  public ReadYourWritesFilter readYourWritesFilter(
+      @Value("${datasource.replica.sticky-ms:5000}") long stickyMs,
+      @Value("${rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+    return new ReadYourWritesFilter(stickyMs, trustForwardedFor);
+  }
+
+  /** SqlStatsFilter 다음, 요청을 처리하는 다른 필터보다 먼저 실행 */
+  @Bean
+  public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilterRegistration(
+      ReadYourWritesFilter readYourWritesFilter) {
+    FilterRegistrationBean<ReadYourWritesFilter> registration =
+        new FilterRegistrationBean<>(readYourWritesFilter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+}
@@ -0,0 +1,9 @@
+package com.example.communityservice.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** 주기 작업(@Scheduled) 활성화 - 만료된 분할 업로드 세션 정리 등 */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
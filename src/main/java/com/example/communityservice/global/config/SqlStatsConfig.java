@@ -0,0 +1,99 @@
+package com.example.communityservice.global.config;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import com.example.communityservice.global.util.SqlStats;
+import com.example.communityservice.global.util.SqlStatsFilter;
+import com.example.communityservice.global.util.SqlStatsListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * SQL 실행 통계 설정 (sql.stats.enabled=false면 전체 비활성화) <br>
+ * - DataSource를 프록시로 감싸서 실행된 SQL/결과 행을 수집 <br>
+ * - 리포지토리 메서드 호출마다 메서드 이름을 기록해서 어떤 메서드가 SQL을 실행했는지 구분 <br>
+ * - 요청 단위 집계/N+1 감지는 SqlStatsFilter
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+  /** DataSource 프록시 적용 (BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static) */
+  @Bean
+  public static BeanPostProcessor sqlStatsDataSourcePostProcessor(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${sql.stats.count-rows:true}") boolean countRows) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+          return bean;
+        }
+        SqlStatsListener listener = new SqlStatsListener(meterRegistry);
+        ProxyDataSourceBuilder builder =
+            ProxyDataSourceBuilder.create(beanName, dataSource).listener(listener);
+        if (countRows) {
+          // 읽은 행 수는 ResultSet.next() 호출을 세어서 계산 (JDBC 메서드마다 프록시를 거치므로 끌 수 있게 분리)
+          builder.proxyResultSet().methodListener(listener);
+        }
+        return builder.build();
+      }
+    };
+  }
+
+  /** 리포지토리 메서드 실행 중에 실행된 SQL을 해당 메서드로 기록 */
+  @Bean
+  public static BeanPostProcessor sqlStatsRepositoryPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+          factoryBean.addRepositoryFactoryCustomizer(
+              factory ->
+                  factory.addRepositoryProxyPostProcessor(
+                      (proxyFactory, repositoryInformation) -> {
+                        String repository =
+                            repositoryInformation.getRepositoryInterface().getSimpleName();
+                        proxyFactory.addAdvice(
+                            (MethodInterceptor)
+                                invocation -> {
+                                  String previous =
+                                      SqlStats.enterRepositoryMethod(
+                                          repository + "." + invocation.getMethod().getName());
+                                  try {
+                                    return invocation.proceed();
+                                  } finally {
+                                    SqlStats.exitRepositoryMethod(previous);
+                                  }
+                                });
+                      }));
+        }
+        return bean;
+      }
+    };
+  }
+
+  /** 요청별 SQL 통계 필터 (다른 필터에서 실행되는 SQL도 포함하도록 가장 먼저 실행) */
+  @Bean
+  public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(
+      MeterRegistry meterRegistry, Environment environment) {
+    FilterRegistrationBean<SqlStatsFilter> registration =
+        new FilterRegistrationBean<>(new SqlStatsFilter(meterRegistry, environment));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+}
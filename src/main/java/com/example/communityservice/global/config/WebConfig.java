@@ -1,10 +1,16 @@
 package com.example.communityservice.global.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.example.communityservice.global.util.AsyncTimeoutInterceptor;
+
 /** 웹 MVC 설정 정적 리소스 핸들링 및 파일 서빙 설정 "업로드된 파일들을 웹에서 접근할 수 있게 해주는 설정" */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -18,6 +24,13 @@ public class WebConfig implements WebMvcConfigurer {
     registry
         .addResourceHandler("/uploads/**")
         .addResourceLocations("file:" + uploadPath + "/")
-        .setCachePeriod(3600); // 1시간 캐시
+        // 저장 파일명은 UUID/내용 해시라 같은 URL의 내용이 바뀌지 않으므로 1년 immutable 캐시
+        .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    // 기본 비동기 타임아웃은 그대로 두고, 게시글 내보내기처럼 오래 걸리는 요청만 타임아웃을 늘림
+    configurer.registerCallableInterceptors(new AsyncTimeoutInterceptor());
   }
 }
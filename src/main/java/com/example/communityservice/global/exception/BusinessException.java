@@ -2,19 +2,22 @@ package com.example.communityservice.global.exception;
 
 import lombok.Getter;
 
-/** 비즈니스 로직 관련 예외의 최상위 클래스 ErrorCode를 포함하여 일관된 예외 처리 제공 */
+/**
+ * 비즈니스 로직 관련 예외의 최상위 클래스 ErrorCode를 포함하여 일관된 예외 처리 제공 <br>
+ * 4xx(잘못된 ID, 권한 없음 등)는 일반적인 흐름 제어이므로 스택 트레이스를 만들지 않음 (생성 비용의 대부분) <br>
+ * 5xx는 원인 추적을 위해 스택 트레이스 유지
+ */
 @Getter
 public class BusinessException extends RuntimeException {
 
   private final ErrorCode errorCode;
 
   public BusinessException(ErrorCode errorCode) {
-    super(errorCode.getMessage());
-    this.errorCode = errorCode;
+    this(errorCode, errorCode.getMessage());
   }
 
   public BusinessException(ErrorCode errorCode, String message) {
-    super(message);
+    super(message, null, false, errorCode.getHttpStatus().is5xxServerError());
     this.errorCode = errorCode;
   }
 }
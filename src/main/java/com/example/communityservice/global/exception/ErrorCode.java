@@ -40,10 +40,21 @@ public enum ErrorCode {
   FILE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "F008", "파일 삭제에 실패했습니다."),
   FILE_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "F009", "파일 저장에 실패했습니다."),
   FILE_PROCESSING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F010", "파일 처리 중 오류가 발생했습니다."),
+  UPLOAD_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "F011", "동시 업로드 한도를 초과했습니다."),
+  TOO_MANY_FILES(HttpStatus.BAD_REQUEST, "F012", "한 번에 업로드할 수 있는 파일 수를 초과했습니다."),
+  UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "F013", "업로드 세션을 찾을 수 없거나 만료되었습니다."),
+  INVALID_CHUNK(HttpStatus.BAD_REQUEST, "F014", "업로드 조각(chunk)이 유효하지 않습니다."),
+  CHUNK_CHECKSUM_MISMATCH(HttpStatus.BAD_REQUEST, "F015", "업로드 조각의 체크섬이 일치하지 않습니다."),
+  UPLOAD_INCOMPLETE(HttpStatus.CONFLICT, "F016", "아직 받지 못한 업로드 조각이 있습니다."),
+  UPLOAD_SESSION_BUSY(HttpStatus.CONFLICT, "F017", "완료 처리 중이거나 조각을 받는 중인 업로드입니다."),
+  THUMBNAIL_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "F018", "축소본 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
   // 공통 에러
   INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "G001", "입력값이 유효하지 않습니다."),
-  INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "G002", "내부 서버 오류가 발생했습니다.");
+  INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "G002", "내부 서버 오류가 발생했습니다."),
+  RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "G003", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+  EVENT_SUBSCRIBER_LIMIT_EXCEEDED(
+      HttpStatus.SERVICE_UNAVAILABLE, "G004", "실시간 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
 
   private final HttpStatus httpStatus;
   private final String code;
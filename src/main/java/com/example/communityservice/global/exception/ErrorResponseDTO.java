@@ -1,6 +1,7 @@
 package com.example.communityservice.global.exception;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,22 +15,39 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ErrorResponseDTO {
 
+  // ErrorCode별 기본 메시지 응답을 미리 만들어 재사용 (timestamp는 초가 바뀔 때만 새로 생성)
+  private static final AtomicReferenceArray<Prebuilt> DEFAULTS =
+      new AtomicReferenceArray<>(ErrorCode.values().length);
+
   private boolean success; // 성공 여부 (항상 false)
   private String code; // 에러 코드 (예: "POST_ACCESS_DENIED")
   private String message; // 에러 메세지 (예: "작성자를 찾을 수 없습니다.")
   private LocalDateTime timestamp; // 에러 발생 시간
 
+  private record Prebuilt(long epochSecond, ErrorResponseDTO response) {}
+
   public static ErrorResponseDTO of(
       ErrorCode errorCode) { // 정적 팩토리메서드 of() : A of B ➡ "B로 부터 A를 만들어라"
-    return ErrorResponseDTO.builder()
-        .success(false)
-        .code(errorCode.getCode()) // ErrorCode에서 코드 가져옴
-        .message(errorCode.getMessage()) // ErrorCode에서 메세지 가져옴
-        .timestamp(LocalDateTime.now())
-        .build();
+    long epochSecond = System.currentTimeMillis() / 1000;
+    Prebuilt prebuilt = DEFAULTS.get(errorCode.ordinal());
+    if (prebuilt != null && prebuilt.epochSecond() == epochSecond) {
+      return prebuilt.response();
+    }
+    ErrorResponseDTO response =
+        ErrorResponseDTO.builder()
+            .success(false)
+            .code(errorCode.getCode()) // ErrorCode에서 코드 가져옴
+            .message(errorCode.getMessage()) // ErrorCode에서 메세지 가져옴
+            .timestamp(LocalDateTime.now())
+            .build();
+    DEFAULTS.set(errorCode.ordinal(), new Prebuilt(epochSecond, response));
+    return response;
   }
 
   public static ErrorResponseDTO of(ErrorCode errorCode, String message) {
+    if (message == null || message.equals(errorCode.getMessage())) {
+      return of(errorCode);
+    }
     return ErrorResponseDTO.builder()
         .success(false)
         .code(errorCode.getCode())
@@ -0,0 +1,75 @@
+package com.example.communityservice.global.exception;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예상된 오류(잘못된 ID, 익명 비밀번호 불일치, 입력값 오류 등) 로그 제한 <br>
+ * - ErrorCode별로 주기마다 첫 건만 메시지를 기록하고 나머지는 건수만 집계 <br>
+ * - 주기가 끝나면 ErrorCode별 건수를 한 줄로 기록 (건별 로그는 DEBUG) <br>
+ * - 크롤러가 없는 게시글 ID를 훑는 경우에도 로그 I/O가 요청 수에 비례해 늘지 않음
+ */
+@Slf4j
+@Component
+public class ExpectedErrorLogger {
+
+  private static final ErrorCode[] CODES = ErrorCode.values();
+
+  private final long intervalMillis;
+  // ErrorCode ordinal별 이번 주기 건수
+  private final LongAdder[] counts = new LongAdder[CODES.length];
+  // ErrorCode ordinal별 다음 메시지를 기록할 수 있는 시각
+  private final AtomicLongArray nextLogAt = new AtomicLongArray(CODES.length);
+
+  public ExpectedErrorLogger(@Value("${error.log.interval-ms:60000}") long intervalMillis) {
+    this.intervalMillis = intervalMillis;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * 예상된 오류 1건 기록
+   *
+   * @param errorCode 응답한 에러 코드
+   * @param message 응답 메시지
+   */
+  public void record(ErrorCode errorCode, String message) {
+    int slot = errorCode.ordinal();
+    counts[slot].increment();
+    if (log.isDebugEnabled()) {
+      log.debug("{}: {}", errorCode, message);
+      return;
+    }
+    long now = System.currentTimeMillis();
+    long allowedAt = nextLogAt.get(slot);
+    // 주기마다 한 스레드만 기록 (CAS에 실패한 스레드는 다른 스레드가 이미 기록한 것)
+    if (now >= allowedAt && nextLogAt.compareAndSet(slot, allowedAt, now + intervalMillis)) {
+      log.warn("{}: {} (같은 오류는 {}ms 동안 건수만 집계)", errorCode, message, intervalMillis);
+    }
+  }
+
+  /** 이번 주기의 ErrorCode별 건수를 기록하고 초기화 */
+  @Scheduled(
+      fixedDelayString = "${error.log.interval-ms:60000}",
+      initialDelayString = "${error.log.interval-ms:60000}")
+  public void flush() {
+    StringJoiner summary = new StringJoiner(", ");
+    for (int i = 0; i < counts.length; i++) {
+      long count = counts[i].sumThenReset();
+      if (count > 0) {
+        summary.add(CODES[i] + "=" + count);
+      }
+    }
+    if (summary.length() > 0) {
+      log.warn("최근 {}ms 예상된 오류: {}", intervalMillis, summary);
+    }
+  }
+}
@@ -7,18 +7,29 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-/** 전역 예외 처리 핸들러 모든 컨트롤러에서 발생하는 예외를 일관되게 처리 */
+/**
+ * 전역 예외 처리 핸들러 모든 컨트롤러에서 발생하는 예외를 일관되게 처리 <br>
+ * 4xx(예상된 오류)는 ExpectedErrorLogger로 제한/집계해서 기록하고, 5xx만 건별로 ERROR 기록
+ */
 @Slf4j
+@RequiredArgsConstructor
 @RestControllerAdvice // = @ControllerAdvice + @ResponseBody (JSON 응답을 자동으로 반환)
 public class GlobalExceptionHandler {
 
+  private final ExpectedErrorLogger expectedErrorLogger;
+
   // 비즈니스 로직 예외 처리
   @ExceptionHandler(BusinessException.class)
   protected ResponseEntity<ErrorResponseDTO> handleBusinessException(BusinessException e) {
-    log.error("BusinessException: {}", e.getMessage());
     ErrorCode errorCode = e.getErrorCode();
+    if (errorCode.getHttpStatus().is5xxServerError()) {
+      log.error("BusinessException: {}", e.getMessage(), e);
+    } else {
+      expectedErrorLogger.record(errorCode, e.getMessage());
+    }
     ErrorResponseDTO response = ErrorResponseDTO.of(errorCode, e.getMessage());
     return new ResponseEntity<>(response, errorCode.getHttpStatus());
   }
@@ -27,8 +38,8 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(MethodArgumentNotValidException.class)
   protected ResponseEntity<ErrorResponseDTO> handleMethodArgumentNotValidException(
       MethodArgumentNotValidException e) {
-    log.error("MethodArgumentNotValidException: {}", e.getMessage());
     String message = e.getBindingResult().getAllErrors().getFirst().getDefaultMessage();
+    expectedErrorLogger.record(ErrorCode.INVALID_INPUT_VALUE, message);
     ErrorResponseDTO response = ErrorResponseDTO.of(ErrorCode.INVALID_INPUT_VALUE, message);
     return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
   }
@@ -36,8 +47,8 @@ public class GlobalExceptionHandler {
   // Bean Validation 예외 처리 (일반적인 바인딩 오류)
   @ExceptionHandler(BindException.class)
   protected ResponseEntity<ErrorResponseDTO> handleBindException(BindException e) {
-    log.error("BindException: {}", e.getMessage());
     String message = e.getBindingResult().getAllErrors().getFirst().getDefaultMessage();
+    expectedErrorLogger.record(ErrorCode.INVALID_INPUT_VALUE, message);
     ErrorResponseDTO response = ErrorResponseDTO.of(ErrorCode.INVALID_INPUT_VALUE, message);
     return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
   }
@@ -46,7 +57,7 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(IllegalArgumentException.class)
   protected ResponseEntity<ErrorResponseDTO> handleIllegalArgumentException(
       IllegalArgumentException e) {
-    log.error("IllegalArgumentException: {}", e.getMessage());
+    expectedErrorLogger.record(ErrorCode.INVALID_INPUT_VALUE, e.getMessage());
     ErrorResponseDTO response = ErrorResponseDTO.of(ErrorCode.INVALID_INPUT_VALUE, e.getMessage());
     return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
   }
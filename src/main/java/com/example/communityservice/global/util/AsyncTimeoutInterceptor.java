@@ -0,0 +1,40 @@
+package com.example.communityservice.global.util;
+
+import java.util.concurrent.Callable;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * 요청별 비동기 응답 타임아웃 (StreamingResponseBody 등) <br>
+ * - 기본 타임아웃(spring.mvc.async.request-timeout)은 모든 비동기 요청에 적용되므로 짧게 유지 <br>
+ * - 오래 걸리는 요청만 컨트롤러에서 setTimeout()으로 지정 → 비동기 처리 시작 직전에 적용
+ */
+public class AsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+  private static final String TIMEOUT_ATTRIBUTE =
+      AsyncTimeoutInterceptor.class.getName() + ".timeout";
+
+  /**
+   * 이 요청의 비동기 응답 타임아웃 지정 (컨트롤러 메서드가 반환하기 전에 호출)
+   *
+   * @param timeoutMillis 타임아웃 (ms)
+   */
+  public static void setTimeout(HttpServletRequest request, long timeoutMillis) {
+    request.setAttribute(TIMEOUT_ATTRIBUTE, timeoutMillis);
+  }
+
+  @Override
+  public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+    // 비동기 처리가 시작되기 전이라 타임아웃을 바꿀 수 있음
+    if (request instanceof AsyncWebRequest asyncWebRequest
+        && request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof Long timeoutMillis) {
+      asyncWebRequest.setTimeout(timeoutMillis);
+    }
+  }
+}
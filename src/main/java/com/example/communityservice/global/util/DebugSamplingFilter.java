@@ -0,0 +1,56 @@
+package com.example.communityservice.global.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 요청마다 실행되는 DEBUG 로그 표본 추출 (logback-spring.xml에서 사용) <br>
+ * - 대상 패키지의 DEBUG 로그를 호출 위치(로그 메시지 형식)별로 rate건 중 1건만 기록 (첫 건은 항상 기록) <br>
+ * - 운영 중에 DEBUG를 켜도 로그 양이 요청 수에 비례해 폭증하지 않음 <br>
+ * - DEBUG가 꺼져 있으면 level 확인만 하고 바로 통과
+ */
+public class DebugSamplingFilter extends TurboFilter {
+
+  // 형식 문자열을 동적으로 만드는 호출이 있어도 메모리가 계속 늘지 않도록 제한
+  private static final int MAX_CALL_SITES = 10_000;
+
+  private final ConcurrentHashMap<String, AtomicLong> counts = new ConcurrentHashMap<>();
+  private String packagePrefix = "com.example.communityservice";
+  private int rate = 1;
+
+  public void setPackagePrefix(String packagePrefix) {
+    this.packagePrefix = packagePrefix;
+  }
+
+  public void setRate(int rate) {
+    this.rate = Math.max(1, rate);
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // isDebugEnabled() 같은 level 확인 호출은 format이 null
+    if (rate == 1
+        || level != Level.DEBUG
+        || format == null
+        || !Level.DEBUG.isGreaterOrEqual(logger.getEffectiveLevel())
+        || !logger.getName().startsWith(packagePrefix)) {
+      return FilterReply.NEUTRAL;
+    }
+    AtomicLong count = counts.get(format);
+    if (count == null) {
+      if (counts.size() >= MAX_CALL_SITES) {
+        return FilterReply.NEUTRAL;
+      }
+      count = counts.computeIfAbsent(format, key -> new AtomicLong());
+    }
+    return count.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+}
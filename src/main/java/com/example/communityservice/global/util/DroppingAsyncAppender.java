@@ -0,0 +1,33 @@
+package com.example.communityservice.global.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 요청 스레드를 막지 않는 비동기 로그 appender (logback-spring.xml에서 사용) <br>
+ * - 로그 이벤트는 크기가 고정된 큐에 넣고, 실제 콘솔/파일 출력은 별도 스레드가 처리 <br>
+ * - 큐 여유가 discardingThreshold 미만이면 INFO 이하를 버리고, 가득 차면 WARN/ERROR도 버림 (neverBlock) <br>
+ * - 버린 건수는 logging.events.dropped 메트릭으로 확인 (큐가 가득 차는 순간의 경합으로 약간 적게 셀 수 있음)
+ */
+public class DroppingAsyncAppender extends AsyncAppender {
+
+  // logback은 Spring보다 먼저 초기화되므로 메트릭 등록은 MetricsConfig에서 static 값으로 연결
+  private static final LongAdder DROPPED = new LongAdder();
+
+  /** 시작 이후 버린 로그 이벤트 수 */
+  public static long droppedCount() {
+    return DROPPED.sum();
+  }
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    if ((isQueueBelowDiscardingThreshold() && isDiscardable(event))
+        || getRemainingCapacity() == 0) {
+      DROPPED.increment();
+      return;
+    }
+    super.append(event);
+  }
+}
@@ -0,0 +1,350 @@
+package com.example.communityservice.global.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.communityservice.repository.PostAttachmentsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실제 파일 삭제 비동기 큐 <br>
+ * - DB 트랜잭션이 커밋된 뒤에만 삭제 작업을 등록 (롤백 시 파일 유지) <br>
+ * - 등록된 작업은 디스크 저널에 먼저 기록 → 서버가 죽어도 재시작 시 재처리 <br>
+ * - 백그라운드 워커가 batch 단위로 삭제하고, 실패하면 지수 백오프로 재시도
+ *
+ * <p>저널 형식 (한 줄에 한 작업): "+ URL" 삭제 예정 / "- URL" 처리 완료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDeletionQueue {
+
+  private final FileManager fileManager;
+  private final PostAttachmentsRepository postAttachmentsRepository;
+
+  @Value("${file.delete.journal-path:./data/file-deletion.journal}")
+  private String journalPath;
+
+  @Value("${file.delete.batch-size:100}")
+  private int batchSize;
+
+  @Value("${file.delete.max-attempts:5}")
+  private int maxAttempts;
+
+  @Value("${file.delete.retry-delay-ms:5000}")
+  private long retryDelayMs;
+
+  @Value("${file.delete.poll-interval-ms:1000}")
+  private long pollIntervalMs;
+
+  // 저널에 "- URL"이 이 줄 수 이상 쌓이고 대기 작업이 없으면 저널을 비움
+  @Value("${file.delete.journal-compact-threshold:10000}")
+  private int compactThreshold;
+
+  // 업로드 중(아직 커밋 전)인 요청이 재사용한 blob을 지우지 않도록 마지막 사용 후 이 시간 동안은 삭제하지 않음
+  @Value("${file.delete.shared-grace-ms:600000}")
+  private long sharedGraceMs;
+
+  private final DelayQueue<DeletionTask> queue = new DelayQueue<>();
+  private final Object journalLock = new Object();
+  private FileChannel journal;
+  private int journalLines;
+  private ScheduledExecutorService worker;
+
+  /** 삭제 작업 (notBeforeNanos 이전에는 꺼내지지 않음) */
+  private record DeletionTask(String fileUrl, int attempts, long notBeforeNanos)
+      implements Delayed {
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(notBeforeNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(notBeforeNanos, ((DeletionTask) other).notBeforeNanos);
+    }
+  }
+
+  /** 서버 시작 시 저널 재생 (커밋됐지만 아직 삭제되지 않은 파일을 다시 큐에 등록) 후 워커 시작 */
+  @PostConstruct
+  public void start() throws IOException {
+    Path path = Paths.get(journalPath);
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    List<String> pending = replay(path);
+    journal =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    journalLines = pending.size();
+
+    long now = System.nanoTime();
+    pending.forEach(url -> queue.add(new DeletionTask(url, 0, now)));
+    if (!pending.isEmpty()) {
+      log.info("파일 삭제 저널 재생: 대기 중인 삭제 작업 {}건 재등록", pending.size());
+    }
+
+    worker =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "file-deletion-worker");
+              thread.setDaemon(true);
+              return thread;
+            });
+    worker.scheduleWithFixedDelay(
+        this::drain, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() throws IOException {
+    if (worker != null) {
+      worker.shutdown();
+    }
+    synchronized (journalLock) {
+      if (journal != null) {
+        journal.close(); // 남은 작업은 저널에 남아 있으므로 다음 시작 시 재처리됨
+      }
+    }
+  }
+
+  /**
+   * 현재 트랜잭션 커밋 이후 파일 삭제를 예약 (트랜잭션 밖이면 즉시 예약)
+   *
+   * @param fileUrls 삭제할 파일들의 웹 URL 목록
+   */
+  public void enqueueAfterCommit(List<String> fileUrls) {
+    if (fileUrls == null || fileUrls.isEmpty()) {
+      return;
+    }
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      enqueueNow(fileUrls);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            enqueueNow(fileUrls);
+          }
+        });
+  }
+
+  /** 대기 중인 삭제 작업 수 */
+  public int size() {
+    return queue.size();
+  }
+
+  /**
+   * 트랜잭션과 무관하게 즉시 파일 삭제를 예약 (DB에 연결되지 않은 파일 정리용)
+   *
+   * @param fileUrls 삭제할 파일들의 웹 URL 목록
+   */
+  public void enqueueNow(List<String> fileUrls) {
+    if (fileUrls == null || fileUrls.isEmpty()) {
+      return;
+    }
+    synchronized (journalLock) {
+      try {
+        appendJournal('+', fileUrls);
+      } catch (IOException e) {
+        // 저널 기록 실패 시에도 삭제 자체는 시도 (재시작 시 재처리만 보장되지 않음)
+        log.error("파일 삭제 저널 기록 실패: {}", e.getMessage());
+      }
+      long now = System.nanoTime();
+      fileUrls.forEach(url -> queue.add(new DeletionTask(url, 0, now)));
+    }
+  }
+
+  /** 실행 가능한 작업을 batch 단위로 꺼내서 삭제 */
+  private void drain() {
+    try {
+      List<DeletionTask> batch = new ArrayList<>(batchSize);
+      while (queue.drainTo(batch, batchSize) > 0) {
+        processBatch(batch);
+        batch.clear();
+      }
+    } catch (Exception e) {
+      // 예외가 밖으로 나가면 scheduleWithFixedDelay가 중단되므로 여기서 처리
+      log.error("파일 삭제 워커 오류: {}", e.getMessage(), e);
+    }
+  }
+
+  private void processBatch(List<DeletionTask> batch) {
+    List<String> completed = new ArrayList<>(batch.size());
+    Set<String> referenced = findStillReferenced(batch);
+    for (DeletionTask task : batch) {
+      if (referenced.contains(task.fileUrl())) {
+        // 다른 첨부파일이 아직 같은 blob을 사용 중 → 파일은 남기고 작업만 완료 처리
+        log.debug("공유 파일 삭제 생략 (참조 중): {}", task.fileUrl());
+        completed.add(task.fileUrl());
+        continue;
+      }
+      try {
+        if (deleteOrDefer(task)) {
+          continue;
+        }
+        deleteVariants(task.fileUrl());
+        completed.add(task.fileUrl());
+      } catch (Exception e) {
+        int attempts = task.attempts() + 1;
+        if (attempts >= maxAttempts) {
+          // 더 이상 재시도하지 않음 (남은 파일은 고아 파일 정리 작업에서 처리)
+          log.error("파일 삭제 최종 실패 ({}회 시도): {}, 오류: {}", attempts, task.fileUrl(), e.getMessage());
+          completed.add(task.fileUrl());
+        } else {
+          long delayMs = retryDelayMs << (attempts - 1); // 지수 백오프
+          log.warn("파일 삭제 실패, {}ms 후 재시도 ({}회): {}", delayMs, attempts, task.fileUrl());
+          queue.add(
+              new DeletionTask(
+                  task.fileUrl(),
+                  attempts,
+                  System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs)));
+        }
+      }
+    }
+
+    synchronized (journalLock) {
+      try {
+        appendJournal('-', completed);
+        compactIfIdle();
+      } catch (IOException e) {
+        log.error("파일 삭제 저널 기록 실패: {}", e.getMessage());
+      }
+    }
+  }
+
+  /** 원본과 함께 이미지 축소본 삭제 (축소본은 다시 만들 수 있으므로 실패해도 재시도하지 않음) */
+  private void deleteVariants(String fileUrl) {
+    for (String variantUrl : ImageVariant.allVariantUrls(fileUrl)) {
+      try {
+        fileManager.deleteIfExists(variantUrl);
+      } catch (IOException | RuntimeException e) {
+        log.warn("축소본 삭제 실패: {}, 오류: {}", variantUrl, e.getMessage());
+      }
+    }
+  }
+
+  /** batch 안의 blob URL 중 아직 DB에서 참조 중인 URL을 한 번의 쿼리로 조회 */
+  private Set<String> findStillReferenced(List<DeletionTask> batch) {
+    List<String> sharedUrls =
+        batch.stream()
+            .map(DeletionTask::fileUrl)
+            .filter(fileManager::isContentAddressed)
+            .distinct()
+            .toList();
+    if (sharedUrls.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(postAttachmentsRepository.findReferencedFileUrls(sharedUrls));
+  }
+
+  /**
+   * 원본 파일 삭제 <br>
+   * blob은 유예 시간 안에 재사용됐으면 삭제하지 않고 남은 시간만큼 뒤로 미룸 (시도 횟수는 늘리지 않음) <br>
+   * 미룬 작업은 다시 꺼낼 때 DB 참조부터 다시 확인 (그 사이 재사용한 업로드가 커밋됐으면 파일 유지)
+   *
+   * @return 뒤로 미뤘으면 true
+   */
+  private boolean deleteOrDefer(DeletionTask task) {
+    if (!fileManager.isContentAddressed(task.fileUrl())) {
+      fileManager.deleteFile(task.fileUrl());
+      return false;
+    }
+    long remainingMs = fileManager.deleteBlobIfIdle(task.fileUrl(), sharedGraceMs);
+    if (remainingMs <= 0) {
+      return false;
+    }
+    queue.add(
+        new DeletionTask(
+            task.fileUrl(),
+            task.attempts(),
+            System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMs)));
+    return true;
+  }
+
+  /** 여러 줄을 한 번에 기록하고 디스크에 강제 반영 (journalLock 안에서 호출) */
+  private void appendJournal(char op, List<String> fileUrls) throws IOException {
+    if (fileUrls.isEmpty()) {
+      return;
+    }
+    StringBuilder lines = new StringBuilder();
+    for (String url : fileUrls) {
+      lines.append(op).append(' ').append(url).append('\n');
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+    while (buffer.hasRemaining()) {
+      journal.write(buffer);
+    }
+    journal.force(false);
+    journalLines += fileUrls.size();
+  }
+
+  /** 대기 작업이 없을 때 저널이 충분히 커졌으면 비움 (journalLock 안에서 호출) */
+  private void compactIfIdle() throws IOException {
+    if (queue.isEmpty() && journalLines >= compactThreshold) {
+      journal.truncate(0);
+      journal.force(true);
+      journalLines = 0;
+    }
+  }
+
+  /** 저널을 읽어서 완료되지 않은 URL 목록을 반환하고, 저널을 미완료 작업만 남도록 다시 씀 */
+  private List<String> replay(Path path) throws IOException {
+    if (!Files.exists(path)) {
+      return List.of();
+    }
+
+    Map<String, Integer> pendingCounts = new LinkedHashMap<>();
+    for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+      if (line.length() < 3) {
+        continue; // 비정상 종료로 잘린 줄 무시
+      }
+      String url = line.substring(2);
+      if (line.charAt(0) == '+') {
+        pendingCounts.merge(url, 1, Integer::sum);
+      } else if (line.charAt(0) == '-') {
+        pendingCounts.computeIfPresent(url, (key, count) -> count > 1 ? count - 1 : null);
+      }
+    }
+
+    List<String> pending = new ArrayList<>(pendingCounts.keySet());
+    Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+    StringBuilder lines = new StringBuilder();
+    pending.forEach(url -> lines.append("+ ").append(url).append('\n'));
+    Files.writeString(compacted, lines, StandardCharsets.UTF_8);
+    Files.move(
+        compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    return pending;
+  }
+}
@@ -2,35 +2,82 @@ package com.example.communityservice.global.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.communityservice.global.exception.BusinessException;
 import com.example.communityservice.global.exception.ErrorCode;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /** 파일 시스템 관리 유틸리티 파일 저장, 삭제, 검증 등 파일 관련 기본 기능 제공 */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileManager {
 
+  // file.storage.backend=segment일 때만 존재 (기본은 날짜별 디렉토리에 파일 하나씩 저장)
+  private final Optional<SegmentStore> segmentStore;
+  private final MeterRegistry meterRegistry;
+
   @Value("${file.upload.path}") // 프로젝트 폴더/uploads
   private String baseUploadPath;
 
   @Value("${file.upload.max-size}") // 10MB
   private long maxFileSize;
 
+  // 내용 기반 저장소 사용 여부 (true면 같은 내용의 파일을 한 번만 저장)
+  @Value("${file.upload.dedup.enabled:false}")
+  private boolean dedupEnabled;
+
+  // 이 크기 이하의 파일은 segment 저장소에 저장 (segment 백엔드 사용 시)
+  @Value("${file.storage.segment.max-file-size:262144}")
+  private long segmentMaxFileSize;
+
+  /** segment 저장소에 저장된 파일의 URL 접두어 (UploadsController에서 서빙) */
+  public static final String SEGMENT_URL_PREFIX = "/uploads/segments/";
+
+  /** 내용 기반 저장소 디렉토리 (uploads 하위) */
+  public static final String BLOB_DIRECTORY = "blobs";
+
+  /** 업로드 스트리밍 버퍼 크기 (파일 크기와 무관하게 업로드당 힙 사용량을 이 정도로 고정) */
+  private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
+  /** blob 잠금 수 (해시로 나눠 쓰므로 같은 blob은 항상 같은 잠금) */
+  private static final int BLOB_LOCK_STRIPES = 256;
+
+  // 같은 blob의 재사용(moveIntoBlobStore)과 삭제(deleteBlobIfIdle)를 서로 배제
+  private final Object[] blobLocks = newBlobLocks();
+
   /** 허용되는 파일 확장자 목록 */
   private final List<String> allowedExtensions =
       List.of(
@@ -42,11 +89,28 @@ public class FileManager {
    *
    * @param file 저장할 파일
    * @param subDirectory 하위 디렉토리 (예: "posts")
-   * @return 웹 접근 가능한 URL (예: /uploads/posts/2025/09/18/filename.jpg)
+   * @return 저장 결과 (URL 예: /uploads/posts/2025/09/18/filename.jpg, 크기, SHA-256)
    */
-  public String saveFile(MultipartFile file, String subDirectory) {
+  public SavedFile saveFile(MultipartFile file, String subDirectory) {
+    long startTime = System.nanoTime();
+    SavedFile saved = storeFile(file, subDirectory);
+    recordSave(saved, "multipart", startTime);
+    return saved;
+  }
+
+  private SavedFile storeFile(MultipartFile file, String subDirectory) {
     validateFile(file);
 
+    // 작은 파일은 segment에 모아서 저장 (파일마다 inode를 만들지 않음)
+    if (segmentStore.isPresent() && file.getSize() <= segmentMaxFileSize) {
+      return saveToSegment(file, segmentStore.get());
+    }
+
+    // 내용 기반 저장소 사용 시 같은 내용은 한 번만 저장
+    if (dedupEnabled) {
+      return saveDeduplicated(file);
+    }
+
     // 날짜별 디렉토리 구조 생성 (예: uploads/posts/2025/09/24/)
     String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
     String fullDirectoryPath =
@@ -61,45 +125,232 @@ public class FileManager {
       String uniqueFileName = generateUniqueFileName(originalFilename);
       String fullFilePath = fullDirectoryPath + File.separator + uniqueFileName;
 
-      // 파일 저장
+      // 파일 저장 (getBytes()로 파일 전체를 힙에 올리지 않고 multipart 스트림에서 바로 기록)
       Path filePath = Paths.get(fullFilePath); // Paths.get(...) → 문자열 경로를 Path 객체로 변환
-      Files.write(filePath, file.getBytes()); // 지정한 Path에 바이트 배열을 그대로 쓰면서 파일 생성
+      StreamedFile streamed = streamToTempFile(file, filePath.getParent());
+      Files.move(streamed.tempFile(), filePath, StandardCopyOption.ATOMIC_MOVE);
 
       // 웹 접근 가능한 URL 생성 (예: /uploads/posts/2025/09/18/filename.jpg)
       String webUrl = String.format("/uploads/%s/%s/%s", subDirectory, datePath, uniqueFileName);
 
-      log.info("파일 저장 완료: {} -> {} (URL: {})", originalFilename, fullFilePath, webUrl);
+      log.debug("파일 저장 완료: {} -> {} (URL: {})", originalFilename, fullFilePath, webUrl);
+
+      return new SavedFile(webUrl, uniqueFileName, streamed.size(), streamed.sha256());
+    } catch (IOException e) {
+      log.error("파일 저장 실패: {}, 오류: {}", file.getOriginalFilename(), e.getMessage(), e);
+      throw new BusinessException(ErrorCode.FILE_SAVE_FAILED, e.getMessage());
+    }
+  }
+
+  /**
+   * 이미 디스크에 모두 받아둔 파일(분할 업로드 staging 파일)을 업로드 파일 저장 위치로 이동 <br>
+   * 저장 방식(segment/내용 기반/날짜별 디렉토리) 선택 규칙은 saveFile과 같음
+   *
+   * @param stagedFile 받아둔 파일 (성공하면 이동되어 사라짐)
+   * @param originalFilename 원본 파일명
+   * @param sha256 파일 내용의 SHA-256
+   * @param subDirectory 하위 디렉토리 (예: "posts")
+   * @return 저장 결과
+   */
+  public SavedFile saveStagedFile(
+      Path stagedFile, String originalFilename, String sha256, String subDirectory) {
+    long startTime = System.nanoTime();
+    SavedFile saved = storeStagedFile(stagedFile, originalFilename, sha256, subDirectory);
+    recordSave(saved, "chunked", startTime);
+    return saved;
+  }
+
+  private SavedFile storeStagedFile(
+      Path stagedFile, String originalFilename, String sha256, String subDirectory) {
+    try {
+      long size = Files.size(stagedFile);
+      validateFileMetadata(originalFilename, size);
+      String extension = getFileExtension(originalFilename).toLowerCase();
+
+      if (segmentStore.isPresent() && size <= segmentMaxFileSize) {
+        String name = UUID.randomUUID().toString().replace("-", "") + "." + extension;
+        segmentStore.get().put(name, stagedFile);
+        Files.deleteIfExists(stagedFile);
+        return new SavedFile(SEGMENT_URL_PREFIX + name, name, size, sha256);
+      }
+
+      if (dedupEnabled) {
+        Path blobRoot = Paths.get(baseUploadPath, BLOB_DIRECTORY);
+        createDirectories(blobRoot.toString());
+        return moveIntoBlobStore(moveToDirectory(stagedFile, blobRoot), sha256, extension, size);
+      }
+
+      String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+      Path directory = Paths.get(baseUploadPath, subDirectory, datePath);
+      createDirectories(directory.toString());
+      String uniqueFileName = generateUniqueFileName(originalFilename);
+      Files.move(
+          moveToDirectory(stagedFile, directory),
+          directory.resolve(uniqueFileName),
+          StandardCopyOption.ATOMIC_MOVE);
+
+      String webUrl = String.format("/uploads/%s/%s/%s", subDirectory, datePath, uniqueFileName);
+      log.debug("파일 저장 완료 (분할 업로드): {} (URL: {})", originalFilename, webUrl);
+      return new SavedFile(webUrl, uniqueFileName, size, sha256);
+    } catch (IOException e) {
+      log.error("파일 저장 실패: {}, 오류: {}", originalFilename, e.getMessage(), e);
+      throw new BusinessException(ErrorCode.FILE_SAVE_FAILED, e.getMessage());
+    }
+  }
+
+  /** 파일 저장 시간/바이트 수 기록 (저장 방식별 처리량: file.save.bytes 합계의 증가율) */
+  private void recordSave(SavedFile saved, String source, long startNanos) {
+    String backend =
+        isSegmentStored(saved.fileUrl())
+            ? "segment"
+            : isContentAddressed(saved.fileUrl()) ? "blob" : "local";
+    Timer.builder("file.save")
+        .description("파일 저장 시간")
+        .tags("backend", backend, "source", source)
+        .register(meterRegistry)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    DistributionSummary.builder("file.save.bytes")
+        .description("저장한 파일 크기")
+        .baseUnit("bytes")
+        .tags("backend", backend, "source", source)
+        .register(meterRegistry)
+        .record(saved.size());
+  }
+
+  /** 파일을 대상 디렉토리의 임시 파일로 이동 (다른 파일시스템이면 복사 후 원본 삭제) */
+  private Path moveToDirectory(Path source, Path directory) throws IOException {
+    Path target = directory.resolve(".staged-" + UUID.randomUUID() + ".tmp");
+    try {
+      return Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.copy(source, target);
+      Files.delete(source);
+      return target;
+    }
+  }
+
+  /** segment 저장소에 저장 (이름은 UUID, URL은 /uploads/segments/{이름}) */
+  private SavedFile saveToSegment(MultipartFile file, SegmentStore store) {
+    try {
+      StreamedFile streamed = streamToTempFile(file, store.tempDirectory());
+      try {
+        String extension = getFileExtension(file.getOriginalFilename()).toLowerCase();
+        String name = UUID.randomUUID().toString().replace("-", "") + "." + extension;
+        store.put(name, streamed.tempFile());
+        log.debug("파일 저장 완료 (segment): {} -> {}", file.getOriginalFilename(), name);
+        return new SavedFile(SEGMENT_URL_PREFIX + name, name, streamed.size(), streamed.sha256());
+      } finally {
+        Files.deleteIfExists(streamed.tempFile());
+      }
+    } catch (IOException e) {
+      log.error("파일 저장 실패: {}, 오류: {}", file.getOriginalFilename(), e.getMessage(), e);
+      throw new BusinessException(ErrorCode.FILE_SAVE_FAILED, e.getMessage());
+    }
+  }
+
+  /**
+   * 내용 기반(SHA-256) 저장 <br>
+   * - 경로: uploads/blobs/{해시 앞 2자리}/{다음 2자리}/{해시}.{확장자} <br>
+   * - 같은 내용의 파일이 이미 있으면 새로 쓰지 않고 기존 파일을 공유 (참조 수는 PostAttachments.fileUrl로 판단)
+   */
+  private SavedFile saveDeduplicated(MultipartFile file) {
+    try {
+      Path blobRoot = Paths.get(baseUploadPath, BLOB_DIRECTORY);
+      createDirectories(blobRoot.toString());
 
-      return webUrl;
+      // 해시는 다 읽어야 알 수 있으므로 blobs 루트에 임시로 쓴 뒤 최종 위치로 이동
+      StreamedFile streamed = streamToTempFile(file, blobRoot);
+      String extension = getFileExtension(file.getOriginalFilename()).toLowerCase();
+      return moveIntoBlobStore(streamed.tempFile(), streamed.sha256(), extension, streamed.size());
     } catch (IOException e) {
       log.error("파일 저장 실패: {}, 오류: {}", file.getOriginalFilename(), e.getMessage(), e);
       throw new BusinessException(ErrorCode.FILE_SAVE_FAILED, e.getMessage());
     }
   }
 
+  /**
+   * 기존 업로드 파일을 내용 기반 저장소로 편입 (마이그레이션용) <br>
+   * 원본은 그대로 두고 하드 링크(불가능하면 복사)로 만들기 때문에, 원본 삭제는 DB 갱신 이후 호출 측에서 처리
+   *
+   * @param fileUrl 기존 파일의 웹 URL
+   * @return 내용 기반 저장소의 저장 결과
+   */
+  public SavedFile adoptIntoBlobStore(String fileUrl) {
+    Path source = resolvePath(fileUrl);
+    try {
+      Path blobRoot = Paths.get(baseUploadPath, BLOB_DIRECTORY);
+      createDirectories(blobRoot.toString());
+
+      String sha256 = sha256Of(source);
+      String extension = getFileExtension(source.getFileName().toString()).toLowerCase();
+      Path tempFile = blobRoot.resolve(".adopt-" + UUID.randomUUID() + ".tmp");
+      try {
+        Files.createLink(tempFile, source); // 같은 파일시스템이면 데이터 복사 없이 링크만 생성
+      } catch (UnsupportedOperationException | IOException e) {
+        Files.copy(source, tempFile);
+      }
+      return moveIntoBlobStore(tempFile, sha256, extension, Files.size(source));
+    } catch (IOException e) {
+      log.error("내용 기반 저장소 편입 실패: {}, 오류: {}", fileUrl, e.getMessage());
+      throw new BusinessException(ErrorCode.FILE_PROCESSING_ERROR, e.getMessage());
+    }
+  }
+
+  /** 임시 파일을 해시 경로로 이동 (이미 같은 내용이 있으면 임시 파일만 삭제) */
+  private SavedFile moveIntoBlobStore(Path tempFile, String sha256, String extension, long size)
+      throws IOException {
+    String blobName = extension.isEmpty() ? sha256 : sha256 + "." + extension;
+    String relativeDirectory =
+        BLOB_DIRECTORY + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4);
+    Path directory = Paths.get(baseUploadPath, relativeDirectory.split("/"));
+    createDirectories(directory.toString());
+    Path target = directory.resolve(blobName);
+
+    // 존재 확인과 수정 시각 갱신 사이에 삭제 큐가 지우지 못하도록 잠금 안에서 처리
+    synchronized (blobLock(sha256)) {
+      if (Files.exists(target)) {
+        Files.deleteIfExists(tempFile);
+        // 삭제 큐가 방금 재사용된 blob을 지우지 않도록 수정 시각 갱신 (deleteBlobIfIdle 참고)
+        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        log.debug("중복 파일 재사용: {}", blobName);
+      } else {
+        // 같은 내용이 동시에 올라와도 rename은 원자적이고 결과 내용이 같으므로 덮어써도 안전
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("파일 저장 완료 (내용 기반): {}", target);
+      }
+    }
+
+    String webUrl = "/uploads/" + relativeDirectory + "/" + blobName;
+    return new SavedFile(webUrl, blobName, size, sha256);
+  }
+
   /**
    * 파일 삭제 (웹 URL을 받아서 실제 파일 경로로 변환 후 삭제)
    *
    * @param fileUrl 삭제할 파일의 웹 URL (예: /uploads/posts/2025/09/18/file.jpg)
    */
   public void deleteFile(String fileUrl) {
+    if (isSegmentStored(fileUrl)) {
+      try {
+        if (requireSegmentStore().delete(segmentName(fileUrl))) {
+          log.debug("파일 삭제 완료 (segment): {}", fileUrl);
+        } else {
+          log.warn("삭제할 파일이 존재하지 않음 (segment): {}", fileUrl);
+        }
+        return;
+      } catch (IOException e) {
+        log.error("파일 삭제 실패: {}, 오류: {}", fileUrl, e.getMessage());
+        throw new BusinessException(ErrorCode.FILE_DELETE_FAILED, e.getMessage());
+      }
+    }
+
+    Path path = resolvePath(fileUrl); // 실제 파일 시스템 상의 위치를 나타내는 Path 객체 생성
     try {
-      // URL을 실제 파일 경로로 변환 (예: /uploads/posts/... -> ./uploads/posts/...)
-      String relativePath =
-          fileUrl.startsWith("/uploads/")
-              ? fileUrl.substring("/uploads/".length())
-              : fileUrl; // "/uploads/" 접두어 제거
-      String fullFilePath =
-          baseUploadPath
-              + File.separator
-              + relativePath.replace("/", File.separator); // OS에 맞게 경로 구분자(/ or \) 변환
-
-      Path path = Paths.get(fullFilePath); // 실제 파일 시스템 상의 위치를 나타내는 Path 객체 생성
       boolean deleted = Files.deleteIfExists(path);
       if (deleted) {
-        log.info("파일 삭제 완료: {} (URL: {})", fullFilePath, fileUrl);
+        log.debug("파일 삭제 완료: {} (URL: {})", path, fileUrl);
       } else {
-        log.warn("삭제할 파일이 존재하지 않음: {} (URL: {})", fullFilePath, fileUrl);
+        log.warn("삭제할 파일이 존재하지 않음: {} (URL: {})", path, fileUrl);
       }
     } catch (IOException e) {
       log.error("파일 삭제 실패: {}, 오류: {}", fileUrl, e.getMessage());
@@ -107,22 +358,328 @@ public class FileManager {
     }
   }
 
+  /**
+   * 마지막 사용 후 유예 시간이 지난 blob만 삭제 <br>
+   * - 재사용(moveIntoBlobStore)과 같은 잠금 안에서 수정 시각 확인 + 삭제 → 확인 직후 재사용된 blob을 지우지 않음 <br>
+   * - 유예 중이면 삭제하지 않고 남은 시간을 반환 (호출 측이 그 뒤에 DB 참조를 다시 확인하고 재시도)
+   *
+   * @param fileUrl 삭제할 blob의 웹 URL
+   * @param graceMs 마지막 사용(저장/재사용) 후 삭제하지 않는 시간
+   * @return 0이면 삭제했거나 이미 없음, 양수면 유예가 끝날 때까지 남은 시간(ms)
+   */
+  public long deleteBlobIfIdle(String fileUrl, long graceMs) {
+    Path path = resolvePath(fileUrl);
+    synchronized (blobLock(blobHashOf(fileUrl))) {
+      try {
+        if (!Files.exists(path)) {
+          log.warn("삭제할 파일이 존재하지 않음: {} (URL: {})", path, fileUrl);
+          return 0;
+        }
+        long idleMs = System.currentTimeMillis() - Files.getLastModifiedTime(path).toMillis();
+        if (idleMs < graceMs) {
+          return graceMs - idleMs;
+        }
+        Files.deleteIfExists(path);
+        log.debug("파일 삭제 완료 (내용 기반): {} (URL: {})", path, fileUrl);
+        return 0;
+      } catch (IOException e) {
+        log.error("파일 삭제 실패: {}, 오류: {}", fileUrl, e.getMessage());
+        throw new BusinessException(ErrorCode.FILE_DELETE_FAILED, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 파일이 있으면 삭제 (로그 없이, 축소본처럼 없을 수도 있는 파일 정리용)
+   *
+   * @param fileUrl 삭제할 파일의 웹 URL
+   * @return 삭제했으면 true
+   */
+  public boolean deleteIfExists(String fileUrl) throws IOException {
+    if (isSegmentStored(fileUrl)) {
+      return requireSegmentStore().delete(segmentName(fileUrl));
+    }
+    return Files.deleteIfExists(resolvePath(fileUrl));
+  }
+
+  /**
+   * 저장된 파일을 Resource로 조회 (저장 방식과 무관하게 읽기)
+   *
+   * @param fileUrl 파일의 웹 URL
+   * @return 일반 파일은 FileSystemResource, segment 파일은 메모리 매핑된 SegmentResource (없으면 empty)
+   */
+  public Optional<Resource> findResource(String fileUrl) throws IOException {
+    if (isSegmentStored(fileUrl)) {
+      return requireSegmentStore().load(segmentName(fileUrl));
+    }
+    Path path = resolvePath(fileUrl);
+    return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+  }
+
+  /**
+   * 저장된 파일이 있는지 확인
+   *
+   * @param fileUrl 파일의 웹 URL
+   * @return 있으면 true
+   */
+  public boolean exists(String fileUrl) {
+    if (isSegmentStored(fileUrl)) {
+      return segmentStore.map(store -> store.contains(segmentName(fileUrl))).orElse(false);
+    }
+    return Files.isRegularFile(resolvePath(fileUrl));
+  }
+
+  /**
+   * 파일 URL 위치에 저장할 내용을 쓸 임시 파일 생성 (최종 위치와 같은 파일시스템)
+   *
+   * @param fileUrl 최종 저장할 웹 URL
+   * @return 임시 파일 경로 ({@link #storeTempFile}로 저장하거나 호출 측에서 삭제)
+   */
+  public Path createTempFileFor(String fileUrl) throws IOException {
+    Path directory =
+        isSegmentStored(fileUrl)
+            ? requireSegmentStore().tempDirectory()
+            : resolvePath(fileUrl).getParent();
+    return Files.createTempFile(directory, ".variant-", ".tmp");
+  }
+
+  /**
+   * 임시 파일을 파일 URL 위치에 저장 (일반 파일은 원자적 이동, segment 파일은 segment에 추가 후 임시 파일 삭제)
+   *
+   * @param tempFile {@link #createTempFileFor}로 만든 임시 파일
+   * @param fileUrl 저장할 웹 URL
+   */
+  public void storeTempFile(Path tempFile, String fileUrl) throws IOException {
+    if (isSegmentStored(fileUrl)) {
+      try {
+        requireSegmentStore().put(segmentName(fileUrl), tempFile);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+      return;
+    }
+    Files.move(
+        tempFile,
+        resolvePath(fileUrl),
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * segment 저장소에 저장된 파일의 URL인지 확인
+   *
+   * @param fileUrl 파일의 웹 URL
+   * @return /uploads/segments/ 하위이면 true
+   */
+  public boolean isSegmentStored(String fileUrl) {
+    return fileUrl.startsWith(SEGMENT_URL_PREFIX);
+  }
+
+  private String segmentName(String fileUrl) {
+    return fileUrl.substring(SEGMENT_URL_PREFIX.length());
+  }
+
+  private SegmentStore requireSegmentStore() {
+    // 설정을 local로 되돌린 뒤에도 예전에 segment로 저장된 URL이 남아 있을 수 있음
+    return segmentStore.orElseThrow(
+        () ->
+            new BusinessException(
+                ErrorCode.FILE_PROCESSING_ERROR,
+                "segment 저장소가 비활성화되어 있습니다 (file.storage.backend)."));
+  }
+
+  /**
+   * 웹 URL을 실제 파일 경로로 변환 (예: /uploads/posts/... -> ./uploads/posts/...)
+   *
+   * @param fileUrl 파일의 웹 URL
+   * @return 실제 파일 경로
+   */
+  public Path resolvePath(String fileUrl) {
+    String relativePath =
+        fileUrl.startsWith("/uploads/")
+            ? fileUrl.substring("/uploads/".length())
+            : fileUrl; // "/uploads/" 접두어 제거
+    return Paths.get(
+        baseUploadPath
+            + File.separator
+            + relativePath.replace("/", File.separator)); // OS에 맞게 경로 구분자(/ or \) 변환
+  }
+
+  /**
+   * 내용 기반 저장소(여러 첨부파일이 공유할 수 있는 파일)의 URL인지 확인
+   *
+   * @param fileUrl 파일의 웹 URL
+   * @return blobs 하위 파일이면 true
+   */
+  public boolean isContentAddressed(String fileUrl) {
+    return fileUrl.startsWith("/uploads/" + BLOB_DIRECTORY + "/");
+  }
+
+  /**
+   * 내용 기반 저장소 파일이면 그 blob의 잠금을 잡고 실행 (중복 업로드의 재사용, 삭제 큐의 삭제와 배제) <br>
+   * 다른 저장 방식의 파일은 이름이 재사용되지 않으므로 잠금 없이 실행
+   *
+   * @param fileUrl 파일 웹 URL
+   * @param action 잠금 안에서 실행할 작업 (짧게 유지: 같은 잠금을 쓰는 다른 blob의 저장도 기다림)
+   */
+  public void withBlobLock(String fileUrl, Runnable action) {
+    if (!isContentAddressed(fileUrl)) {
+      action.run();
+      return;
+    }
+    synchronized (blobLock(blobHashOf(fileUrl))) {
+      action.run();
+    }
+  }
+
+  /** blob URL의 파일 이름에서 해시 부분만 추출 (확장자 제외) */
+  private static String blobHashOf(String fileUrl) {
+    String blobName = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+    int dot = blobName.indexOf('.');
+    return dot < 0 ? blobName : blobName.substring(0, dot);
+  }
+
+  private Object blobLock(String sha256) {
+    return blobLocks[Math.floorMod(sha256.hashCode(), BLOB_LOCK_STRIPES)];
+  }
+
+  private static Object[] newBlobLocks() {
+    Object[] locks = new Object[BLOB_LOCK_STRIPES];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
+    return locks;
+  }
+
+  /** 스트리밍 저장 결과 (임시 파일, 기록된 바이트 수, SHA-256) */
+  private record StreamedFile(Path tempFile, long size, String sha256) {}
+
+  /**
+   * multipart 스트림을 고정 크기 버퍼로 읽어 지정한 디렉토리의 임시 파일에 기록 <br>
+   * - 기록하면서 크기 제한을 검사하고 SHA-256을 계산 (파일을 다시 읽지 않음) <br>
+   * - 같은 디렉토리(같은 파일시스템)에 만들기 때문에 호출 측에서 최종 경로로 원자적 이동 가능 <br>
+   * - 중간에 실패하면 임시 파일을 지우고 예외를 그대로 전달
+   */
+  private StreamedFile streamToTempFile(MultipartFile file, Path directory) throws IOException {
+    MessageDigest digest = newSha256();
+    byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+    long size = 0;
+
+    Path tempFile = Files.createTempFile(directory, ".upload-", ".tmp");
+    try (InputStream in = file.getInputStream();
+        FileChannel out = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        size += read;
+        // Content-Length(getSize)는 신뢰할 수 없으므로 실제로 읽은 바이트 기준으로 다시 검사
+        if (size > maxFileSize) {
+          throw new BusinessException(
+              ErrorCode.FILE_SIZE_EXCEEDED,
+              String.format("파일 크기가 제한을 초과했습니다. (최대: %dMB)", maxFileSize / (1024 * 1024)));
+        }
+        digest.update(buffer, 0, read);
+        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+        while (chunk.hasRemaining()) {
+          out.write(chunk);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(tempFile);
+      throw e;
+    }
+
+    return new StreamedFile(tempFile, size, HexFormat.of().formatHex(digest.digest()));
+  }
+
+  /**
+   * 디스크에 있는 파일의 SHA-256 계산 (고정 크기 버퍼)
+   *
+   * @param path 파일 경로
+   * @return 16진수 SHA-256 문자열
+   */
+  public String sha256Of(Path path) throws IOException {
+    MessageDigest digest = newSha256();
+    ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * 스트림을 고정 크기 버퍼로 읽어 파일의 offset 위치에 정확히 length bytes 기록 (분할 업로드 조각용) <br>
+   * 기록하면서 SHA-256을 계산하고, 호출 측이 받은 것으로 표시하기 전에 디스크에 반영(force)
+   *
+   * @param path 기록할 파일 (이미 존재해야 함)
+   * @param offset 기록 시작 위치
+   * @param length 기록할 바이트 수 (본문이 더 길거나 짧으면 INVALID_CHUNK)
+   * @param body 입력 스트림
+   * @return 기록한 내용의 16진수 SHA-256 문자열
+   */
+  public String writeAt(Path path, long offset, long length, InputStream body) throws IOException {
+    MessageDigest digest = newSha256();
+    byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+    long written = 0;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      int read;
+      while ((read = body.read(buffer)) != -1) {
+        if (written + read > length) {
+          throw new BusinessException(ErrorCode.INVALID_CHUNK, "조각 크기가 예상보다 큽니다.");
+        }
+        digest.update(buffer, 0, read);
+        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+        while (chunk.hasRemaining()) {
+          written += channel.write(chunk, offset + written);
+        }
+      }
+      if (written != length) {
+        throw new BusinessException(ErrorCode.INVALID_CHUNK, "조각 크기가 예상보다 작습니다.");
+      }
+      channel.force(false);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 지원하지 않는 JVM입니다.", e); // 모든 JVM에서 필수 지원
+    }
+  }
+
   /** 파일 유효성 검증 */
   private void validateFile(MultipartFile file) {
     // 빈 파일 여부 체크
     if (file.isEmpty()) {
       throw new BusinessException(ErrorCode.EMPTY_FILE);
     }
+    validateFileMetadata(file.getOriginalFilename(), file.getSize());
+  }
+
+  /**
+   * 파일명/크기 검증 (multipart가 아닌 분할 업로드에서도 같은 규칙 적용)
+   *
+   * @param originalFilename 원본 파일명
+   * @param size 파일 크기 (바이트)
+   */
+  public void validateFileMetadata(String originalFilename, long size) {
+    if (size <= 0) {
+      throw new BusinessException(ErrorCode.EMPTY_FILE);
+    }
 
     // 파일 크기 제한 검증
-    if (file.getSize() > maxFileSize) {
+    if (size > maxFileSize) {
       throw new BusinessException(
           ErrorCode.FILE_SIZE_EXCEEDED,
           String.format("파일 크기가 제한을 초과했습니다. (최대: %dMB)", maxFileSize / (1024 * 1024)));
     }
 
     // 파일명 검증 (null, 빈 문자열 X)
-    String originalFilename = file.getOriginalFilename();
     if (originalFilename == null || originalFilename.trim().isEmpty()) {
       throw new BusinessException(ErrorCode.INVALID_FILENAME);
     }
@@ -153,8 +710,8 @@ public class FileManager {
     }
   }
 
-  /** UUID와 타임스탬프를 사용한 고유 파일명 생성 */
-  private String generateUniqueFileName(String originalFilename) {
+  /** UUID와 타임스탬프를 사용한 고유 파일명 생성 (벤치마크에서 직접 호출하도록 package-private) */
+  String generateUniqueFileName(String originalFilename) {
     String extension = getFileExtension(originalFilename);
     String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
     String uuid =
@@ -179,7 +736,7 @@ public class FileManager {
   }
 
   /** 확장자를 제외한 파일명 추출 */
-  private String getFileNameWithoutExtension(String filename) {
+  public String getFileNameWithoutExtension(String filename) {
     int lastDotIndex = filename.lastIndexOf("."); // 마지막 점 위치 찾기
     if (lastDotIndex > 0) { // 점이 존재 (-1 아님) or 점이 맨 앞이 아님 (0 아님 - '.gitignore' 같은 숨김파일 아님)
       return filename.substring(0, lastDotIndex); // 맨 앞 부터 점 직전까지 추출
@@ -0,0 +1,88 @@
+package com.example.communityservice.global.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * 이미지 첨부파일의 축소본 종류 <br>
+ * 원본 옆에 결정적인 이름으로 저장 (예: abc.jpg → abc.thumb.jpg, abc.w800.jpg)
+ */
+@Getter
+public enum ImageVariant {
+  THUMB("thumb", 200, false), // 목록용 썸네일 (긴 변 기준)
+  PREVIEW("w800", 800, true); // 상세 화면용 미리보기 (가로 기준)
+
+  /** 축소본을 만들 수 있는 원본 확장자 */
+  public static final Set<String> SOURCE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+  private final String suffix;
+  private final int maxSize;
+  private final boolean boundByWidth; // true면 가로만, false면 가로/세로 중 긴 변을 maxSize 이하로
+
+  ImageVariant(String suffix, int maxSize, boolean boundByWidth) {
+    this.suffix = suffix;
+    this.maxSize = maxSize;
+    this.boundByWidth = boundByWidth;
+  }
+
+  /** URL 경로에 쓰는 이름으로 축소본 종류 조회 (없으면 null) */
+  public static ImageVariant fromSuffix(String suffix) {
+    for (ImageVariant variant : values()) {
+      if (variant.suffix.equalsIgnoreCase(suffix)) {
+        return variant;
+      }
+    }
+    return null;
+  }
+
+  /** 축소본을 만들 수 있는 이미지 파일인지 확인 */
+  public static boolean supports(String fileUrl) {
+    return SOURCE_EXTENSIONS.contains(extensionOf(fileUrl));
+  }
+
+  /**
+   * 축소본의 웹 URL <br>
+   * 투명도가 있을 수 있는 png/gif는 png, 나머지(jpg/bmp)는 용량이 작은 jpg로 저장
+   *
+   * @param fileUrl 원본 파일의 웹 URL
+   * @return 축소본 웹 URL
+   */
+  public String variantUrl(String fileUrl) {
+    int dot = fileUrl.lastIndexOf('.');
+    String base = dot > fileUrl.lastIndexOf('/') ? fileUrl.substring(0, dot) : fileUrl;
+    return base + "." + suffix + "." + outputFormat(fileUrl);
+  }
+
+  /** 축소본 저장 형식 (ImageIO 포맷 이름) */
+  public static String outputFormat(String fileUrl) {
+    String extension = extensionOf(fileUrl);
+    return extension.equals("png") || extension.equals("gif") ? "png" : "jpg";
+  }
+
+  /** 원본의 모든 축소본 URL (원본 삭제 시 함께 정리) */
+  public static List<String> allVariantUrls(String fileUrl) {
+    if (!supports(fileUrl)) {
+      return List.of();
+    }
+    return Arrays.stream(values()).map(variant -> variant.variantUrl(fileUrl)).toList();
+  }
+
+  /** 축소본 파일의 URL인지 확인 (예: abc.thumb.jpg, abc.w800.png) */
+  public static boolean isVariantUrl(String fileUrl) {
+    String extension = extensionOf(fileUrl);
+    if (!extension.equals("jpg") && !extension.equals("png")) {
+      return false;
+    }
+    String base = fileUrl.substring(0, fileUrl.length() - extension.length() - 1);
+    int dot = base.lastIndexOf('.');
+    return dot > base.lastIndexOf('/') && fromSuffix(base.substring(dot + 1)) != null;
+  }
+
+  private static String extensionOf(String fileUrl) {
+    int dot = fileUrl.lastIndexOf('.');
+    return dot > fileUrl.lastIndexOf('/') ? fileUrl.substring(dot + 1).toLowerCase() : "";
+  }
+}
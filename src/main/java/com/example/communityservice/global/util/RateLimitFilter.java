@@ -0,0 +1,196 @@
+package com.example.communityservice.global.util;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.global.exception.ErrorResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 경로별 요청 수 제한 (초과하면 429 + Retry-After) <br>
+ * - WRITE: 게시글/댓글 작성 (익명 작성마다 BCrypt 해시) <br>
+ * - LIKE: 좋아요 추가/취소 <br>
+ * - VERIFY: 익명 비밀번호 확인, 게시글/댓글 수정/삭제 (비밀번호 대입 방지) <br>
+ * - 키: 인증 서비스가 확인한 Authorization 헤더면 회원 ID, 아니면 클라이언트 IP <br>
+ * - 확인되지 않은 헤더는 무시 (요청마다 헤더를 바꿔도 같은 IP bucket), VERIFY는 항상 IP <br>
+ * - 조회(GET) 요청은 메서드 비교만 하고 통과
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  /** 제한 규칙 */
+  public enum Rule {
+    WRITE,
+    LIKE,
+    VERIFY
+  }
+
+  private final Map<Rule, RateLimiter> limiters;
+  private final ValidatedTokenCache validatedTokenCache;
+  private final boolean trustForwardedFor;
+  private final ObjectMapper objectMapper;
+  private final Map<Rule, Counter> rejected = new EnumMap<>(Rule.class);
+
+  /**
+   * @param limiters 규칙별 제한 (없는 규칙은 제한하지 않음)
+   * @param validatedTokenCache 검증된 Authorization 헤더 → 회원 ID
+   * @param trustForwardedFor true면 X-Forwarded-For의 마지막 주소(가장 가까운 프록시가 본 주소)를 클라이언트 IP로 사용 <br>
+   *     신뢰할 수 있는 프록시 뒤에서만 사용 (직접 노출되면 클라이언트가 헤더를 바꿔 가며 키를 새로 만들 수 있음)
+   */
+  public RateLimitFilter(
+      Map<Rule, RateLimiter> limiters,
+      ValidatedTokenCache validatedTokenCache,
+      boolean trustForwardedFor,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.limiters = new EnumMap<>(limiters);
+    this.validatedTokenCache = validatedTokenCache;
+    this.trustForwardedFor = trustForwardedFor;
+    this.objectMapper = objectMapper;
+    this.limiters.forEach(
+        (rule, limiter) -> {
+          String tag = rule.name().toLowerCase();
+          rejected.put(
+              rule,
+              Counter.builder("http.rate-limited")
+                  .description("요청 수 제한으로 거절한 요청 수")
+                  .tag("rule", tag)
+                  .register(meterRegistry));
+          Gauge.builder("http.rate-limit.keys", limiter, RateLimiter::size)
+              .description("요청 수 제한 상태를 보관 중인 키 수")
+              .tag("rule", tag)
+              .register(meterRegistry);
+        });
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Rule rule = classify(request.getMethod(), request.getRequestURI());
+    RateLimiter limiter = rule == null ? null : limiters.get(rule);
+    if (limiter != null) {
+      long waitNanos = limiter.tryAcquire(clientKey(request, rule), System.nanoTime());
+      if (waitNanos > 0) {
+        rejected.get(rule).increment();
+        reject(response, waitNanos);
+        return;
+      }
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  /** 요청 수가 기준 이하로 돌아온 키 정리 */
+  @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+  public void evictIdle() {
+    long now = System.nanoTime();
+    limiters.values().forEach(limiter -> limiter.evictIdle(now));
+  }
+
+  /**
+   * 요청에 적용할 규칙 (정규식/경로 패턴 없이 문자열 비교만 사용)
+   *
+   * @return 제한 대상이 아니면 null
+   */
+  static Rule classify(String method, String uri) {
+    switch (method) {
+      case "POST" -> {
+        if (uri.equals("/api/posts") || uri.equals("/api/comments")) {
+          return Rule.WRITE;
+        }
+        if (isPostAction(uri, "/likes")) {
+          return Rule.LIKE;
+        }
+        if (isPostAction(uri, "/verify") || isCommentAction(uri, "/verify")) {
+          return Rule.VERIFY;
+        }
+        return null;
+      }
+      case "DELETE" -> {
+        if (isPostAction(uri, "/likes")) {
+          return Rule.LIKE;
+        }
+        return isPostAction(uri, "") || isCommentAction(uri, "") ? Rule.VERIFY : null;
+      }
+      case "PUT" -> {
+        return isPostAction(uri, "") || isCommentAction(uri, "") ? Rule.VERIFY : null;
+      }
+      default -> {
+        return null;
+      }
+    }
+  }
+
+  // /api/posts/{id}{suffix}
+  private static boolean isPostAction(String uri, String suffix) {
+    return isAction(uri, "/api/posts/", suffix);
+  }
+
+  // /api/comments/{id}{suffix}
+  private static boolean isCommentAction(String uri, String suffix) {
+    return isAction(uri, "/api/comments/", suffix);
+  }
+
+  private static boolean isAction(String uri, String prefix, String suffix) {
+    int idEnd = uri.length() - suffix.length();
+    return idEnd > prefix.length()
+        && uri.startsWith(prefix)
+        && uri.endsWith(suffix)
+        && uri.indexOf('/', prefix.length()) == (suffix.isEmpty() ? -1 : idEnd);
+  }
+
+  // 한 회원의 첫 요청은 아직 검증 전이라 IP 기준 (컨트롤러에서 검증된 뒤부터 회원 기준)
+  private String clientKey(HttpServletRequest request, Rule rule) {
+    if (rule != Rule.VERIFY) {
+      Long userId = validatedTokenCache.findUserId(request.getHeader(HttpHeaders.AUTHORIZATION));
+      if (userId != null) {
+        return "user:" + userId;
+      }
+    }
+    return clientIp(request, trustForwardedFor);
+  }
+
+  /**
+   * 요청한 클라이언트 IP (ReadYourWritesFilter도 같은 기준 사용)
+   *
+   * @param trustForwardedFor true면 X-Forwarded-For의 마지막 주소, 아니면 연결한 주소(remoteAddr)
+   */
+  public static String clientIp(HttpServletRequest request, boolean trustForwardedFor) {
+    if (trustForwardedFor) {
+      String forwardedFor = request.getHeader("X-Forwarded-For");
+      if (forwardedFor != null && !forwardedFor.isBlank()) {
+        // 앞쪽 주소는 클라이언트가 임의로 넣을 수 있으므로 마지막 주소 사용
+        return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+      }
+    }
+    return request.getRemoteAddr();
+  }
+
+  private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+    long retryAfterSeconds =
+        Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    byte[] body = objectMapper.writeValueAsBytes(ErrorResponseDTO.of(ErrorCode.RATE_LIMITED));
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+}
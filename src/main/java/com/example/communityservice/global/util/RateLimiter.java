@@ -0,0 +1,92 @@
+package com.example.communityservice.global.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 요청 수 제한 (token bucket과 같은 동작을 하는 GCRA 방식) <br>
+ * - 키마다 "다음 요청이 정상 속도로 도착할 시각(TAT)" 하나만 AtomicLong으로 보관하고 CAS로 갱신 (락 없음) <br>
+ * - 분당 permitsPerMinute건, 한 번에 최대 burst건까지 허용 <br>
+ * - 한동안 요청이 없어 bucket이 가득 찬 키는 evictIdle()로 정리 (정리된 키와 새 키는 상태가 같음) <br>
+ * - 키 수가 maxKeys에 도달하면 새 키를 받기 전에 bucket이 가득 찬 키를 정리 (전체 순회라 100ms에 한 번만) <br>
+ * - 정리해도 가득 차 있으면(maxKeys개 키가 모두 제한 중) 새 키는 거절 → 메모리 한도와 제한을 함께 유지 <br>
+ * - 키는 마지막 요청 후 최대 burst × 요청 간격이면 정리 대상 → 이 상태를 유지하려면 maxKeys개 키가 계속 요청해야 함
+ */
+public class RateLimiter {
+
+  private static final long FULL_SCAN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final long emissionIntervalNanos;
+  private final long toleranceNanos;
+  private final int maxKeys;
+  private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+  // 키가 가득 찼을 때 마지막으로 전체 정리를 한 시각 (MIN_VALUE: 아직 없음, 동시에 여러 요청이 순회하지 않도록 CAS)
+  private final AtomicLong lastFullScanAt = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * @param permitsPerMinute 분당 허용 요청 수 (평균 속도)
+   * @param burst 쉬었다가 한 번에 보낼 수 있는 최대 요청 수
+   * @param maxKeys 개별 bucket을 만들 최대 키 수
+   */
+  public RateLimiter(int permitsPerMinute, int burst, int maxKeys) {
+    this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, permitsPerMinute);
+    this.toleranceNanos = emissionIntervalNanos * (Math.max(1, burst) - 1);
+    this.maxKeys = maxKeys;
+  }
+
+  /**
+   * 요청 1건 허용 여부 확인 (허용하면 바로 소비)
+   *
+   * @param key 사용자/클라이언트 구분 키
+   * @param nowNanos 현재 시각 (System.nanoTime())
+   * @return 0이면 허용, 양수면 다음 요청이 허용될 때까지 남은 시간(ns)
+   */
+  public long tryAcquire(String key, long nowNanos) {
+    AtomicLong tat = buckets.get(key);
+    if (tat == null) {
+      if (buckets.size() >= maxKeys && !evictWhenFull(nowNanos)) {
+        return emissionIntervalNanos;
+      }
+      tat = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+    }
+    while (true) {
+      long current = tat.get();
+      long arrival = Math.max(current, nowNanos);
+      long waitNanos = arrival - toleranceNanos - nowNanos;
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      if (tat.compareAndSet(current, arrival + emissionIntervalNanos)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * bucket이 가득 찬(제한에 걸릴 일이 없는) 키 정리 <br>
+   * 정리 직전에 같은 키로 들어온 요청의 소비는 유실될 수 있음 (제한이 1건 느슨해지는 정도)
+   */
+  public void evictIdle(long nowNanos) {
+    buckets.values().removeIf(tat -> tat.get() <= nowNanos);
+  }
+
+  /** 개별 bucket이 있는 키 수 */
+  public int size() {
+    return buckets.size();
+  }
+
+  /**
+   * 키가 가득 찼을 때 정리 후 새 키를 받을 수 있는지 확인
+   *
+   * @return 자리가 생겼으면 true
+   */
+  private boolean evictWhenFull(long nowNanos) {
+    long last = lastFullScanAt.get();
+    boolean due = last == Long.MIN_VALUE || nowNanos - last >= FULL_SCAN_INTERVAL_NANOS;
+    if (due && lastFullScanAt.compareAndSet(last, nowNanos)) {
+      evictIdle(nowNanos);
+    }
+    return buckets.size() < maxKeys;
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.communityservice.global.util;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * read-your-writes: 쓰기 요청을 한 사용자는 잠시 동안 읽기도 primary에서 처리 <br>
+ * - 쓰기 요청(GET/HEAD/OPTIONS 외) 자체와, 성공한 쓰기 이후 설정 시간 안의 같은 사용자 요청이 대상 <br>
+ * - 사용자 구분: Authorization 헤더(해시값만 보관), 없으면 클라이언트 IP (익명 작성자) <br>
+ * - 클라이언트 IP는 요청 수 제한과 같은 기준 (rate-limit.trust-forwarded-for, RateLimitFilter.clientIp) <br>
+ * - 인스턴스 메모리에만 보관하므로 같은 사용자의 요청이 다른 인스턴스로 가면 적용되지 않음
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+  private final long stickyMillis;
+  private final boolean trustForwardedFor;
+  // 사용자 키 → primary를 사용할 마지막 시각
+  private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+  public ReadYourWritesFilter(long stickyMillis, boolean trustForwardedFor) {
+    this.stickyMillis = stickyMillis;
+    this.trustForwardedFor = trustForwardedFor;
+  }
+
+  /** 현재 스레드에서 처리 중인 요청의 읽기를 primary에서 해야 하면 true */
+  public static boolean isPinnedToPrimary() {
+    return PINNED.get() != null;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = clientKey(request);
+    boolean write = !isReadMethod(request.getMethod());
+    Long until = stickyUntil.get(key);
+    if (write || (until != null && until > System.currentTimeMillis())) {
+      PINNED.set(Boolean.TRUE);
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      PINNED.remove();
+      if (write && response.getStatus() < 400) {
+        stickyUntil.put(key, System.currentTimeMillis() + stickyMillis);
+      }
+    }
+  }
+
+  /** 기간이 지난 사용자 정리 */
+  @Scheduled(fixedDelayString = "${datasource.replica.sticky-ms:5000}")
+  public void purgeExpired() {
+    long now = System.currentTimeMillis();
+    stickyUntil.values().removeIf(until -> until <= now);
+  }
+
+  private static boolean isReadMethod(String method) {
+    return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+  }
+
+  // 토큰 원문은 보관하지 않음 (해시 충돌 시 다른 사용자가 잠시 primary를 쓰는 것뿐이라 문제 없음)
+  private String clientKey(HttpServletRequest request) {
+    String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (authorization != null) {
+      return "token:" + Integer.toHexString(authorization.hashCode());
+    }
+    return "ip:" + RateLimitFilter.clientIp(request, trustForwardedFor);
+  }
+}
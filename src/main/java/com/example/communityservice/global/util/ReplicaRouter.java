@@ -0,0 +1,284 @@
+package com.example.communityservice.global.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * primary/복제본 커넥션 풀과 복제 지연 관리 <br>
+ * - 읽기 전용 커넥션은 지연이 기준 이하인 복제본에서 돌아가며 사용 <br>
+ * - 모든 복제본이 지연/장애 상태이거나 방금 쓰기를 한 사용자(ReadYourWritesFilter)면 primary 사용 <br>
+ * - 지연 측정: primary에 heartbeat 시각을 주기적으로 기록하고 복제본에 복제된 값과 현재 시각의 차이로 계산 (서버 간 시계 차이의 영향 X) <br>
+ * - 복제본별 지연 확인은 각자 전용 스레드에서 제한 시간 안에 실행 (멈춘 복제본 하나가 다른 복제본 확인을 늦추지 않음) <br>
+ * - 마지막으로 성공한 확인이 heartbeat 몇 주기 이상 지났으면 사용하지 않음 (확인이 멈추면 primary로 대체)
+ */
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+
+  private static final String CREATE_HEARTBEAT_TABLE =
+      "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+  private static final String WRITE_HEARTBEAT =
+      "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)"
+          + " ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)";
+  private static final String READ_HEARTBEAT = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+  // 마지막 확인 이후 이 주기 수만큼 (+ 확인 제한 시간) 새 측정이 없으면 지연 값을 믿지 않음
+  private static final int STALE_HEARTBEATS = 4;
+
+  private final HikariDataSource primary;
+  private final List<Replica> replicas;
+  private final long maxLagMillis;
+  private final long staleAfterNanos;
+  private final int checkTimeoutSeconds;
+  private final ExecutorService checkExecutor;
+  private final DataSource readOnlyDataSource = new ReadOnlyDataSource();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final Counter replicaReads;
+  private final Counter stickyReads;
+  private final Counter fallbackReads;
+  private boolean heartbeatTableCreated;
+
+  /**
+   * @param primary 쓰기(및 대체 읽기)용 풀
+   * @param replicas 복제본 풀 목록
+   * @param maxLagMillis 이 시간보다 지연된 복제본은 사용하지 않음
+   * @param heartbeatIntervalMillis heartbeat() 실행 주기
+   * @param checkTimeoutMillis 복제본 지연 확인 한 번의 제한 시간 (커넥션 획득, 조회 각각)
+   */
+  public ReplicaRouter(
+      HikariDataSource primary,
+      List<HikariDataSource> replicas,
+      long maxLagMillis,
+      long heartbeatIntervalMillis,
+      long checkTimeoutMillis,
+      MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.maxLagMillis = maxLagMillis;
+    this.staleAfterNanos =
+        TimeUnit.MILLISECONDS.toNanos(
+            heartbeatIntervalMillis * STALE_HEARTBEATS + checkTimeoutMillis);
+    this.checkTimeoutSeconds =
+        (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(checkTimeoutMillis));
+    this.replicas = replicas.stream().map(pool -> new Replica(pool, checkTimeoutMillis)).toList();
+    this.checkExecutor =
+        Executors.newFixedThreadPool(
+            this.replicas.size(),
+            Thread.ofPlatform().name("replica-check-", 1).daemon(true).factory());
+    this.replicaReads = routingCounter(meterRegistry, "replica", "replica");
+    this.stickyReads = routingCounter(meterRegistry, "primary", "read-your-writes");
+    this.fallbackReads = routingCounter(meterRegistry, "primary", "replica-unavailable");
+    for (Replica replica : this.replicas) {
+      Gauge.builder("datasource.replica.lag", replica, Replica::lagForMetric)
+          .description("복제본 지연 시간 (측정 불가면 NaN)")
+          .tag("pool", replica.pool.getPoolName())
+          .baseUnit("milliseconds")
+          .register(meterRegistry);
+    }
+  }
+
+  /** 쓰기 트랜잭션용 DataSource */
+  public DataSource primary() {
+    return primary;
+  }
+
+  /** 읽기 전용 트랜잭션용 DataSource (복제본 선택, 사용할 수 없으면 primary) */
+  public DataSource readOnlyDataSource() {
+    return readOnlyDataSource;
+  }
+
+  /** primary에 heartbeat를 기록하고 복제본별 지연 확인 시작 (확인은 기다리지 않음) */
+  @Scheduled(fixedDelayString = "${datasource.replica.heartbeat-interval-ms:500}")
+  public void heartbeat() {
+    for (Replica replica : replicas) {
+      replica.startCheck();
+    }
+
+    try (Connection connection = primary.getConnection()) {
+      if (!heartbeatTableCreated) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute(CREATE_HEARTBEAT_TABLE);
+        }
+        heartbeatTableCreated = true;
+      }
+      try (PreparedStatement statement = connection.prepareStatement(WRITE_HEARTBEAT)) {
+        statement.setQueryTimeout(checkTimeoutSeconds);
+        statement.setLong(1, System.currentTimeMillis());
+        statement.executeUpdate();
+      }
+    } catch (SQLException e) {
+      log.warn("primary heartbeat 기록 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void close() {
+    checkExecutor.shutdownNow();
+    for (Replica replica : replicas) {
+      replica.monitor.close();
+      replica.pool.close();
+    }
+    primary.close();
+  }
+
+  private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+    return Counter.builder("datasource.routing")
+        .description("읽기 전용 커넥션을 가져온 곳")
+        .tags("target", target, "reason", reason)
+        .register(meterRegistry);
+  }
+
+  private Connection readOnlyConnection() throws SQLException {
+    if (ReadYourWritesFilter.isPinnedToPrimary()) {
+      stickyReads.increment();
+      return primary.getConnection();
+    }
+    int size = replicas.size();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (!replica.isUsable()) {
+        continue;
+      }
+      try {
+        Connection connection = replica.pool.getConnection();
+        replicaReads.increment();
+        return connection;
+      } catch (SQLException e) {
+        // 풀이 가득 찬 경우일 수도 있으므로 이번 요청만 대체 (장애 여부는 heartbeat 확인에서 판단)
+        log.debug("복제본 {} 커넥션 획득 실패: {}", replica.pool.getPoolName(), e.getMessage());
+      }
+    }
+    fallbackReads.increment();
+    return primary.getConnection();
+  }
+
+  /** 복제본 하나의 풀과 마지막으로 측정한 지연 */
+  private class Replica {
+    private final HikariDataSource pool;
+    // 지연 확인 전용 커넥션 (요청이 몰려 풀이 가득 차도 장애로 오판하지 않도록 분리)
+    private final HikariDataSource monitor;
+    // 지연 확인이 실행 중인지 (멈춘 확인이 끝나기 전에는 새로 시작하지 않음)
+    private final AtomicBoolean checking = new AtomicBoolean();
+    // 첫 측정 전에는 사용하지 않음
+    private volatile boolean available;
+    private volatile long lagMillis = -1;
+    // 마지막으로 지연 측정에 성공한 시각 (System.nanoTime)
+    private volatile long checkedAtNanos;
+    private volatile boolean staleLogged;
+
+    Replica(HikariDataSource pool, long checkTimeoutMillis) {
+      this.pool = pool;
+      this.monitor = new HikariDataSource();
+      pool.copyStateTo(monitor);
+      monitor.setPoolName(pool.getPoolName() + "-monitor");
+      monitor.setMaximumPoolSize(1);
+      monitor.setMinimumIdle(1);
+      monitor.setConnectionTimeout(Math.max(250, checkTimeoutMillis)); // Hikari 최소값 250ms
+      monitor.setMetricRegistry(null);
+    }
+
+    boolean isUsable() {
+      return available && lagMillis <= maxLagMillis && isFresh();
+    }
+
+    boolean isFresh() {
+      return System.nanoTime() - checkedAtNanos <= staleAfterNanos;
+    }
+
+    double lagForMetric() {
+      return available && isFresh() ? lagMillis : Double.NaN;
+    }
+
+    /** 전용 스레드에서 지연 확인 시작 (이전 확인이 아직 끝나지 않았으면 건너뜀 → 측정이 오래되면 사용 중지) */
+    void startCheck() {
+      if (!checking.compareAndSet(false, true)) {
+        if (available && !isFresh() && !staleLogged) {
+          staleLogged = true;
+          log.warn("복제본 {} 지연 확인이 응답하지 않음 → 읽기를 primary로 대체", pool.getPoolName());
+        }
+        return;
+      }
+      try {
+        checkExecutor.execute(
+            () -> {
+              try {
+                checkLag();
+              } finally {
+                checking.set(false);
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        checking.set(false); // 종료 중
+      }
+    }
+
+    void checkLag() {
+      boolean firstCheck = lagMillis < 0;
+      boolean wasUsable = isUsable();
+      try (Connection connection = monitor.getConnection();
+          Statement statement = connection.createStatement()) {
+        statement.setQueryTimeout(checkTimeoutSeconds);
+        try (ResultSet result = statement.executeQuery(READ_HEARTBEAT)) {
+          if (!result.next()) {
+            markUnavailable("heartbeat가 아직 복제되지 않음");
+            return;
+          }
+          lagMillis = Math.max(0, System.currentTimeMillis() - result.getLong(1));
+        }
+        checkedAtNanos = System.nanoTime();
+        available = true;
+        staleLogged = false;
+      } catch (SQLException e) {
+        markUnavailable(e.getMessage());
+        return;
+      }
+
+      if ((wasUsable || firstCheck) && !isUsable()) {
+        log.warn("복제본 {} 지연 {}ms → 읽기를 primary로 대체", pool.getPoolName(), lagMillis);
+      } else if (!wasUsable && isUsable()) {
+        log.info("복제본 {} 사용 (지연 {}ms)", pool.getPoolName(), lagMillis);
+      }
+    }
+
+    void markUnavailable(String reason) {
+      if (available) {
+        log.warn("복제본 {} 사용 불가 → 읽기를 primary로 대체: {}", pool.getPoolName(), reason);
+      }
+      available = false;
+    }
+  }
+
+  /** 읽기 전용 트랜잭션이 커넥션을 가져가는 DataSource */
+  private class ReadOnlyDataSource extends AbstractDataSource {
+    @Override
+    public Connection getConnection() throws SQLException {
+      return readOnlyConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      throw new SQLFeatureNotSupportedException("풀에 설정된 계정만 사용");
+    }
+  }
+}
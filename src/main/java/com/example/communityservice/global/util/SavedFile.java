@@ -0,0 +1,11 @@
+package com.example.communityservice.global.util;
+
+/**
+ * 파일 저장 결과
+ *
+ * @param fileUrl 웹 접근 가능한 URL (예: /uploads/posts/2025/09/18/filename.jpg)
+ * @param fileName 서버에 저장된 파일명
+ * @param size 실제로 기록된 바이트 수
+ * @param sha256 저장하면서 계산한 내용 해시 (16진수 소문자)
+ */
+public record SavedFile(String fileUrl, String fileName, long size, String sha256) {}
@@ -0,0 +1,132 @@
+package com.example.communityservice.global.util;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.core.io.AbstractResource;
+
+/**
+ * segment 파일 안에 저장된 파일 하나를 나타내는 Resource <br>
+ * 메모리 매핑된 segment의 일부(slice)를 그대로 읽으므로 힙으로 복사하지 않음 <br>
+ * 스트림이 열려 있는 동안 매핑을 잡고 있으므로 사용 후 반드시 닫아야 함 (닫지 않으면 GC가 해제할 때까지 매핑 유지)
+ */
+public class SegmentResource extends AbstractResource {
+
+  private final SegmentStore store;
+  private final String name;
+  private final SegmentStore.Mapping mapping;
+  private final ByteBuffer content;
+  private final long lastModified;
+
+  SegmentResource(
+      SegmentStore store,
+      String name,
+      SegmentStore.Mapping mapping,
+      ByteBuffer content,
+      long lastModified) {
+    this.store = store;
+    this.name = name;
+    this.mapping = mapping;
+    this.content = content;
+    this.lastModified = lastModified;
+  }
+
+  @Override
+  public String getDescription() {
+    return "segment [" + name + "]";
+  }
+
+  @Override
+  public String getFilename() {
+    return name;
+  }
+
+  @Override
+  public boolean exists() {
+    return true;
+  }
+
+  @Override
+  public long contentLength() {
+    return content.remaining();
+  }
+
+  @Override
+  public long lastModified() {
+    return lastModified;
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    if (!mapping.retain()) {
+      // 조회 이후 compaction/재매핑으로 해제된 매핑 → 현재 위치에서 다시 조회
+      return store
+          .load(name)
+          .orElseThrow(() -> new FileNotFoundException(getDescription() + " 파일이 삭제되었습니다."))
+          .getInputStream();
+    }
+    return new ByteBufferInputStream(content.duplicate(), mapping); // 읽는 쪽마다 독립된 position 사용
+  }
+
+  /** ByteBuffer를 읽는 InputStream (skip은 position 이동만 하므로 Range 응답에서도 복사 없음) */
+  private static class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+    private final SegmentStore.Mapping mapping;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    ByteBufferInputStream(ByteBuffer buffer, SegmentStore.Mapping mapping) {
+      this.buffer = buffer;
+      this.mapping = mapping;
+    }
+
+    @Override
+    public int read() throws IOException {
+      ensureOpen();
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      ensureOpen();
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+
+    @Override
+    public void close() {
+      if (closed.compareAndSet(false, true)) {
+        mapping.release();
+      }
+    }
+
+    // 닫은 뒤에는 매핑이 해제됐을 수 있으므로 메모리에 접근하지 않음
+    private void ensureOpen() throws IOException {
+      if (closed.get()) {
+        throw new IOException("닫힌 스트림입니다.");
+      }
+    }
+  }
+}
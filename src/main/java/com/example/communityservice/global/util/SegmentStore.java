@@ -0,0 +1,657 @@
+package com.example.communityservice.global.util;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작은 파일을 큰 append-only segment 파일에 모아서 저장하는 저장소 (file.storage.backend=segment) <br>
+ * - 파일마다 inode/디렉토리 항목을 만들지 않으므로 파일 수가 많아도 파일시스템 메타데이터와 백업 순회 비용이 늘지 않음 <br>
+ * - 위치 정보는 메모리 인덱스 + append-only 인덱스 로그로 관리 (시작 시 로그를 재생해서 복구) <br>
+ * - 동시에 들어온 저장은 fsync 한 번으로 함께 반영 (group commit, fsync는 writeLock 밖에서 실행) <br>
+ * - 읽기는 segment 전체를 메모리 매핑한 뒤 slice로 반환 (read 시스템 콜/힙 복사 없음) <br>
+ * - 삭제된 공간이 많은 segment는 백그라운드 compaction으로 살아 있는 파일만 옮기고 삭제 <br>
+ * - 매핑은 읽는 중인 스트림 수로 관리하고, 마지막 스트림이 닫히면 GC를 기다리지 않고 바로 매핑 해제
+ *
+ * <p>인덱스 로그 형식 (탭 구분): "+ segmentId offset length createdAt name" 저장 / "- name" 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.backend", havingValue = "segment")
+public class SegmentStore {
+
+  private static final String INDEX_FILE = "index.log";
+  private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d+)\\.dat");
+
+  @Value("${file.storage.segment.path:./data/segments}")
+  private String storePath;
+
+  // segment 하나의 최대 크기 (메모리 매핑 한 번으로 읽을 수 있도록 2GB 미만)
+  @Value("${file.storage.segment.max-segment-size:268435456}")
+  private long maxSegmentSize;
+
+  @Value("${file.storage.segment.compact-interval-ms:3600000}")
+  private long compactIntervalMs;
+
+  // 삭제된 바이트 비율이 이 값 이상인 segment를 compaction 대상으로 선택
+  @Value("${file.storage.segment.compact-dead-ratio:0.5}")
+  private double compactDeadRatio;
+
+  // 매핑 해제 (sun.misc.Unsafe.invokeCleaner, 사용할 수 없으면 GC가 해제)
+  private static final Object UNSAFE;
+  private static final Method INVOKE_CLEANER;
+
+  static {
+    Object unsafe = null;
+    Method invokeCleaner = null;
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      unsafe = field.get(null);
+      invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.warn("매핑 즉시 해제를 사용할 수 없음, GC가 해제: {}", e.getMessage());
+    }
+    UNSAFE = unsafe;
+    INVOKE_CLEANER = invokeCleaner;
+  }
+
+  /** 저장 위치 */
+  private record Location(int segmentId, long offset, int length, long createdAt) {}
+
+  /** 데이터는 기록했지만 아직 fsync/인덱스 반영 전인 저장 (replaces: compaction으로 옮기기 전 위치) */
+  private record Pending(
+      String name, Location location, Location replaces, CompletableFuture<Void> durable) {}
+
+  private final ConcurrentHashMap<String, Location> index = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Integer, Mapping> mappings = new ConcurrentHashMap<>();
+  // compaction으로 정리된 segment (다시 매핑해서 등록하지 않음)
+  private final Set<Integer> retired = ConcurrentHashMap.newKeySet();
+  private final Map<Integer, Long> deadBytes = new HashMap<>(); // writeLock 안에서만 접근
+  private final List<Pending> pending = new ArrayList<>(); // writeLock 안에서만 접근
+  private final Object writeLock = new Object();
+  // fsync는 한 번에 한 스레드만 (기다리던 스레드는 앞선 fsync에 자기 데이터가 포함됐으면 바로 반환)
+  private final Object syncLock = new Object();
+
+  private Path root;
+  private FileChannel indexLog;
+  private FileChannel activeSegment;
+  private int activeSegmentId;
+  private long activeSize;
+  private ScheduledExecutorService compactor;
+
+  /** 인덱스 로그 재생 → 살아 있는 항목만 남도록 로그 재작성 → 쓰기용 segment 열기 */
+  @PostConstruct
+  public void start() throws IOException {
+    if (maxSegmentSize <= 0 || maxSegmentSize > Integer.MAX_VALUE) {
+      throw new IllegalStateException("file.storage.segment.max-segment-size는 2GB 미만이어야 합니다.");
+    }
+    root = Paths.get(storePath);
+    Files.createDirectories(root);
+
+    replayIndex();
+    Map<Integer, Long> segmentSizes = listSegments();
+    segmentSizes.forEach(
+        (segmentId, size) -> deadBytes.put(segmentId, size - liveBytes(segmentId)));
+    rewriteIndex();
+
+    activeSegmentId = segmentSizes.keySet().stream().max(Integer::compare).orElse(1);
+    openActiveSegment();
+    if (activeSize >= maxSegmentSize) {
+      roll();
+    }
+    log.info("segment 저장소 시작: {} (파일 {}개, segment {}개)", root, index.size(), segmentSizes.size());
+
+    compactor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "segment-compactor");
+              thread.setDaemon(true);
+              return thread;
+            });
+    compactor.scheduleWithFixedDelay(
+        this::compactQuietly, compactIntervalMs, compactIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() throws IOException {
+    if (compactor != null) {
+      compactor.shutdown();
+    }
+    synchronized (writeLock) {
+      if (activeSegment != null) {
+        activeSegment.force(true);
+        activeSegment.close();
+      }
+      if (indexLog != null) {
+        indexLog.close();
+      }
+    }
+  }
+
+  /** 저장된 파일 수 (메모리 색인 크기) */
+  public int size() {
+    return index.size();
+  }
+
+  /** 임시 파일 작성용 디렉토리 (segment와 같은 파일시스템) */
+  public Path tempDirectory() {
+    return root;
+  }
+
+  /**
+   * 파일 내용을 현재 segment 끝에 추가 (같은 이름이 있으면 새 내용으로 대체) <br>
+   * 디스크에 반영되고 인덱스에 기록된 뒤 반환
+   *
+   * @param name 저장 이름 (URL의 마지막 경로)
+   * @param source 추가할 파일 (호출 측에서 삭제)
+   */
+  public void put(String name, Path source) throws IOException {
+    Pending entry;
+    try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+      long size = in.size();
+      synchronized (writeLock) {
+        long offset = reserve(size);
+        long written = 0;
+        while (written < size) {
+          written += activeSegment.transferFrom(in, offset + written, size - written);
+        }
+        entry =
+            stage(
+                name,
+                new Location(activeSegmentId, offset, (int) size, System.currentTimeMillis()),
+                null);
+      }
+    }
+    awaitDurable(entry);
+  }
+
+  /**
+   * 저장된 파일 조회
+   *
+   * @param name 저장 이름
+   * @return 메모리 매핑된 내용 (없으면 empty)
+   */
+  public Optional<Resource> load(String name) throws IOException {
+    // compaction으로 segment가 바뀌는 중이면 인덱스를 다시 읽고 한 번 더 시도
+    for (int attempt = 0; attempt < 2; attempt++) {
+      Location location = index.get(name);
+      if (location == null) {
+        return Optional.empty();
+      }
+      try {
+        // 내용은 스트림을 열 때 매핑을 잡고 읽음 (slice 생성은 메모리에 접근하지 않음)
+        Mapping mapping = mapping(location);
+        ByteBuffer content =
+            mapping.buffer.slice((int) location.offset(), location.length()).asReadOnlyBuffer();
+        return Optional.of(new SegmentResource(this, name, mapping, content, location.createdAt()));
+      } catch (NoSuchFileException e) {
+        log.debug("segment가 compaction으로 교체됨, 재시도: {}", name);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /** 저장된 파일인지 확인 */
+  public boolean contains(String name) {
+    return index.containsKey(name);
+  }
+
+  /**
+   * 파일 삭제 (인덱스에서만 제거하고, 실제 공간은 compaction 때 회수)
+   *
+   * @param name 저장 이름
+   * @return 삭제했으면 true, 없던 파일이면 false
+   */
+  public boolean delete(String name) throws IOException {
+    FileChannel log;
+    synchronized (writeLock) {
+      Location removed = index.remove(name);
+      if (removed == null) {
+        return false;
+      }
+      appendIndex("-\t" + name);
+      deadBytes.merge(removed.segmentId(), (long) removed.length(), Long::sum);
+      log = indexLog;
+    }
+    force(log);
+    return true;
+  }
+
+  /**
+   * 삭제된 공간이 많은 segment의 살아 있는 파일을 현재 segment로 옮기고 기존 segment를 삭제 <br>
+   * 파일 하나씩 옮기므로 compaction 중에도 쓰기/읽기가 오래 막히지 않음 <br>
+   * 기존 segment를 읽는 중인 스트림이 있으면 마지막 스트림이 닫힐 때 매핑 해제 후 파일 삭제
+   */
+  public void compact() throws IOException {
+    List<Integer> candidates = new ArrayList<>();
+    synchronized (writeLock) {
+      deadBytes.forEach(
+          (segmentId, dead) -> {
+            long size = segmentPath(segmentId).toFile().length();
+            if (segmentId != activeSegmentId && size > 0 && dead >= size * compactDeadRatio) {
+              candidates.add(segmentId);
+            }
+          });
+    }
+
+    for (int segmentId : candidates) {
+      long startTime = System.currentTimeMillis();
+      int moved = 0;
+      Pending last = null;
+      for (Map.Entry<String, Location> entry : index.entrySet()) {
+        Location location = entry.getValue();
+        if (location.segmentId() != segmentId) {
+          continue;
+        }
+        Mapping mapping = acquire(location);
+        try {
+          ByteBuffer content =
+              mapping.buffer.slice((int) location.offset(), location.length()).asReadOnlyBuffer();
+          synchronized (writeLock) {
+            if (!location.equals(index.get(entry.getKey()))) {
+              continue; // 그 사이에 삭제/교체된 파일
+            }
+            long offset = reserve(location.length());
+            long position = offset;
+            while (content.hasRemaining()) {
+              position += activeSegment.write(content, position);
+            }
+            last =
+                stage(
+                    entry.getKey(),
+                    new Location(activeSegmentId, offset, location.length(), location.createdAt()),
+                    location);
+            moved++;
+          }
+        } finally {
+          mapping.release();
+        }
+      }
+      if (last != null) {
+        awaitDurable(last); // 앞서 옮긴 항목도 같은 순서로 반영됨
+      }
+
+      Mapping mapping;
+      synchronized (writeLock) {
+        if (liveBytes(segmentId) > 0) {
+          continue; // 옮기는 중에 추가된 항목/반영 실패한 항목이 있으면 다음 compaction에서 처리
+        }
+        deadBytes.remove(segmentId);
+        rewriteIndex();
+        retired.add(segmentId);
+        mapping = mappings.remove(segmentId);
+      }
+      if (mapping == null) {
+        Files.deleteIfExists(segmentPath(segmentId));
+      } else {
+        mapping.retire(segmentPath(segmentId));
+      }
+      log.info(
+          "segment compaction 완료: segment-{} ({}개 이동, {}ms)",
+          segmentId,
+          moved,
+          System.currentTimeMillis() - startTime);
+    }
+  }
+
+  private void compactQuietly() {
+    try {
+      compact();
+    } catch (Exception e) {
+      // 예외가 밖으로 나가면 scheduleWithFixedDelay가 중단되므로 여기서 처리
+      log.error("segment compaction 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  /** 현재 segment에 size만큼 쓸 자리를 확보하고 시작 위치를 반환 (writeLock 안에서 호출) */
+  private long reserve(long size) throws IOException {
+    if (activeSize > 0 && activeSize + size > maxSegmentSize) {
+      roll();
+    }
+    long offset = activeSize;
+    activeSize += size;
+    return offset;
+  }
+
+  /** 기록한 데이터를 fsync 대기 목록에 추가 (writeLock 안에서 호출) */
+  private Pending stage(String name, Location location, Location replaces) {
+    Pending entry = new Pending(name, location, replaces, new CompletableFuture<>());
+    pending.add(entry);
+    return entry;
+  }
+
+  /** entry가 디스크와 인덱스에 반영될 때까지 대기 (먼저 fsync 중인 스레드가 있으면 그 결과를 함께 사용) */
+  private void awaitDurable(Pending entry) throws IOException {
+    synchronized (syncLock) {
+      if (!entry.durable().isDone()) {
+        syncPending();
+      }
+    }
+    try {
+      entry.durable().join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * 대기 중인 저장을 한 번에 반영 (syncLock 안에서 호출) <br>
+   * 데이터 fsync → 인덱스 기록 → 인덱스 fsync 순서라 인덱스가 가리키는 데이터는 항상 존재 <br>
+   * fsync 동안에는 writeLock을 잡지 않으므로 다른 저장은 계속 segment에 기록
+   */
+  private void syncPending() {
+    List<Pending> batch;
+    FileChannel segment;
+    synchronized (writeLock) {
+      batch = new ArrayList<>(pending);
+      pending.clear();
+      segment = activeSegment;
+    }
+
+    try {
+      force(segment); // 이전 segment에 기록된 항목은 roll()에서 이미 반영
+    } catch (IOException | RuntimeException e) {
+      synchronized (writeLock) {
+        batch.forEach(
+            entry ->
+                deadBytes.merge(
+                    entry.location().segmentId(), (long) entry.location().length(), Long::sum));
+      }
+      batch.forEach(entry -> entry.durable().completeExceptionally(e));
+      return;
+    }
+
+    try {
+      FileChannel log;
+      synchronized (writeLock) {
+        for (Pending entry : batch) {
+          publish(entry);
+        }
+        log = indexLog;
+      }
+      force(log);
+      batch.forEach(entry -> entry.durable().complete(null));
+    } catch (IOException | RuntimeException e) {
+      batch.forEach(entry -> entry.durable().completeExceptionally(e));
+    }
+  }
+
+  /** 인덱스 로그와 메모리 인덱스에 기록 (writeLock 안에서 호출) */
+  private void publish(Pending entry) throws IOException {
+    Location location = entry.location();
+    Location current = index.get(entry.name());
+    if (entry.replaces() != null && !entry.replaces().equals(current)) {
+      // compaction으로 옮기는 사이 삭제/교체된 파일 → 옮긴 사본은 버림
+      deadBytes.merge(location.segmentId(), (long) location.length(), Long::sum);
+      return;
+    }
+    appendIndex(
+        String.format(
+            "+\t%d\t%d\t%d\t%d\t%s",
+            location.segmentId(),
+            location.offset(),
+            location.length(),
+            location.createdAt(),
+            entry.name()));
+    index.put(entry.name(), location);
+    if (current != null) {
+      deadBytes.merge(current.segmentId(), (long) current.length(), Long::sum);
+    }
+  }
+
+  /** fsync (roll()/rewriteIndex()/stop()이 이미 반영하고 닫은 채널이면 생략) */
+  private static void force(FileChannel channel) throws IOException {
+    try {
+      channel.force(false);
+    } catch (ClosedChannelException e) {
+      // 닫기 전에 force가 끝났으므로 반영된 상태
+    }
+  }
+
+  /** segment 매핑 조회 (쓰는 중인 segment가 커졌으면 다시 매핑, 이전 매핑은 읽는 중인 스트림이 닫히면 해제) */
+  private Mapping mapping(Location location) throws IOException {
+    long end = location.offset() + location.length();
+    Mapping mapping = mappings.get(location.segmentId());
+    if (mapping != null && mapping.buffer.capacity() >= end) {
+      return mapping;
+    }
+    Mapping created;
+    try (FileChannel channel =
+        FileChannel.open(segmentPath(location.segmentId()), StandardOpenOption.READ)) {
+      created = new Mapping(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+
+    Mapping[] displaced = new Mapping[1];
+    Mapping current =
+        mappings.compute(
+            location.segmentId(),
+            (segmentId, existing) -> {
+              if (retired.contains(segmentId)
+                  || (existing != null && existing.buffer.capacity() >= end)) {
+                displaced[0] = created;
+                return existing;
+              }
+              displaced[0] = existing;
+              return created;
+            });
+    if (displaced[0] != null) {
+      displaced[0].release();
+    }
+    if (current == null) {
+      throw new NoSuchFileException(segmentPath(location.segmentId()).toString());
+    }
+    return current;
+  }
+
+  /** 읽는 동안 해제되지 않도록 매핑을 잡음 (사용 후 release) */
+  private Mapping acquire(Location location) throws IOException {
+    for (int attempt = 0; attempt < 3; attempt++) {
+      Mapping mapping = mapping(location);
+      if (mapping.retain()) {
+        return mapping;
+      }
+    }
+    throw new IOException("segment 매핑을 가져올 수 없습니다: segment-" + location.segmentId());
+  }
+
+  private void roll() throws IOException {
+    activeSegment.force(true);
+    activeSegment.close();
+    activeSegmentId++;
+    openActiveSegment();
+  }
+
+  private void openActiveSegment() throws IOException {
+    activeSegment =
+        FileChannel.open(
+            segmentPath(activeSegmentId),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    activeSize = activeSegment.size();
+  }
+
+  private Path segmentPath(int segmentId) {
+    return root.resolve(String.format("segment-%06d.dat", segmentId));
+  }
+
+  private long liveBytes(int segmentId) {
+    return index.values().stream()
+        .filter(location -> location.segmentId() == segmentId)
+        .mapToLong(Location::length)
+        .sum();
+  }
+
+  private Map<Integer, Long> listSegments() throws IOException {
+    Map<Integer, Long> sizes = new HashMap<>();
+    try (Stream<Path> files = Files.list(root)) {
+      for (Path file : files.toList()) {
+        Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+          sizes.put(Integer.parseInt(matcher.group(1)), Files.size(file));
+        }
+      }
+    }
+    return sizes;
+  }
+
+  private void appendIndex(String line) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+    while (buffer.hasRemaining()) {
+      indexLog.write(buffer);
+    }
+  }
+
+  private void replayIndex() throws IOException {
+    Path path = root.resolve(INDEX_FILE);
+    if (!Files.exists(path)) {
+      return;
+    }
+    for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+      String[] fields = line.split("\t");
+      try {
+        if (fields.length == 6 && fields[0].equals("+")) {
+          index.put(
+              fields[5],
+              new Location(
+                  Integer.parseInt(fields[1]),
+                  Long.parseLong(fields[2]),
+                  Integer.parseInt(fields[3]),
+                  Long.parseLong(fields[4])));
+        } else if (fields.length == 2 && fields[0].equals("-")) {
+          index.remove(fields[1]);
+        }
+      } catch (NumberFormatException e) {
+        log.warn("segment 인덱스의 잘못된 줄 무시: {}", line); // 비정상 종료로 잘린 줄
+      }
+    }
+  }
+
+  /** 살아 있는 항목만 담은 인덱스 로그로 원자적으로 교체 */
+  private void rewriteIndex() throws IOException {
+    Path path = root.resolve(INDEX_FILE);
+    Path compacted = root.resolve(INDEX_FILE + ".tmp");
+    StringBuilder lines = new StringBuilder();
+    index.forEach(
+        (name, location) ->
+            lines.append(
+                String.format(
+                    "+\t%d\t%d\t%d\t%d\t%s\n",
+                    location.segmentId(),
+                    location.offset(),
+                    location.length(),
+                    location.createdAt(),
+                    name)));
+    Files.writeString(compacted, lines, StandardCharsets.UTF_8);
+    try (FileChannel channel = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    }
+    Files.move(
+        compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    if (indexLog != null) {
+      indexLog.close();
+    }
+    indexLog =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  /**
+   * segment 매핑과 사용 수 (mappings에 등록된 상태 1 + 읽는 중인 스트림 수) <br>
+   * 등록 해제 후 사용 수가 0이 되면 바로 매핑을 해제하고, compaction된 segment면 파일도 삭제
+   */
+  static final class Mapping {
+
+    private final MappedByteBuffer buffer;
+    private final AtomicInteger refs = new AtomicInteger(1);
+    private volatile Path deleteOnRelease;
+
+    private Mapping(MappedByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    /** 사용 시작 (이미 해제된 매핑이면 false) */
+    boolean retain() {
+      int current;
+      do {
+        current = refs.get();
+        if (current == 0) {
+          return false;
+        }
+      } while (!refs.compareAndSet(current, current + 1));
+      return true;
+    }
+
+    void release() {
+      if (refs.decrementAndGet() != 0) {
+        return;
+      }
+      unmap(buffer);
+      Path path = deleteOnRelease;
+      if (path != null) {
+        try {
+          Files.deleteIfExists(path);
+        } catch (IOException e) {
+          log.warn("compaction된 segment 삭제 실패: {}, 오류: {}", path, e.getMessage());
+        }
+      }
+    }
+
+    /** 등록 해제 (읽는 중인 스트림이 모두 닫히면 파일 삭제) */
+    private void retire(Path path) {
+      deleteOnRelease = path;
+      release();
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+      if (INVOKE_CLEANER == null) {
+        return;
+      }
+      try {
+        INVOKE_CLEANER.invoke(UNSAFE, buffer);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        log.warn("segment 매핑 해제 실패, GC가 해제: {}", e.getMessage());
+      }
+    }
+  }
+}
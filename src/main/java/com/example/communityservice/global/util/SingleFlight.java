@@ -0,0 +1,90 @@
+package com.example.communityservice.global.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합침 (single-flight) <br>
+ * - 처음 들어온 요청(leader)만 실제로 조회하고, 조회 중에 들어온 같은 키 요청(follower)은 그 결과를 함께 사용 <br>
+ * - 조회가 끝나면 바로 제거 (결과를 보관하는 캐시가 아님) → 끝난 뒤 들어온 요청은 새로 조회 <br>
+ * - leader가 실패하면 follower도 같은 예외를 받음 <br>
+ * - follower는 timeout까지만 기다리고, 넘으면 직접 조회 (느린 leader 하나에 모든 요청이 묶이지 않도록)
+ *
+ * @param <K> 조회 키 (equals/hashCode 필요)
+ * @param <V> 조회 결과 (여러 요청이 같은 객체를 공유하므로 수정하지 않아야 함)
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final long timeoutMillis;
+  private final Counter leaders;
+  private final Counter followers;
+  private final Counter timeouts;
+
+  /**
+   * @param name 메트릭 태그 (single.flight.requests{name=...})
+   * @param timeoutMillis follower가 leader를 기다리는 최대 시간
+   */
+  public SingleFlight(String name, long timeoutMillis, MeterRegistry meterRegistry) {
+    this.timeoutMillis = timeoutMillis;
+    this.leaders = requestCounter(meterRegistry, name, "leader");
+    this.followers = requestCounter(meterRegistry, name, "follower");
+    this.timeouts = requestCounter(meterRegistry, name, "timeout");
+  }
+
+  /**
+   * 같은 키로 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 직접 조회
+   *
+   * @param key 조회 키
+   * @param loader 실제 조회
+   * @return 조회 결과
+   */
+  public V execute(K key, Supplier<V> loader) {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+    if (existing == null) {
+      leaders.increment();
+      try {
+        V value = loader.get();
+        flight.complete(value);
+        return value;
+      } catch (RuntimeException | Error e) {
+        flight.completeExceptionally(e);
+        throw e;
+      } finally {
+        inFlight.remove(key, flight);
+      }
+    }
+
+    followers.increment();
+    try {
+      return existing.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      timeouts.increment();
+      return loader.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return loader.get();
+    } catch (ExecutionException e) {
+      // leader가 던진 예외를 그대로 전달 (loader는 unchecked 예외만 던짐)
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw (Error) e.getCause();
+    }
+  }
+
+  private static Counter requestCounter(MeterRegistry meterRegistry, String name, String role) {
+    return Counter.builder("single.flight.requests")
+        .description("동시 조회 합치기 결과 (leader: 직접 조회, follower: 결과 공유, timeout: 기다리다 직접 조회)")
+        .tags("name", name, "role", role)
+        .register(meterRegistry);
+  }
+}
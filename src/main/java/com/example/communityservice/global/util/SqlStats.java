@@ -0,0 +1,120 @@
+package com.example.communityservice.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+
+/**
+ * 요청 하나에서 실행된 SQL 통계 (실행 횟수, JDBC 시간, 읽은 행 수, SQL 형태별 실행 횟수) <br>
+ * - 요청을 처리하는 스레드에 묶어서 저장 (SqlStatsFilter가 시작/종료) <br>
+ * - 같은 형태의 SQL이 한 요청에서 여러 번 실행되면 N+1 의심으로 판단
+ */
+public class SqlStats {
+
+  private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+  // 현재 실행 중인 리포지토리 메서드 (예: PostsRepository.findById)
+  private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+
+  // 같은 SQL 형태로 묶기 위해 리터럴과 IN 목록 길이 차이를 제거
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+  private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  @Getter private int statements;
+  @Getter private long elapsedMillis;
+  @Getter private long rows;
+  private final Map<String, Shape> shapes = new LinkedHashMap<>();
+
+  /** SQL 형태별 실행 횟수와 처음 실행한 리포지토리 메서드 */
+  public record Shape(String sql, int count, String repositoryMethod) {}
+
+  /** 현재 스레드에서 새 통계 수집 시작 */
+  public static SqlStats start() {
+    SqlStats stats = new SqlStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  /** 현재 스레드의 통계 (수집 중이 아니면 null) */
+  public static SqlStats current() {
+    return CURRENT.get();
+  }
+
+  /** 현재 스레드의 통계 수집 종료 */
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  /**
+   * 리포지토리 메서드 실행 시작 표시
+   *
+   * @param method 리포지토리 메서드 이름
+   * @return 바깥 리포지토리 메서드 이름 ({@link #exitRepositoryMethod}에 그대로 전달)
+   */
+  public static String enterRepositoryMethod(String method) {
+    String previous = REPOSITORY_METHOD.get();
+    REPOSITORY_METHOD.set(method);
+    return previous;
+  }
+
+  /** 리포지토리 메서드 실행 종료 표시 */
+  public static void exitRepositoryMethod(String previous) {
+    if (previous == null) {
+      REPOSITORY_METHOD.remove();
+    } else {
+      REPOSITORY_METHOD.set(previous);
+    }
+  }
+
+  /** 현재 실행 중인 리포지토리 메서드 (리포지토리 밖에서 실행된 SQL이면 null) */
+  public static String currentRepositoryMethod() {
+    return REPOSITORY_METHOD.get();
+  }
+
+  /** SQL에서 리터럴/IN 목록 길이를 제거한 형태 */
+  public static String shapeOf(String sql) {
+    String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = IN_LIST.matcher(shape).replaceAll("(?)");
+    return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+  }
+
+  /** SQL 한 번 실행 기록 (batch 실행은 한 번의 왕복으로 기록) */
+  public void recordStatement(String sql, long elapsedMillis, String repositoryMethod) {
+    statements++;
+    this.elapsedMillis += elapsedMillis;
+    String shape = shapeOf(sql);
+    shapes.merge(
+        shape,
+        new Shape(shape, 1, repositoryMethod),
+        (existing, added) ->
+            new Shape(existing.sql(), existing.count() + 1, existing.repositoryMethod()));
+  }
+
+  /** 결과 행 하나 읽음 */
+  public void recordRow() {
+    rows++;
+  }
+
+  /**
+   * 같은 형태로 여러 번 실행된 SQL (N+1 의심)
+   *
+   * @param threshold 이 횟수 이상이면 의심
+   * @return 실행 횟수가 많은 순
+   */
+  public List<Shape> repeatedShapes(int threshold) {
+    return shapes.values().stream()
+        .filter(shape -> shape.count() >= threshold)
+        .sorted((a, b) -> Integer.compare(b.count(), a.count()))
+        .toList();
+  }
+
+  /** 응답 헤더 값 (예: statements=3;time=12ms;rows=20) */
+  public String toHeaderValue() {
+    return String.format("statements=%d;time=%dms;rows=%d", statements, elapsedMillis, rows);
+  }
+}
@@ -0,0 +1,147 @@
+package com.example.communityservice.global.util;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP 요청별 SQL 통계 수집 필터 <br>
+ * - 요청마다 실행 횟수/JDBC 시간/읽은 행 수를 메트릭으로 기록 (sql.request.statements, sql.request.time,
+ * sql.request.rows) <br>
+ * - prod 프로필이 아니면 응답 헤더(X-Sql-Stats)로도 전달 <br>
+ * - 같은 형태의 SQL이 기준 횟수 이상 실행되면 N+1 의심으로 엔드포인트와 함께 경고 로그
+ */
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+  public static final String HEADER_NAME = "X-Sql-Stats";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean headerEnabled;
+
+  @Value("${sql.stats.n-plus-one-threshold:5}")
+  private int nPlusOneThreshold;
+
+  public SqlStatsFilter(MeterRegistry meterRegistry, Environment environment) {
+    this.meterRegistry = meterRegistry;
+    this.headerEnabled = environment.acceptsProfiles(Profiles.of("!prod"));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    SqlStats stats = SqlStats.start();
+    HttpServletResponse target =
+        headerEnabled ? new StatsHeaderResponse(response, stats) : response;
+    try {
+      filterChain.doFilter(request, target);
+    } finally {
+      SqlStats.end();
+      if (target instanceof StatsHeaderResponse statsResponse) {
+        statsResponse.addStatsHeader(); // 본문 없이 끝난 응답
+      }
+      record(request, stats);
+    }
+  }
+
+  private void record(HttpServletRequest request, SqlStats stats) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+    String method = request.getMethod();
+
+    DistributionSummary.builder("sql.request.statements")
+        .description("요청당 SQL 실행 횟수")
+        .tags("method", method, "uri", uri)
+        .register(meterRegistry)
+        .record(stats.getStatements());
+    Timer.builder("sql.request.time")
+        .description("요청당 JDBC 실행 시간 합계")
+        .tags("method", method, "uri", uri)
+        .register(meterRegistry)
+        .record(Duration.ofMillis(stats.getElapsedMillis()));
+    DistributionSummary.builder("sql.request.rows")
+        .description("요청당 읽은 행 수")
+        .tags("method", method, "uri", uri)
+        .register(meterRegistry)
+        .record(stats.getRows());
+
+    for (SqlStats.Shape shape : stats.repeatedShapes(nPlusOneThreshold)) {
+      meterRegistry.counter("sql.n-plus-one.suspected", "method", method, "uri", uri).increment();
+      log.warn(
+          "N+1 의심: {} {} - 같은 SQL {}회 실행 (처음 실행: {}): {}",
+          method,
+          uri,
+          shape.count(),
+          shape.repositoryMethod() != null ? shape.repositoryMethod() : "리포지토리 밖",
+          shape.sql());
+    }
+  }
+
+  /** 본문을 쓰기 직전(응답 커밋 전)에 통계 헤더를 추가하는 응답 래퍼 */
+  private static class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+    private final SqlStats stats;
+    private boolean headerAdded;
+
+    StatsHeaderResponse(HttpServletResponse response, SqlStats stats) {
+      super(response);
+      this.stats = stats;
+    }
+
+    void addStatsHeader() {
+      if (!headerAdded && !isCommitted()) {
+        headerAdded = true;
+        setHeader(HEADER_NAME, stats.toHeaderValue());
+      }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      addStatsHeader();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      addStatsHeader();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      addStatsHeader();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+      addStatsHeader();
+      super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+      addStatsHeader();
+      super.sendError(sc);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.example.communityservice.global.util;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * DataSource 프록시에서 SQL 실행/결과 행 읽기를 받아 통계에 기록 <br>
+ * - 요청 처리 중이면 요청 통계(SqlStats)에 누적 <br>
+ * - 요청과 무관하게 리포지토리 메서드별 실행 시간/행 수를 메트릭으로 기록 (sql.repository.statements, sql.repository.rows)
+ */
+public class SqlStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+  private static final String NO_REPOSITORY = "none";
+
+  // DataSource보다 늦게 만들어질 수 있으므로 처음 사용할 때 조회
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  // 행마다 meter를 다시 조회하지 않도록 리포지토리 메서드별로 보관
+  private final ConcurrentHashMap<String, Timer> statementTimers = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Counter> rowCounters = new ConcurrentHashMap<>();
+
+  public SqlStatsListener(ObjectProvider<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {}
+
+  @Override
+  public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+    if (queryInfoList.isEmpty()) {
+      return;
+    }
+    String repositoryMethod = SqlStats.currentRepositoryMethod();
+    SqlStats stats = SqlStats.current();
+    if (stats != null) {
+      stats.recordStatement(
+          queryInfoList.get(0).getQuery(), executionInfo.getElapsedTime(), repositoryMethod);
+    }
+
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry != null) {
+      statementTimers
+          .computeIfAbsent(
+              repositoryMethod != null ? repositoryMethod : NO_REPOSITORY,
+              method ->
+                  Timer.builder("sql.repository.statements")
+                      .description("리포지토리 메서드별 SQL 실행 시간")
+                      .tag("method", method)
+                      .register(registry))
+          .record(executionInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public void beforeMethod(MethodExecutionContext executionContext) {}
+
+  /** ResultSet.next()가 true를 반환할 때마다 행 하나로 기록 */
+  @Override
+  public void afterMethod(MethodExecutionContext executionContext) {
+    if (!(executionContext.getTarget() instanceof ResultSet)
+        || !"next".equals(executionContext.getMethod().getName())
+        || !Boolean.TRUE.equals(executionContext.getResult())) {
+      return;
+    }
+    SqlStats stats = SqlStats.current();
+    if (stats != null) {
+      stats.recordRow();
+    }
+
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry != null) {
+      String repositoryMethod = SqlStats.currentRepositoryMethod();
+      rowCounters
+          .computeIfAbsent(
+              repositoryMethod != null ? repositoryMethod : NO_REPOSITORY,
+              method ->
+                  Counter.builder("sql.repository.rows")
+                      .description("리포지토리 메서드별 읽은 행 수")
+                      .tag("method", method)
+                      .register(registry))
+          .increment();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.example.communityservice.global.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.communityservice.global.exception.BusinessException;
+import com.example.communityservice.global.exception.ErrorCode;
+
+/**
+ * 동시 업로드 바이트 제한기 <br>
+ * - 사용자(키)별 / 서비스 전체 동시 업로드 중인 바이트 수를 제한 <br>
+ * - 대용량 업로드가 몰려도 디스크 I/O와 파일 I/O 풀이 다른 요청을 굶기지 않도록 보호
+ */
+@Component
+public class UploadLimiter {
+
+  @Value("${file.upload.max-concurrent-bytes-per-user:52428800}") // 50MB
+  private long maxBytesPerUser;
+
+  @Value("${file.upload.max-concurrent-bytes:209715200}") // 200MB
+  private long maxBytesTotal;
+
+  private final AtomicLong inFlightBytes = new AtomicLong();
+
+  // 업로드 중인 키만 보관 (0이 되면 제거 → 메모리가 사용자 수만큼 늘어나지 않음)
+  private final ConcurrentHashMap<Object, Long> inFlightBytesByKey = new ConcurrentHashMap<>();
+
+  /** 획득한 업로드 한도 (try-with-resources로 반환) */
+  public interface Permit extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  /**
+   * 업로드 한도 획득 (한도 초과 시 즉시 실패, 대기하지 않음)
+   *
+   * @param key 사용자 식별 키
+   * @param bytes 이번 요청에서 업로드할 바이트 수
+   * @return 반환용 Permit
+   */
+  public Permit acquire(Object key, long bytes) {
+    // compute는 키 단위로 원자적으로 실행되며, 안에서 던진 예외는 매핑을 바꾸지 않음
+    inFlightBytesByKey.compute(
+        key,
+        (k, current) -> {
+          long next = (current == null ? 0 : current) + bytes;
+          if (next > maxBytesPerUser) {
+            throw new BusinessException(
+                ErrorCode.UPLOAD_LIMIT_EXCEEDED, "진행 중인 업로드가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+          }
+          return next;
+        });
+
+    long total;
+    do {
+      total = inFlightBytes.get();
+      if (total + bytes > maxBytesTotal) {
+        releaseKey(key, bytes);
+        throw new BusinessException(
+            ErrorCode.UPLOAD_LIMIT_EXCEEDED, "서버의 업로드 처리량이 한도에 도달했습니다. 잠시 후 다시 시도해주세요.");
+      }
+    } while (!inFlightBytes.compareAndSet(total, total + bytes));
+
+    return () -> {
+      inFlightBytes.addAndGet(-bytes);
+      releaseKey(key, bytes);
+    };
+  }
+
+  /** 현재 업로드 중인 총 바이트 수 */
+  public long inFlightBytes() {
+    return inFlightBytes.get();
+  }
+
+  private void releaseKey(Object key, long bytes) {
+    inFlightBytesByKey.computeIfPresent(
+        key, (k, current) -> current - bytes <= 0 ? null : current - bytes);
+  }
+}
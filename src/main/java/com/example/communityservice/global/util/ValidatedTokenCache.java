@@ -0,0 +1,87 @@
+package com.example.communityservice.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 서비스가 확인한 Authorization 헤더 → 회원 ID (요청 수 제한 키 전용) <br>
+ * - AuthService가 검증에 성공한 헤더만 기록 → 임의로 만든 헤더는 회원 키를 얻지 못하고 IP 기준으로 제한 <br>
+ * - 헤더 원문 대신 SHA-256 값을 보관 (토큰이 메모리에 남지 않고, 해시 충돌로 다른 회원의 키를 쓸 수 없음) <br>
+ * - 권한 확인에는 사용하지 않음 (만료/폐기된 토큰이 ttl 동안 남아도 제한 키만 회원 기준으로 유지될 뿐)
+ */
+@Component
+public class ValidatedTokenCache {
+
+  // 쓰기 요청마다 조회하므로 스레드별로 재사용 (getInstance는 provider 조회 비용이 해시 계산보다 큼)
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(ValidatedTokenCache::newSha256);
+
+  private record Entry(Long userId, long expiresAt) {}
+
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final long ttlMillis;
+  private final int maxSize;
+
+  public ValidatedTokenCache(
+      @Value("${auth.validated-token.ttl-ms:600000}") long ttlMillis,
+      @Value("${auth.validated-token.max-size:100000}") int maxSize) {
+    this.ttlMillis = ttlMillis;
+    this.maxSize = maxSize;
+  }
+
+  /** 검증에 성공한 헤더 기록 (가득 차면 만료된 항목을 정리하고, 그래도 가득 차면 기록하지 않음 → IP 기준 유지) */
+  public void put(String authorizationHeader, Long userId) {
+    if (authorizationHeader == null || userId == null) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    if (entries.size() >= maxSize) {
+      evictExpired(now);
+      if (entries.size() >= maxSize) {
+        return;
+      }
+    }
+    entries.put(digest(authorizationHeader), new Entry(userId, now + ttlMillis));
+  }
+
+  /**
+   * @return 검증된 헤더면 회원 ID, 검증된 적이 없거나 만료됐으면 null
+   */
+  public Long findUserId(String authorizationHeader) {
+    if (authorizationHeader == null || entries.isEmpty()) {
+      return null;
+    }
+    Entry entry = entries.get(digest(authorizationHeader));
+    return entry == null || entry.expiresAt() < System.currentTimeMillis() ? null : entry.userId();
+  }
+
+  /** 만료된 항목 정리 */
+  @Scheduled(fixedDelayString = "${auth.validated-token.evict-interval-ms:60000}")
+  public void evictExpired() {
+    evictExpired(System.currentTimeMillis());
+  }
+
+  private void evictExpired(long now) {
+    entries.values().removeIf(entry -> entry.expiresAt() < now);
+  }
+
+  private static String digest(String authorizationHeader) {
+    byte[] hash = SHA_256.get().digest(authorizationHeader.getBytes(StandardCharsets.UTF_8));
+    return HexFormat.of().formatHex(hash);
+  }
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 지원하지 않는 JVM입니다.", e); // 모든 JVM에서 필수 지원
+    }
+  }
+}
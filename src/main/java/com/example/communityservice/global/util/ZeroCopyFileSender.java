@@ -0,0 +1,56 @@
+package com.example.communityservice.global.util;
+
+import java.nio.file.Path;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨테이너의 zero-copy 파일 전송(sendfile) 지원 <br>
+ * - Tomcat NIO/NIO2 커넥터는 요청 속성으로 파일 경로를 넘기면 응답 본문을 커널의 sendfile로 직접 전송 <br>
+ * - 파일 내용이 JVM 힙/사용자 공간 버퍼를 거치지 않으므로 큰 파일 다운로드 시 CPU/메모리 사용량 감소 <br>
+ * - 지원하지 않는 컨테이너이거나 작은 파일이면 호출 측에서 일반 스트리밍으로 처리
+ */
+@Component
+public class ZeroCopyFileSender {
+
+  // Tomcat이 정의한 요청 속성 이름 (org.apache.catalina.Globals)
+  private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  // 작은 파일은 sendfile 준비 비용이 더 크므로 일반 스트리밍으로 전송 (Tomcat DefaultServlet 기본값과 동일한 48KB)
+  @Value("${file.download.sendfile-min-size:49152}")
+  private long sendfileMinSize;
+
+  /**
+   * 현재 요청에서 sendfile을 사용할 수 있는지 확인
+   *
+   * @param request 현재 요청
+   * @param size 전송할 파일 크기 (바이트)
+   * @return 컨테이너가 지원하고 파일이 충분히 크면 true
+   */
+  public boolean isAvailable(HttpServletRequest request, long size) {
+    return size >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED));
+  }
+
+  /**
+   * 파일 전체를 sendfile로 전송하도록 컨테이너에 위임 <br>
+   * 상태 코드와 다른 헤더는 호출 측에서 먼저 설정해야 하며, 호출 후에는 본문을 직접 쓰면 안 됨
+   *
+   * @param request 현재 요청
+   * @param response 현재 응답
+   * @param path 전송할 파일 경로
+   * @param size 파일 크기 (바이트)
+   */
+  public void send(HttpServletRequest request, HttpServletResponse response, Path path, long size) {
+    response.setContentLengthLong(size);
+    request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+    request.setAttribute(SENDFILE_START, 0L);
+    request.setAttribute(SENDFILE_END, size);
+  }
+}
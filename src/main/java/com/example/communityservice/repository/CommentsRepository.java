@@ -2,7 +2,14 @@ package com.example.communityservice.repository;
 
 import java.util.List;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.communityservice.entity.Comments;
@@ -15,4 +22,11 @@ public interface CommentsRepository extends JpaRepository<Comments, Long> {
   List<Comments> findByAuthors_AuthorIdOrderByCreatedAtDesc(Long authorId);
 
   // 특정 게시글의 댓글수 조회 : post.getCommentsCount();
+
+  // 게시글 삭제용 댓글 일괄 삭제 (엔티티 로딩 없이 최대 limit개씩 나눠서 삭제, 삭제된 행 수 반환)
+  // 영향받는 테이블을 지정하지 않으면 native 쿼리 실행 시 Hibernate가 2차 캐시 전체를 비움
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+  @Query(value = "DELETE FROM comments WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+  int deleteChunkByPostId(@Param("postId") Long postId, @Param("limit") int limit);
 }
@@ -1,8 +1,11 @@
 package com.example.communityservice.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,7 +14,8 @@ import com.example.communityservice.entity.PostAttachments;
 
 /** 첨부파일 관련 데이터베이스 접근 리포지토리 */
 @Repository
-public interface PostAttachmentsRepository extends JpaRepository<PostAttachments, Long> {
+public interface PostAttachmentsRepository
+    extends JpaRepository<PostAttachments, Long>, PostAttachmentsRepositoryCustom {
 
   /** 특정 게시글의 첨부파일 목록 조회 */
   @Query("SELECT pa FROM PostAttachments pa WHERE pa.post.postId = :postId")
@@ -21,5 +25,44 @@ public interface PostAttachmentsRepository extends JpaRepository<PostAttachments
   @Query("SELECT COUNT(pa) FROM PostAttachments pa WHERE pa.post.postId = :postId")
   int countByPostId(@Param("postId") Long postId);
 
-  // 특정 게시글의 첨부파일 삭제 메서드 구현 X : Posts 엔티티의 cascade 설정에 따라 연결된 첨부파일, 댓글 등의 DB 레코드는 자동으로 삭제됨
+  /** 특정 게시글의 첨부파일 URL 목록 조회 (게시글 삭제 후 실제 파일 정리용, 엔티티 로딩 X) */
+  @Query("SELECT pa.fileUrl FROM PostAttachments pa WHERE pa.post.postId = :postId")
+  List<String> findFileUrlsByPostId(@Param("postId") Long postId);
+
+  /** 특정 게시글의 첨부파일 레코드 일괄 삭제 (게시글당 첨부파일 수는 적으므로 한 번에 삭제) */
+  @Modifying
+  @Query("DELETE FROM PostAttachments pa WHERE pa.post.postId = :postId")
+  int deleteByPostId(@Param("postId") Long postId);
+
+  /** 주어진 URL 중 아직 첨부파일 레코드가 참조하고 있는 URL 조회 (공유 파일 삭제 전 참조 확인용) */
+  @Query("SELECT DISTINCT pa.fileUrl FROM PostAttachments pa WHERE pa.fileUrl IN :fileUrls")
+  List<String> findReferencedFileUrls(@Param("fileUrls") Collection<String> fileUrls);
+
+  /** 첨부파일 URL을 정렬 순서로 조회 (저장소 점검용 keyset 페이징, 여러 첨부파일이 공유하는 URL은 한 번만) */
+  @Query(
+      "SELECT DISTINCT pa.fileUrl FROM PostAttachments pa WHERE pa.fileUrl > :afterUrl"
+          + " ORDER BY pa.fileUrl")
+  List<String> findFileUrlsAfter(@Param("afterUrl") String afterUrl, Pageable pageable);
+
+  /** 내용 기반 저장소로 옮기지 않은 첨부파일을 ID 순서로 조회 (마이그레이션용 keyset 페이징, segment 파일 제외) */
+  @Query(
+      "SELECT pa FROM PostAttachments pa WHERE pa.postAttachmentId > :afterId"
+          + " AND pa.fileUrl NOT LIKE :blobPrefix AND pa.fileUrl NOT LIKE :segmentPrefix"
+          + " ORDER BY pa.postAttachmentId")
+  List<PostAttachments> findNotInBlobStore(
+      @Param("afterId") Long afterId,
+      @Param("blobPrefix") String blobPrefix,
+      @Param("segmentPrefix") String segmentPrefix,
+      Pageable pageable);
+
+  /** 첨부파일의 저장 위치를 내용 기반 저장소로 변경 (마이그레이션용) */
+  @Modifying
+  @Query(
+      "UPDATE PostAttachments pa SET pa.fileUrl = :fileUrl, pa.fileName = :fileName,"
+          + " pa.contentHash = :contentHash WHERE pa.postAttachmentId = :attachmentId")
+  int updateStorageLocation(
+      @Param("attachmentId") Long attachmentId,
+      @Param("fileUrl") String fileUrl,
+      @Param("fileName") String fileName,
+      @Param("contentHash") String contentHash);
 }
@@ -0,0 +1,18 @@
+package com.example.communityservice.repository;
+
+import java.util.List;
+
+import com.example.communityservice.entity.PostAttachments;
+
+/** PostAttachments 커스텀 리포지토리 (JPA로 처리하기 어려운 JDBC 배치 작업) */
+public interface PostAttachmentsRepositoryCustom {
+
+  /**
+   * 첨부파일 여러 건을 한 번의 JDBC 배치로 INSERT <br>
+   * IDENTITY 전략에서는 Hibernate가 INSERT 배치를 할 수 없어서 saveAll()도 한 건씩 실행됨
+   *
+   * @param attachments 저장할 첨부파일 (ID 없음)
+   * @return 생성된 ID가 채워진 첨부파일 (입력 순서 유지)
+   */
+  List<PostAttachments> insertAll(List<PostAttachments> attachments);
+}
@@ -0,0 +1,112 @@
+package com.example.communityservice.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.communityservice.entity.PostAttachments;
+import com.example.communityservice.entity.Posts;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PostAttachmentsRepositoryCustom 구현체 <br>
+ * JdbcTemplate은 현재 JPA 트랜잭션의 커넥션을 그대로 사용하므로 같은 트랜잭션에서 커밋/롤백됨 <br>
+ * Hibernate를 거치지 않는 INSERT이므로 게시글의 첨부파일 컬렉션 2차 캐시는 직접 무효화
+ */
+@RequiredArgsConstructor
+public class PostAttachmentsRepositoryCustomImpl implements PostAttachmentsRepositoryCustom {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO post_attachments "
+          + "(post_id, original_filename, file_name, file_url, file_size, content_hash) "
+          + "VALUES (?, ?, ?, ?, ?, ?)";
+
+  private static final String ATTACHMENTS_ROLE = Posts.class.getName() + ".attachments";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManagerFactory entityManagerFactory;
+
+  @Override
+  public List<PostAttachments> insertAll(List<PostAttachments> attachments) {
+    if (attachments.isEmpty()) {
+      return List.of();
+    }
+
+    // MySQL: rewriteBatchedStatements=true이면 multi-row INSERT 한 번으로 전송됨
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            PostAttachments attachment = attachments.get(i);
+            ps.setLong(1, attachment.getPost().getPostId());
+            ps.setString(2, attachment.getOriginalFilename());
+            ps.setString(3, attachment.getFileName());
+            ps.setString(4, attachment.getFileUrl());
+            ps.setLong(5, attachment.getFileSize());
+            ps.setString(6, attachment.getContentHash());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return attachments.size();
+          }
+        },
+        keyHolder);
+
+    List<PostAttachments> saved = new ArrayList<>(attachments.size());
+    for (int i = 0; i < attachments.size(); i++) {
+      PostAttachments attachment = attachments.get(i);
+      Number id = (Number) keyHolder.getKeyList().get(i).values().iterator().next();
+      saved.add(
+          PostAttachments.builder()
+              .postAttachmentId(id.longValue())
+              .post(attachment.getPost())
+              .originalFilename(attachment.getOriginalFilename())
+              .fileName(attachment.getFileName())
+              .fileUrl(attachment.getFileUrl())
+              .fileSize(attachment.getFileSize())
+              .contentHash(attachment.getContentHash())
+              .build());
+    }
+
+    evictAttachmentCollections(
+        attachments.stream()
+            .map(attachment -> attachment.getPost().getPostId())
+            .distinct()
+            .toList());
+    return saved;
+  }
+
+  /** 게시글들의 첨부파일 컬렉션 캐시 무효화 (지금 한 번, 커밋 이후 한 번 → 커밋 전에 다시 캐시된 이전 목록도 제거) */
+  private void evictAttachmentCollections(List<Long> postIds) {
+    Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    Runnable evict = () -> postIds.forEach(id -> cache.evictCollectionData(ATTACHMENTS_ROLE, id));
+    evict.run();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              evict.run();
+            }
+          });
+    }
+  }
+}
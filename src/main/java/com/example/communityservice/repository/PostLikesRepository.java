@@ -2,9 +2,13 @@ package com.example.communityservice.repository;
 
 import java.util.List;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -22,6 +26,13 @@ public interface PostLikesRepository extends JpaRepository<PostLikes, Long> {
   @Query("DELETE FROM PostLikes pl WHERE pl.userId = :userId AND pl.post.postId = :postId")
   void deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 
+  // 게시글 삭제용 좋아요 일괄 삭제 (엔티티 로딩 없이 최대 limit개씩 나눠서 삭제, 삭제된 행 수 반환)
+  // 영향받는 테이블을 지정하지 않으면 native 쿼리 실행 시 Hibernate가 2차 캐시 전체를 비움
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_likes"))
+  @Query(value = "DELETE FROM post_likes WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+  int deleteChunkByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
   /**
    * 배치 쿼리로 N+1 문제 해결 여러 게시글의 좋아요 상태를 한 번의 쿼리로 조회
    *
@@ -0,0 +1,99 @@
+package com.example.communityservice.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.example.communityservice.entity.PostCategory;
+
+/**
+ * 게시글 대량 내보내기 전용 JDBC 리포지토리 <br>
+ * - JPA 엔티티/영속성 컨텍스트를 거치지 않고 ResultSet을 한 행씩 콜백으로 전달 <br>
+ * - forward-only 커서 + 고정 fetch size로 전체 결과를 메모리에 올리지 않음 (OFFSET 페이징 X) <br>
+ * - 서버 커서(useCursorFetch=true)가 켜진 내보내기 전용 풀 사용 (ExportDataSourceConfig)
+ */
+@Repository
+public class PostsExportRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // MySQL은 useCursorFetch=true일 때 양수 fetch size로 서버 커서를 사용함
+  @Value("${post.export.fetch-size:1000}")
+  private int fetchSize;
+
+  public PostsExportRepository(@Qualifier("exportDataSource") DataSource exportDataSource) {
+    this.jdbcTemplate = new JdbcTemplate(exportDataSource);
+  }
+
+  /**
+   * 조건에 맞는 게시글을 post_id 순서로 스트리밍 조회
+   *
+   * @param category 카테고리 필터 (null이면 전체)
+   * @param from 작성일시 시작 (포함, null 가능)
+   * @param to 작성일시 끝 (미포함, null 가능)
+   * @param includeComments 댓글 목록(JSON 배열) 컬럼 포함 여부
+   * @param handler 행 단위 처리 콜백
+   */
+  public void streamPosts(
+      PostCategory category,
+      LocalDateTime from,
+      LocalDateTime to,
+      boolean includeComments,
+      RowCallbackHandler handler) {
+    StringBuilder sql =
+        new StringBuilder(
+            "SELECT p.post_id, p.category, p.title, p.content, p.views, p.likes, p.tags, "
+                + "p.created_at, p.updated_at, a.author_name, a.is_anonymous, "
+                + "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id) AS comments_count");
+    if (includeComments) {
+      // 게시글마다 추가 쿼리를 날리지 않도록 DB에서 댓글을 JSON 배열로 묶어서 한 컬럼으로 가져옴
+      sql.append(
+          ", (SELECT JSON_ARRAYAGG(JSON_OBJECT("
+              + "'commentId', c.comment_id, 'content', c.content, "
+              + "'authorName', ca.author_name, 'isAnonymous', ca.is_anonymous, "
+              + "'createdAt', c.created_at)) "
+              + "FROM comments c JOIN authors ca ON ca.author_id = c.author_id "
+              + "WHERE c.post_id = p.post_id) AS comments_json");
+    }
+    sql.append(" FROM posts p JOIN authors a ON a.author_id = p.author_id WHERE 1 = 1");
+
+    List<Object> params = new ArrayList<>();
+    if (category != null) {
+      sql.append(" AND p.category = ?");
+      params.add(category.name());
+    }
+    if (from != null) {
+      sql.append(" AND p.created_at >= ?");
+      params.add(Timestamp.valueOf(from));
+    }
+    if (to != null) {
+      sql.append(" AND p.created_at < ?");
+      params.add(Timestamp.valueOf(to));
+    }
+    sql.append(" ORDER BY p.post_id");
+
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement ps =
+              connection.prepareStatement(
+                  sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          ps.setFetchSize(fetchSize);
+          for (int i = 0; i < params.size(); i++) {
+            ps.setObject(i + 1, params.get(i));
+          }
+          return ps;
+        },
+        handler);
+  }
+}
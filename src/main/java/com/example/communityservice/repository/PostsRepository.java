@@ -1,12 +1,17 @@
 package com.example.communityservice.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -40,6 +45,10 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
   Page<Posts> findByTitleContainingOrContentContaining(
       @Param("keyword") String keyword, Pageable pageable);
 
+  // 카테고리만 조회 (엔티티를 로딩하지 않고 존재 확인 + 목록 캐시 무효화 대상 확인)
+  @Query("SELECT p.category FROM Posts p WHERE p.postId = :postId")
+  Optional<PostCategory> findCategoryByPostId(@Param("postId") Long postId);
+
   // 좋아요 증가 (Posts 테이블의 likes 컬럼 값만 +1)
   @Modifying
   @Query("UPDATE Posts p SET p.likes = p.likes + 1 WHERE p.postId = :postId")
@@ -50,6 +59,33 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
   @Query("UPDATE Posts p SET p.likes = p.likes - 1 WHERE p.postId = :postId AND p.likes > 0")
   void decrementLikes(@Param("postId") Long postId);
 
+  // 첨부파일 수 변경 (업로드 시 +n, 삭제 시 -1)
+  @Modifying
+  @Query(
+      "UPDATE Posts p SET p.attachmentCount = p.attachmentCount + :delta WHERE p.postId = :postId")
+  void addAttachmentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  // 첨부파일 수를 실제 레코드 수로 다시 계산 (post_id 범위 단위, 기존 데이터 보정용)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+  @Query(
+      value =
+          "UPDATE posts p SET p.attachment_count = "
+              + "(SELECT COUNT(*) FROM post_attachments pa WHERE pa.post_id = p.post_id) "
+              + "WHERE p.post_id > :afterId AND p.post_id <= :untilId",
+      nativeQuery = true)
+  int recountAttachments(@Param("afterId") Long afterId, @Param("untilId") Long untilId);
+
+  // 가장 큰 게시글 ID (보정 작업 범위 계산용)
+  @Query("SELECT COALESCE(MAX(p.postId), 0) FROM Posts p")
+  Long findMaxPostId();
+
+  // 게시글 단건 삭제 (cascade로 자식 엔티티를 하나씩 로딩/삭제하지 않도록 벌크 DELETE 사용)
+  // clearAutomatically : 이미 로딩된 Posts 엔티티가 영속성 컨텍스트에 남아 다시 flush되지 않도록 비움
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM Posts p WHERE p.postId = :postId")
+  int deleteByPostId(@Param("postId") Long postId);
+
   // 태그 검색을 위한 쿼리 메서드
 
   // 태그로 게시글 검색 (JSON_CONTAINS 사용)
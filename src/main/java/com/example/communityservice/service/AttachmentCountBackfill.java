@@ -0,0 +1,48 @@
+package com.example.communityservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.communityservice.repository.PostsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 첨부파일 수(attachment_count) 일회성 보정 <br>
+ * - post.attachment-count.backfill=true로 실행했을 때만 등록됨 (컬럼 추가 전에 올라온 게시글용) <br>
+ * - post_id 범위 단위로 나눠서 갱신 → 한 번의 UPDATE가 테이블 전체를 오래 잠그지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.attachment-count.backfill", havingValue = "true")
+public class AttachmentCountBackfill implements ApplicationRunner {
+
+  private final PostsRepository postsRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${post.attachment-count.backfill-batch-size:5000}")
+  private int batchSize;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    long startTime = System.currentTimeMillis();
+    long maxPostId = postsRepository.findMaxPostId();
+    int updated = 0;
+
+    for (long afterId = 0; afterId < maxPostId; afterId += batchSize) {
+      long from = afterId;
+      Integer count =
+          transactionTemplate.execute(
+              status -> postsRepository.recountAttachments(from, from + batchSize));
+      updated += count != null ? count : 0;
+    }
+
+    log.info("게시글 첨부파일 수 보정 완료: {}건, {}ms", updated, System.currentTimeMillis() - startTime);
+  }
+}
@@ -0,0 +1,133 @@
+package com.example.communityservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.communityservice.entity.PostAttachments;
+import com.example.communityservice.global.util.FileDeletionQueue;
+import com.example.communityservice.global.util.FileManager;
+import com.example.communityservice.global.util.SavedFile;
+import com.example.communityservice.repository.PostAttachmentsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 첨부파일을 내용 기반 저장소(blobs)로 옮기는 일회성 마이그레이션 <br>
+ * - file.upload.dedup.migrate=true로 실행했을 때만 등록됨 <br>
+ * - ID 기준 keyset 페이징으로 batch를 읽고, 해시 계산/링크는 파일 I/O 풀에서 병렬 처리 <br>
+ * - batch마다 DB를 갱신하고 커밋된 뒤에 기존 파일을 삭제 큐에 등록 (중간에 중단돼도 다시 실행하면 이어서 진행)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.upload.dedup.migrate", havingValue = "true")
+public class AttachmentDedupMigration implements ApplicationRunner {
+
+  private final PostAttachmentsRepository postAttachmentsRepository;
+  private final FileManager fileManager;
+  private final FileDeletionQueue fileDeletionQueue;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor fileIoExecutor;
+
+  @Value("${file.upload.dedup.migrate-batch-size:500}")
+  private int batchSize;
+
+  public AttachmentDedupMigration(
+      PostAttachmentsRepository postAttachmentsRepository,
+      FileManager fileManager,
+      FileDeletionQueue fileDeletionQueue,
+      TransactionTemplate transactionTemplate,
+      @Qualifier("fileIoExecutor") Executor fileIoExecutor) {
+    this.postAttachmentsRepository = postAttachmentsRepository;
+    this.fileManager = fileManager;
+    this.fileDeletionQueue = fileDeletionQueue;
+    this.transactionTemplate = transactionTemplate;
+    this.fileIoExecutor = fileIoExecutor;
+  }
+
+  /** 이동 결과 (실패한 파일은 saved가 null) */
+  private record Migrated(PostAttachments attachment, SavedFile saved) {}
+
+  @Override
+  public void run(ApplicationArguments args) {
+    long startTime = System.currentTimeMillis();
+    String blobPrefix = "/uploads/" + FileManager.BLOB_DIRECTORY + "/%";
+    String segmentPrefix = FileManager.SEGMENT_URL_PREFIX + "%";
+    long lastId = 0;
+    int migrated = 0;
+    int failed = 0;
+
+    while (true) {
+      List<PostAttachments> batch =
+          postAttachmentsRepository.findNotInBlobStore(
+              lastId, blobPrefix, segmentPrefix, PageRequest.of(0, batchSize));
+      if (batch.isEmpty()) {
+        break;
+      }
+      lastId = batch.get(batch.size() - 1).getPostAttachmentId();
+
+      List<Migrated> results = adoptInParallel(batch);
+      List<Migrated> succeeded = results.stream().filter(result -> result.saved() != null).toList();
+      failed += results.size() - succeeded.size();
+
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            List<String> oldUrls = new ArrayList<>(succeeded.size());
+            for (Migrated result : succeeded) {
+              postAttachmentsRepository.updateStorageLocation(
+                  result.attachment().getPostAttachmentId(),
+                  result.saved().fileUrl(),
+                  result.saved().fileName(),
+                  result.saved().sha256());
+              oldUrls.add(result.attachment().getFileUrl());
+            }
+            // 기존 경로는 DB가 더 이상 가리키지 않게 된 뒤(커밋 이후)에만 삭제
+            fileDeletionQueue.enqueueAfterCommit(oldUrls);
+          });
+      migrated += succeeded.size();
+      log.info("첨부파일 저장소 마이그레이션 진행: 완료 {}건, 실패 {}건 (마지막 ID: {})", migrated, failed, lastId);
+    }
+
+    log.info(
+        "첨부파일 저장소 마이그레이션 종료: 완료 {}건, 실패 {}건, {}ms",
+        migrated,
+        failed,
+        System.currentTimeMillis() - startTime);
+  }
+
+  /** batch 안의 파일들을 파일 I/O 풀에서 병렬로 해시 계산 후 blobs로 편입 (결과는 입력 순서) */
+  private List<Migrated> adoptInParallel(List<PostAttachments> batch) {
+    List<CompletableFuture<Migrated>> futures =
+        batch.stream()
+            .map(
+                attachment ->
+                    CompletableFuture.supplyAsync(
+                            () ->
+                                new Migrated(
+                                    attachment,
+                                    fileManager.adoptIntoBlobStore(attachment.getFileUrl())),
+                            fileIoExecutor)
+                        .exceptionally(
+                            e -> {
+                              // 원본 파일이 없는 경우 등은 건너뛰고 다음 실행 때 다시 시도
+                              log.warn(
+                                  "첨부파일 마이그레이션 실패: id={}, URL: {}, 오류: {}",
+                                  attachment.getPostAttachmentId(),
+                                  attachment.getFileUrl(),
+                                  e.getMessage());
+                              return new Migrated(attachment, null);
+                            }))
+            .toList();
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+}
@@ -1,6 +1,7 @@
 package com.example.communityservice.service;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -13,9 +14,9 @@ import com.example.communityservice.dto.auth.AuthApiResponseDTO;
 import com.example.communityservice.dto.auth.UserInfoResponseDTO;
 import com.example.communityservice.global.exception.BusinessException;
 import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.global.util.ValidatedTokenCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -26,16 +27,24 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class AuthService {
   // 다른 서버(API)와 HTTP 통신할 때 사용하는 스프링 제공 클래스
-  private final RestTemplate restTemplate = new RestTemplate();
+  private final RestTemplate restTemplate;
   // JSON 문자열 ↔ 자바 객체 변환을 담당하는 Jackson 라이브러리 (자동 역직렬화 가능하지만, 래퍼 구조 처리, 로깅, 예외 제어 위해 사용)
   private final ObjectMapper objectMapper = new ObjectMapper();
+  // 검증에 성공한 헤더 → 회원 ID (요청 수 제한을 회원 기준으로 적용할 때 사용)
+  private final ValidatedTokenCache validatedTokenCache;
 
   @Value("${auth.service.url}")
   private String authServiceUrl;
 
+  // RestTemplateBuilder로 만들어야 호출 시간/상태 코드가 메트릭(http.client.requests)으로 기록됨
+  public AuthService(
+      RestTemplateBuilder restTemplateBuilder, ValidatedTokenCache validatedTokenCache) {
+    this.restTemplate = restTemplateBuilder.build();
+    this.validatedTokenCache = validatedTokenCache;
+  }
+
   /**
    * Authorization 헤더를 통해 토큰 검증 & 사용자 정보 조회
    *
@@ -44,8 +53,8 @@ public class AuthService {
    */
   public UserInfoResponseDTO validateTokenAndGetUser(String authorizationHeader) {
     String fullUrl = authServiceUrl + "/api/v1/auth/me";
-    log.info("인증 서비스 호출 URL: {}", fullUrl);
-    log.info("인증 헤더: {}", authorizationHeader);
+    // 토큰, 응답 본문(사용자 정보)은 기록하지 않음
+    log.debug("인증 서비스 호출: {}", fullUrl);
 
     try {
       // HTTP 요청 헤더 설정
@@ -59,8 +68,7 @@ public class AuthService {
           restTemplate.exchange(fullUrl, HttpMethod.GET, entity, String.class);
       // exchange(요청 보낼 URL, HTTP 메서드, 요청에 담을 헤더와 바디, 응답 본문을 어떤 타입으로 받을지)
 
-      log.info("HttpEntity의 Headers: {}", response.getHeaders());
-      log.info("HttpEntity의 Body: {}", response.getBody());
+      log.debug("인증 서비스 응답: {}", response.getStatusCode());
 
       // JSON 응답을 AuthApiResponseDTO로 변환
       AuthApiResponseDTO apiResponseDTO =
@@ -68,15 +76,20 @@ public class AuthService {
 
       if (response.getStatusCode().is2xxSuccessful() && apiResponseDTO.isSuccess()) {
         // HTTP 상태 코드가 200~299 범위이고, apiResponse.isSuccess()가 true일 때만 성공
-        return apiResponseDTO.getData(); // 사용자 정보 반환
+        UserInfoResponseDTO userInfo = apiResponseDTO.getData();
+        validatedTokenCache.put(authorizationHeader, userInfo == null ? null : userInfo.getId());
+        return userInfo; // 사용자 정보 반환
       } else {
-        log.error(
+        log.debug(
             "인증 서비스 응답 실패. 상태: {}, 메시지: {}", response.getStatusCode(), apiResponseDTO.getMessage());
         throw new BusinessException(ErrorCode.AUTHENTICATION_FAILED);
       }
 
+    } catch (BusinessException e) {
+      throw e; // 위의 인증 실패는 그대로 전달 (아래에서 오류로 다시 기록하지 않음)
     } catch (RestClientException e) {
-      log.error("인증 서비스 호출 실패: ", e);
+      // 만료/잘못된 토큰(401 등)도 여기로 오므로 스택 트레이스 없이 기록 (응답 본문이 메시지에 포함될 수 있어 상태만)
+      log.warn("인증 서비스 호출 실패: {}", e.getClass().getSimpleName());
       throw new BusinessException(ErrorCode.AUTH_SERVICE_ERROR);
     } catch (Exception e) {
       log.error("인증 응답 처리 실패: ", e);
@@ -0,0 +1,537 @@
+package com.example.communityservice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.communityservice.dto.posts.ChunkedUploadRequestDTO;
+import com.example.communityservice.dto.posts.ChunkedUploadStatusDTO;
+import com.example.communityservice.dto.posts.PostAttachmentsResponseDTO;
+import com.example.communityservice.entity.PostAttachments;
+import com.example.communityservice.entity.Posts;
+import com.example.communityservice.global.exception.BusinessException;
+import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.global.util.FileDeletionQueue;
+import com.example.communityservice.global.util.FileManager;
+import com.example.communityservice.global.util.SavedFile;
+import com.example.communityservice.global.util.UploadLimiter;
+import com.example.communityservice.repository.PostAttachmentsRepository;
+import com.example.communityservice.repository.PostsRepository;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분할(재개 가능) 업로드 서비스 <br>
+ * - 세션 생성 → 조각(chunk)을 offset 위치에 PUT → 완료(commit) 순서로 진행 <br>
+ * - 조각은 multipart 버퍼 없이 요청 본문에서 staging 파일의 해당 위치로 바로 기록하고 SHA-256으로 검증 <br>
+ * - 세션 상태는 staging 파일 옆 JSON(sidecar)에 저장 → 서버가 재시작되어도 받은 조각부터 이어서 업로드 가능 <br>
+ * - 완료 시 FileManager 저장 위치로 이동하고 첨부파일 레코드 생성, 방치된 세션은 백그라운드에서 만료 처리 <br>
+ * - 조각 기록과 완료 처리는 세션 잠금으로 서로 배제 (전송 중인 조각이 있으면 완료 거절, 완료 처리 중이면 조각 거절) <br>
+ * - 세션은 첨부파일 레코드가 커밋된 뒤에만 정리하고, 실패하면 조각을 다시 받을 수 있도록 세션을 되돌림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+  private final FileManager fileManager;
+  private final PostsRepository postsRepository;
+  private final PostAttachmentsRepository postAttachmentsRepository;
+  private final FileDeletionQueue fileDeletionQueue;
+  private final ThumbnailService thumbnailService;
+  private final UploadLimiter uploadLimiter;
+  private final ObjectMapper objectMapper;
+  private final PostListCacheService postListCacheService;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${file.upload.chunked.staging-path:./data/upload-sessions}")
+  private String stagingPath;
+
+  @Value("${file.upload.chunked.chunk-size:1048576}")
+  private int chunkSize;
+
+  @Value("${file.upload.chunked.session-ttl-ms:86400000}")
+  private long sessionTtlMs;
+
+  // 메모리에 올려둔 세션 (없으면 sidecar에서 읽음)
+  private final ConcurrentHashMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+  // 완료 처리 중인 세션 (DB 반영이 끝날 때까지 유지 → 중복 commit, 조각 기록, 만료 정리 방지)
+  private final Set<String> committing = ConcurrentHashMap.newKeySet();
+
+  /** 업로드 세션 상태 (sidecar JSON으로 저장) */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  public static class UploadSession {
+    private String uploadId;
+    private Long postId;
+    private Long authorId;
+    private String originalFilename;
+    private long totalSize;
+    private int chunkSize;
+    private String expectedSha256;
+    private List<String> chunkChecksums; // 조각 번호별 SHA-256 (받지 못한 조각은 null)
+    private long expiresAt; // epoch millis
+
+    // 이하 메모리 전용 상태 (세션 객체 잠금 안에서만 접근)
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int activeWrites; // 기록 중인 조각 수
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean discarded; // 정리된 세션 (이 객체를 들고 있던 요청이 sidecar를 다시 만들지 않도록)
+
+    int totalChunks() {
+      return chunkChecksums.size();
+    }
+
+    long chunkLength(int index) {
+      return Math.min(chunkSize, totalSize - (long) index * chunkSize);
+    }
+
+    List<Integer> missingChunks() {
+      return IntStream.range(0, totalChunks())
+          .filter(index -> chunkChecksums.get(index) == null)
+          .boxed()
+          .toList();
+    }
+
+    long receivedBytes() {
+      return IntStream.range(0, totalChunks())
+          .filter(index -> chunkChecksums.get(index) != null)
+          .mapToLong(this::chunkLength)
+          .sum();
+    }
+  }
+
+  /** 메모리에 올라와 있는 업로드 세션 수 */
+  public int activeSessionCount() {
+    return sessions.size();
+  }
+
+  @PostConstruct
+  public void init() throws IOException {
+    Files.createDirectories(Paths.get(stagingPath));
+  }
+
+  /**
+   * 분할 업로드 세션 생성
+   *
+   * @param post 첨부할 게시글
+   * @param request 파일 정보
+   * @return 세션 상태 (모든 조각이 missing)
+   */
+  public ChunkedUploadStatusDTO createSession(Posts post, ChunkedUploadRequestDTO request) {
+    fileManager.validateFileMetadata(request.getOriginalFilename(), request.getTotalSize());
+
+    UploadSession session = new UploadSession();
+    session.setUploadId(UUID.randomUUID().toString().replace("-", ""));
+    session.setPostId(post.getPostId());
+    session.setAuthorId(post.getAuthors().getAuthorId());
+    session.setOriginalFilename(request.getOriginalFilename());
+    session.setTotalSize(request.getTotalSize());
+    session.setChunkSize(chunkSize);
+    session.setExpectedSha256(
+        request.getSha256() != null ? request.getSha256().toLowerCase() : null);
+    int totalChunks = (int) ((request.getTotalSize() + chunkSize - 1) / chunkSize);
+    session.setChunkChecksums(new ArrayList<>(Collections.nCopies(totalChunks, null)));
+    session.setExpiresAt(System.currentTimeMillis() + sessionTtlMs);
+
+    try {
+      Files.createFile(partPath(session.getUploadId()));
+      writeSidecar(session);
+    } catch (IOException e) {
+      log.error("업로드 세션 생성 실패: {}, 오류: {}", request.getOriginalFilename(), e.getMessage());
+      throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, e.getMessage());
+    }
+    sessions.put(session.getUploadId(), session);
+
+    log.debug(
+        "분할 업로드 세션 생성: uploadId={}, postId={}, {} bytes, {}개 조각",
+        session.getUploadId(),
+        post.getPostId(),
+        request.getTotalSize(),
+        totalChunks);
+    return toStatus(session);
+  }
+
+  /**
+   * 조각 하나를 staging 파일의 offset 위치에 기록 <br>
+   * 같은 조각을 다시 보내면 덮어쓰므로 실패한 조각만 재전송하면 됨 (조각끼리는 병렬 전송 가능)
+   *
+   * @param uploadId 세션 ID
+   * @param offset 조각 시작 위치 (chunkSize의 배수)
+   * @param contentLength 요청 본문 길이 (모르면 -1)
+   * @param checksum 조각의 SHA-256 (16진수)
+   * @param body 요청 본문
+   * @return 세션 상태
+   */
+  public ChunkedUploadStatusDTO writeChunk(
+      String uploadId, long offset, long contentLength, String checksum, InputStream body) {
+    UploadSession session = getSession(uploadId);
+    if (offset < 0 || offset % session.getChunkSize() != 0 || offset >= session.getTotalSize()) {
+      throw new BusinessException(
+          ErrorCode.INVALID_CHUNK,
+          String.format("offset은 %d의 배수이고 파일 크기보다 작아야 합니다.", session.getChunkSize()));
+    }
+    int index = (int) (offset / session.getChunkSize());
+    long expectedLength = session.chunkLength(index);
+    if (contentLength >= 0 && contentLength != expectedLength) {
+      throw new BusinessException(
+          ErrorCode.INVALID_CHUNK,
+          String.format("%d번 조각의 크기는 %d bytes여야 합니다.", index, expectedLength));
+    }
+
+    synchronized (session) {
+      // 완료 처리는 전체 해시 계산부터 파일 이동까지 staging 파일을 읽으므로 그동안 기록 금지
+      if (session.discarded) {
+        throw new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+      }
+      if (committing.contains(uploadId)) {
+        throw new BusinessException(ErrorCode.UPLOAD_SESSION_BUSY, "완료 처리 중인 업로드입니다.");
+      }
+      session.activeWrites++;
+    }
+    try {
+      String actual;
+      try (UploadLimiter.Permit permit =
+          uploadLimiter.acquire(session.getAuthorId(), expectedLength)) {
+        // 받은 것으로 기록하기 전에 디스크에 반영됨 (재시작 후 재개 보장)
+        actual = fileManager.writeAt(partPath(uploadId), offset, expectedLength, body);
+      } catch (IOException e) {
+        log.warn("조각 기록 실패: uploadId={}, offset={}, 오류: {}", uploadId, offset, e.getMessage());
+        throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, e.getMessage());
+      }
+      if (!actual.equalsIgnoreCase(checksum)) {
+        // 기록된 내용은 다음 재전송 때 덮어쓰므로 받은 것으로 표시하지 않음
+        throw new BusinessException(
+            ErrorCode.CHUNK_CHECKSUM_MISMATCH, index + "번 조각의 체크섬이 일치하지 않습니다.");
+      }
+
+      synchronized (session) {
+        if (session.discarded) {
+          // 기록 중에 취소/만료된 세션 → sidecar를 다시 만들지 않음
+          throw new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+        }
+        session.getChunkChecksums().set(index, actual);
+        session.setExpiresAt(System.currentTimeMillis() + sessionTtlMs);
+        try {
+          writeSidecar(session);
+        } catch (IOException e) {
+          throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, e.getMessage());
+        }
+        return toStatus(session);
+      }
+    } finally {
+      synchronized (session) {
+        session.activeWrites--;
+      }
+    }
+  }
+
+  /**
+   * 세션 상태 조회 (재개 시 missingChunks만 다시 전송)
+   *
+   * @param uploadId 세션 ID
+   * @return 세션 상태
+   */
+  public ChunkedUploadStatusDTO getStatus(String uploadId) {
+    UploadSession session = getSession(uploadId);
+    synchronized (session) {
+      return toStatus(session);
+    }
+  }
+
+  /**
+   * 업로드 완료 처리 <br>
+   * 모든 조각이 도착했는지 확인하고 전체 체크섬을 검증한 뒤 FileManager 저장 위치로 옮기고 첨부파일 레코드 생성 <br>
+   * 전체 해시 계산과 파일 이동은 트랜잭션 밖에서 실행 (파일 크기만큼 DB 커넥션을 잡지 않음), DB 작업만 짧은 트랜잭션
+   *
+   * @param uploadId 세션 ID
+   * @return 생성된 첨부파일
+   */
+  public PostAttachmentsResponseDTO commit(String uploadId) {
+    UploadSession session = getSession(uploadId);
+    List<Integer> missing;
+    synchronized (session) {
+      if (session.discarded) {
+        throw new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+      }
+      if (session.activeWrites > 0) {
+        throw new BusinessException(ErrorCode.UPLOAD_SESSION_BUSY, "아직 기록 중인 조각이 있습니다.");
+      }
+      if (!committing.add(uploadId)) {
+        throw new BusinessException(ErrorCode.UPLOAD_SESSION_BUSY, "이미 완료 처리 중인 업로드입니다.");
+      }
+      missing = session.missingChunks();
+    }
+
+    boolean committed = false;
+    try {
+      if (!missing.isEmpty()) {
+        throw new BusinessException(
+            ErrorCode.UPLOAD_INCOMPLETE, String.format("받지 못한 조각: %s", missing));
+      }
+
+      Posts post =
+          postsRepository
+              .findById(session.getPostId())
+              .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+
+      Path part = partPath(uploadId);
+      String sha256 = fileManager.sha256Of(part);
+      if (session.getExpectedSha256() != null && !session.getExpectedSha256().equals(sha256)) {
+        throw new BusinessException(ErrorCode.CHUNK_CHECKSUM_MISMATCH, "전체 파일 체크섬이 일치하지 않습니다.");
+      }
+
+      // staging 파일은 이동됨 → 세션은 커밋 후 정리, 실패하면 조각을 다시 받도록 되돌림 (finally)
+      SavedFile savedFile =
+          fileManager.saveStagedFile(part, session.getOriginalFilename(), sha256, "posts");
+
+      PostAttachments attachment;
+      try {
+        attachment =
+            transactionTemplate.execute(
+                status -> {
+                  PostAttachments inserted =
+                      postAttachmentsRepository
+                          .insertAll(
+                              List.of(
+                                  PostAttachments.create(
+                                      post,
+                                      session.getOriginalFilename(),
+                                      savedFile.fileName(),
+                                      savedFile.fileUrl(),
+                                      savedFile.size(),
+                                      savedFile.sha256())))
+                          .get(0);
+                  postsRepository.addAttachmentCount(post.getPostId(), 1);
+                  postListCacheService.invalidateAfterCommit(post.getCategory());
+                  thumbnailService.generateAfterCommit(List.of(savedFile.fileUrl()));
+                  return inserted;
+                });
+      } catch (RuntimeException e) {
+        // DB에 연결되지 못한 파일 정리 (내용 기반 저장소에서는 참조 확인 후 삭제)
+        fileDeletionQueue.enqueueNow(List.of(savedFile.fileUrl()));
+        throw e;
+      }
+      discard(uploadId);
+      committed = true;
+
+      log.debug(
+          "분할 업로드 완료: uploadId={}, postId={}, {} bytes",
+          uploadId,
+          session.getPostId(),
+          savedFile.size());
+      return PostAttachmentsResponseDTO.from(attachment);
+    } catch (IOException e) {
+      log.error("분할 업로드 완료 처리 실패: uploadId={}, 오류: {}", uploadId, e.getMessage());
+      throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, e.getMessage());
+    } finally {
+      if (!committed) {
+        resetIfStagingLost(session);
+      }
+      committing.remove(uploadId);
+    }
+  }
+
+  /**
+   * 업로드 세션 취소 (받은 조각 삭제)
+   *
+   * @param uploadId 세션 ID
+   */
+  public void abort(String uploadId) {
+    getSession(uploadId);
+    if (!discardUnlessCommitting(uploadId)) {
+      throw new BusinessException(ErrorCode.UPLOAD_SESSION_BUSY, "완료 처리 중인 업로드입니다.");
+    }
+    log.debug("분할 업로드 취소: uploadId={}", uploadId);
+  }
+
+  /** 만료된 세션과 sidecar 없이 남은 staging 파일 정리 */
+  @Scheduled(fixedDelayString = "${file.upload.chunked.cleanup-interval-ms:600000}")
+  public void expireSessions() {
+    long now = System.currentTimeMillis();
+    int expired = 0;
+    try (Stream<Path> files = Files.list(Paths.get(stagingPath))) {
+      for (Path file : files.toList()) {
+        String fileName = file.getFileName().toString();
+        String uploadId =
+            fileName.substring(0, fileName.indexOf('.') > 0 ? fileName.indexOf('.') : 0);
+        if (uploadId.isEmpty() || committing.contains(uploadId)) {
+          continue;
+        }
+        if (fileName.endsWith(".json")) {
+          UploadSession session = readSidecar(uploadId);
+          if ((session == null || session.getExpiresAt() < now)
+              && discardUnlessCommitting(uploadId)) {
+            expired++;
+          }
+        } else if (fileName.endsWith(".part")
+            && !Files.exists(sidecarPath(uploadId))
+            && Files.getLastModifiedTime(file).toMillis() + sessionTtlMs < now) {
+          Files.deleteIfExists(file);
+          expired++;
+        }
+      }
+    } catch (IOException e) {
+      log.warn("만료된 업로드 세션 정리 실패: {}", e.getMessage());
+    }
+    if (expired > 0) {
+      log.info("만료된 분할 업로드 세션 정리: {}건", expired);
+    }
+  }
+
+  /** 완료 처리 실패로 staging 파일이 이미 옮겨졌으면 빈 파일로 다시 만들고 모든 조각을 받지 않은 상태로 되돌림 */
+  private void resetIfStagingLost(UploadSession session) {
+    Path part = partPath(session.getUploadId());
+    synchronized (session) {
+      if (session.discarded || Files.exists(part)) {
+        return;
+      }
+      Collections.fill(session.getChunkChecksums(), null);
+      try {
+        Files.createFile(part);
+        writeSidecar(session);
+      } catch (IOException e) {
+        log.warn("업로드 세션 복구 실패: {}, 오류: {}", session.getUploadId(), e.getMessage());
+      }
+    }
+  }
+
+  /** 세션 조회 (메모리에 없으면 sidecar에서 읽음, 만료되었으면 정리 후 예외) */
+  private UploadSession getSession(String uploadId) {
+    if (!uploadId.matches("[0-9a-f]{32}")) { // 경로 조작 방지 (세션 ID는 UUID 32자)
+      throw new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+    }
+    UploadSession session = sessions.computeIfAbsent(uploadId, this::readSidecar);
+    if (session == null) {
+      throw new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+    }
+    if (session.getExpiresAt() < System.currentTimeMillis() && discardUnlessCommitting(uploadId)) {
+      throw new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+    }
+    return session;
+  }
+
+  private void writeSidecar(UploadSession session) throws IOException {
+    Path sidecar = sidecarPath(session.getUploadId());
+    Path temp = sidecar.resolveSibling(sidecar.getFileName() + ".tmp");
+    objectMapper.writeValue(temp.toFile(), session);
+    Files.move(temp, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private UploadSession readSidecar(String uploadId) {
+    Path sidecar = sidecarPath(uploadId);
+    if (!Files.exists(sidecar)) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(sidecar.toFile(), UploadSession.class);
+    } catch (IOException e) {
+      log.warn("업로드 세션 정보 읽기 실패: {}, 오류: {}", uploadId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 세션 정리 <br>
+   * 다른 요청이 들고 있을 수 있는 세션 객체와 같은 객체를 잠그고 정리 표시 → 그 요청은 sidecar를 다시 쓰지 않음
+   */
+  private void discard(String uploadId) {
+    UploadSession session = sessions.computeIfAbsent(uploadId, this::readSidecar);
+    if (session == null) {
+      deleteSessionFiles(uploadId);
+      return;
+    }
+    synchronized (session) {
+      session.discarded = true;
+      deleteSessionFiles(uploadId);
+      sessions.remove(uploadId, session);
+    }
+  }
+
+  /**
+   * 완료 처리 중이 아닐 때만 세션 정리 (취소/만료용, 완료 처리 시작과 같은 세션 잠금 안에서 확인)
+   *
+   * @return 정리했으면 true
+   */
+  private boolean discardUnlessCommitting(String uploadId) {
+    UploadSession session = sessions.computeIfAbsent(uploadId, this::readSidecar);
+    if (session == null) {
+      deleteSessionFiles(uploadId);
+      return true;
+    }
+    synchronized (session) {
+      if (committing.contains(uploadId)) {
+        return false;
+      }
+      discard(uploadId);
+      return true;
+    }
+  }
+
+  private void deleteSessionFiles(String uploadId) {
+    try {
+      Files.deleteIfExists(partPath(uploadId));
+      Files.deleteIfExists(sidecarPath(uploadId));
+    } catch (IOException e) {
+      log.warn("업로드 세션 파일 삭제 실패: {}, 오류: {}", uploadId, e.getMessage());
+    }
+  }
+
+  private Path partPath(String uploadId) {
+    return Paths.get(stagingPath, uploadId + ".part");
+  }
+
+  private Path sidecarPath(String uploadId) {
+    return Paths.get(stagingPath, uploadId + ".json");
+  }
+
+  private ChunkedUploadStatusDTO toStatus(UploadSession session) {
+    return ChunkedUploadStatusDTO.builder()
+        .uploadId(session.getUploadId())
+        .postId(session.getPostId())
+        .originalFilename(session.getOriginalFilename())
+        .totalSize(session.getTotalSize())
+        .chunkSize(session.getChunkSize())
+        .totalChunks(session.totalChunks())
+        .receivedBytes(session.receivedBytes())
+        .missingChunks(session.missingChunks())
+        .expiresAt(
+            LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(session.getExpiresAt()), ZoneId.systemDefault()))
+        .build();
+  }
+}
@@ -38,6 +38,8 @@ public class CommentsService {
   private final PostsRepository postsRepository;
   private final AuthorsRepository authorsRepository;
   private final PasswordEncoder passwordEncoder;
+  private final PostListCacheService postListCacheService;
+  private final PostEventBroadcaster postEventBroadcaster;
 
   /**
    * 특정 작성자의 댓글 목록 조회 (User MyPage용 내부 API)
@@ -72,7 +74,10 @@ public class CommentsService {
         Comments.builder().post(post).authors(author).content(requestDto.getContent()).build();
 
     Comments savedComment = commentsRepository.save(comment);
-    return CommentsResponseDTO.from(savedComment);
+    postListCacheService.invalidateAfterCommit(post.getCategory()); // 목록의 댓글 수
+    CommentsResponseDTO response = CommentsResponseDTO.from(savedComment);
+    postEventBroadcaster.commentAddedAfterCommit(post.getPostId(), post.getCategory(), response);
+    return response;
   }
 
   /**
@@ -113,6 +118,9 @@ public class CommentsService {
     validateAuthorPermission(comment, requestDto);
 
     commentsRepository.delete(comment);
+    Posts post = comment.getPost();
+    postListCacheService.invalidateAfterCommit(post.getCategory());
+    postEventBroadcaster.commentRemovedAfterCommit(post.getPostId(), post.getCategory());
   }
 
   /**
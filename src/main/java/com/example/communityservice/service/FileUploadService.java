@@ -3,8 +3,17 @@ package com.example.communityservice.service;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.communityservice.dto.posts.PostAttachmentsResponseDTO;
@@ -12,10 +21,14 @@ import com.example.communityservice.entity.PostAttachments;
 import com.example.communityservice.entity.Posts;
 import com.example.communityservice.global.exception.BusinessException;
 import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.global.util.FileDeletionQueue;
 import com.example.communityservice.global.util.FileManager;
+import com.example.communityservice.global.util.ImageVariant;
+import com.example.communityservice.global.util.SavedFile;
+import com.example.communityservice.global.util.UploadLimiter;
 import com.example.communityservice.repository.PostAttachmentsRepository;
+import com.example.communityservice.repository.PostsRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -25,61 +38,151 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileUploadService {
 
   private final PostAttachmentsRepository postAttachmentsRepository;
+  private final PostsRepository postsRepository;
   private final FileManager fileManager;
+  private final FileDeletionQueue fileDeletionQueue;
+  private final UploadLimiter uploadLimiter;
+  private final Executor fileIoExecutor;
+  private final ThumbnailService thumbnailService;
+  private final PostListCacheService postListCacheService;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${file.upload.max-files-per-request:10}")
+  private int maxFilesPerRequest;
+
+  // 같은 타입(Executor) 빈이 여러 개일 수 있으므로 @Qualifier를 쓰기 위해 생성자를 직접 작성
+  public FileUploadService(
+      PostAttachmentsRepository postAttachmentsRepository,
+      PostsRepository postsRepository,
+      FileManager fileManager,
+      FileDeletionQueue fileDeletionQueue,
+      UploadLimiter uploadLimiter,
+      @Qualifier("fileIoExecutor") Executor fileIoExecutor,
+      ThumbnailService thumbnailService,
+      PostListCacheService postListCacheService,
+      TransactionTemplate transactionTemplate) {
+    this.postAttachmentsRepository = postAttachmentsRepository;
+    this.postsRepository = postsRepository;
+    this.fileManager = fileManager;
+    this.fileDeletionQueue = fileDeletionQueue;
+    this.uploadLimiter = uploadLimiter;
+    this.fileIoExecutor = fileIoExecutor;
+    this.thumbnailService = thumbnailService;
+    this.postListCacheService = postListCacheService;
+    this.transactionTemplate = transactionTemplate;
+  }
 
   /**
-   * 여러 파일을 업로드하고 게시글에 연결
+   * 여러 파일을 업로드하고 게시글에 연결 <br>
+   * - 파일 저장은 파일 I/O 풀에서 병렬로 처리하고, DB INSERT는 한 번의 배치로 실행 <br>
+   * - 파일 저장은 트랜잭션 밖에서 실행 (큰 파일을 쓰는 동안 DB 커넥션을 잡지 않음), DB 작업만 짧은 트랜잭션 <br>
+   * - 하나라도 실패하면 이미 저장된 파일을 지우고 전체 실패 처리 (응답 순서는 요청 순서 유지)
    *
    * @param files 업로드할 파일들
    * @param post 연결할 게시글
    * @return 업로드된 첨부파일 목록
    */
   public List<PostAttachmentsResponseDTO> uploadFiles(List<MultipartFile> files, Posts post) {
-    List<PostAttachmentsResponseDTO> attachments = new ArrayList<>();
-
-    for (MultipartFile file : files) {
-      if (!file.isEmpty()) {
-        try {
-          PostAttachmentsResponseDTO attachment = uploadSingleFile(file, post);
-          attachments.add(attachment);
-        } catch (Exception e) {
-          log.error("파일 업로드 실패: {}, 오류: {}", file.getOriginalFilename(), e.getMessage());
-          throw new BusinessException(
-              ErrorCode.FILE_UPLOAD_FAILED, "파일 업로드에 실패했습니다: " + file.getOriginalFilename());
-        }
-      }
+    List<MultipartFile> targets = files.stream().filter(file -> !file.isEmpty()).toList();
+    if (targets.isEmpty()) {
+      return List.of();
+    }
+    if (targets.size() > maxFilesPerRequest) {
+      throw new BusinessException(
+          ErrorCode.TOO_MANY_FILES,
+          String.format("한 번에 최대 %d개의 파일만 업로드할 수 있습니다.", maxFilesPerRequest));
     }
 
-    return attachments;
+    long totalBytes = targets.stream().mapToLong(MultipartFile::getSize).sum();
+    // 업로드 API는 인증이 없으므로 게시글 작성자 기준으로 동시 업로드량을 제한
+    try (UploadLimiter.Permit permit =
+        uploadLimiter.acquire(post.getAuthors().getAuthorId(), totalBytes)) {
+      List<SavedFile> savedFiles = saveFilesInParallel(targets);
+      List<String> fileUrls = savedFiles.stream().map(SavedFile::fileUrl).toList();
+
+      List<PostAttachments> attachments = new ArrayList<>(targets.size());
+      for (int i = 0; i < targets.size(); i++) {
+        SavedFile savedFile = savedFiles.get(i);
+        // 크기는 헤더 값이 아닌 실제로 기록된 바이트 수
+        attachments.add(
+            PostAttachments.create(
+                post,
+                targets.get(i).getOriginalFilename(),
+                savedFile.fileName(),
+                savedFile.fileUrl(),
+                savedFile.size(),
+                savedFile.sha256()));
+      }
+
+      List<PostAttachments> savedAttachments;
+      try {
+        savedAttachments =
+            transactionTemplate.execute(
+                status -> {
+                  List<PostAttachments> inserted = postAttachmentsRepository.insertAll(attachments);
+                  postsRepository.addAttachmentCount(post.getPostId(), inserted.size());
+                  postListCacheService.invalidateAfterCommit(post.getCategory()); // 목록의 첨부파일 여부
+                  // 이미지 축소본은 커밋 이후 별도 풀에서 생성 (업로드 응답을 기다리게 하지 않음)
+                  thumbnailService.generateAfterCommit(fileUrls);
+                  return inserted;
+                });
+      } catch (RuntimeException e) {
+        // DB에 연결되지 못한 파일 정리 (내용 기반 저장소에서는 참조 확인 후 삭제)
+        fileDeletionQueue.enqueueNow(fileUrls);
+        throw e;
+      }
+      log.debug(
+          "파일 업로드 완료: postId={}, {}개, {} bytes",
+          post.getPostId(),
+          savedAttachments.size(),
+          totalBytes);
+      return savedAttachments.stream().map(PostAttachmentsResponseDTO::from).toList();
+    }
   }
 
   /**
-   * 단일 파일 업로드
+   * 파일들을 파일 I/O 풀에서 병렬로 저장 (결과는 입력 순서)
    *
-   * @param file 업로드할 파일
-   * @param post 연결할 게시글
-   * @return 업로드된 첨부파일 정보
+   * @param files 저장할 파일들 (빈 파일 제외)
+   * @return 저장 결과 목록
    */
-  private PostAttachmentsResponseDTO uploadSingleFile(MultipartFile file, Posts post)
-      throws IOException {
-    // FileManager를 사용하여 파일 저장 (웹 URL 반환)
-    String fileUrl = fileManager.saveFile(file, "posts");
-
-    // 저장된 파일명 추출 (URL에서 파일명만)
-    String savedFileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+  private List<SavedFile> saveFilesInParallel(List<MultipartFile> files) {
+    List<CompletableFuture<SavedFile>> futures =
+        files.stream()
+            .map(
+                file ->
+                    CompletableFuture.supplyAsync(
+                        () -> fileManager.saveFile(file, "posts"), fileIoExecutor))
+            .toList();
 
-    // 데이터베이스에 파일 정보 저장
-    PostAttachments attachment =
-        PostAttachments.create(
-            post, file.getOriginalFilename(), savedFileName, fileUrl, file.getSize());
-    PostAttachments savedAttachment = postAttachmentsRepository.save(attachment);
+    // 실패가 있어도 나머지 작업이 끝날 때까지 기다려야 이미 저장된 파일을 빠짐없이 정리할 수 있음
+    List<SavedFile> savedFiles = new ArrayList<>(files.size());
+    MultipartFile failedFile = null;
+    Throwable failure = null;
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        savedFiles.add(futures.get(i).join());
+      } catch (CompletionException e) {
+        savedFiles.add(null);
+        if (failure == null) {
+          failedFile = files.get(i);
+          failure = e.getCause();
+        }
+      }
+    }
 
-    log.info("파일 업로드 완료: {} -> {} (URL: {})", file.getOriginalFilename(), savedFileName, fileUrl);
-    return PostAttachmentsResponseDTO.from(savedAttachment);
+    if (failure != null) {
+      // 내용 기반 저장소에서는 다른 게시글과 공유 중인 파일일 수 있으므로 참조 확인 후 삭제하는 큐에 맡김
+      fileDeletionQueue.enqueueNow(
+          savedFiles.stream().filter(Objects::nonNull).map(SavedFile::fileUrl).toList());
+      log.error("파일 업로드 실패: {}, 오류: {}", failedFile.getOriginalFilename(), failure.getMessage());
+      throw new BusinessException(
+          ErrorCode.FILE_UPLOAD_FAILED, "파일 업로드에 실패했습니다: " + failedFile.getOriginalFilename());
+    }
+    return savedFiles;
   }
 
   /**
@@ -93,43 +196,135 @@ public class FileUploadService {
     return attachments.stream().map(PostAttachmentsResponseDTO::from).toList();
   }
 
+  /** 첨부파일 다운로드 정보 (실제 경로 + 캐시 검증용 메타데이터) */
+  public record AttachmentDownload(
+      Resource resource, String originalFilename, long size, String etag, long lastModified) {}
+
+  /**
+   * 첨부파일 다운로드 정보 조회 <br>
+   * 저장된 파일은 수정되지 않으므로 내용 해시(없으면 ID-크기-수정시각)를 강한 ETag로 사용
+   *
+   * @param attachmentId 첨부파일 ID
+   * @return 다운로드 정보
+   */
+  public AttachmentDownload getDownload(Long attachmentId) {
+    PostAttachments attachment =
+        postAttachmentsRepository
+            .findById(attachmentId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ATTACHMENT_NOT_FOUND));
+
+    return toDownload(
+        findResource(attachment.getFileUrl()),
+        attachment.getOriginalFilename(),
+        attachment.getContentHash(),
+        String.valueOf(attachment.getPostAttachmentId()));
+  }
+
+  /**
+   * 이미지 첨부파일의 축소본 다운로드 정보 조회 (아직 없으면 이 요청에서 생성)
+   *
+   * @param attachmentId 첨부파일 ID
+   * @param variantName 축소본 종류 (thumb, w800)
+   * @return 다운로드 정보
+   */
+  public AttachmentDownload getVariantDownload(Long attachmentId, String variantName) {
+    ImageVariant variant = ImageVariant.fromSuffix(variantName);
+    if (variant == null) {
+      throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "지원하지 않는 축소본 종류입니다: " + variantName);
+    }
+
+    PostAttachments attachment =
+        postAttachmentsRepository
+            .findById(attachmentId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ATTACHMENT_NOT_FOUND));
+    if (!ImageVariant.supports(attachment.getFileUrl())) {
+      throw new BusinessException(ErrorCode.INVALID_FILE_TYPE, "이미지 첨부파일만 축소본을 제공합니다.");
+    }
+    if (!fileManager.exists(attachment.getFileUrl())) {
+      throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+    }
+
+    Resource resource;
+    try {
+      resource = thumbnailService.getOrCreate(attachment.getFileUrl(), variant);
+    } catch (IOException e) {
+      log.error("축소본 생성 실패: {}, 오류: {}", attachment.getFileUrl(), e.getMessage());
+      throw new BusinessException(ErrorCode.FILE_PROCESSING_ERROR, e.getMessage());
+    }
+
+    // 축소본은 원본과 설정(크기/품질)으로 결정되므로 원본 해시 + 종류로 식별
+    String variantKey = "-" + variant.getSuffix();
+    String filename =
+        fileManager.getFileNameWithoutExtension(attachment.getOriginalFilename())
+            + "."
+            + variant.getSuffix()
+            + "."
+            + ImageVariant.outputFormat(attachment.getFileUrl());
+    return toDownload(
+        resource,
+        filename,
+        attachment.getContentHash() != null ? attachment.getContentHash() + variantKey : null,
+        attachment.getPostAttachmentId() + variantKey);
+  }
+
+  /** 파일 메타데이터로 다운로드 정보 생성 (내용 해시가 없으면 크기/수정시각을 ETag에 포함) */
+  private AttachmentDownload toDownload(
+      Resource resource, String filename, String contentKey, String fallbackKey) {
+    try {
+      long size = resource.contentLength();
+      long lastModified = resource.lastModified();
+      String etag =
+          contentKey != null
+              ? "\"" + contentKey + "\""
+              : String.format("\"%s-%d-%d\"", fallbackKey, size, lastModified);
+      return new AttachmentDownload(resource, filename, size, etag, lastModified);
+    } catch (IOException e) {
+      log.error("첨부파일 정보 조회 실패: {}, 오류: {}", resource.getDescription(), e.getMessage());
+      throw new BusinessException(ErrorCode.FILE_PROCESSING_ERROR, e.getMessage());
+    }
+  }
+
+  /** 저장된 파일 조회 (저장 방식과 무관, 없으면 FILE_NOT_FOUND) */
+  private Resource findResource(String fileUrl) {
+    try {
+      return fileManager
+          .findResource(fileUrl)
+          .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND));
+    } catch (IOException e) {
+      log.error("파일 조회 실패: {}, 오류: {}", fileUrl, e.getMessage());
+      throw new BusinessException(ErrorCode.FILE_PROCESSING_ERROR, e.getMessage());
+    }
+  }
+
   /**
    * 첨부파일 삭제
    *
    * @param attachmentId 첨부파일 ID
    */
+  @Transactional
   public void deleteAttachment(Long attachmentId) {
     PostAttachments attachment =
         postAttachmentsRepository
             .findById(attachmentId)
             .orElseThrow(() -> new BusinessException(ErrorCode.ATTACHMENT_NOT_FOUND));
 
-    // FileManager를 사용하여 실제 파일 삭제 (예외 발생시 BusinessException으로 처리됨)
-    fileManager.deleteFile(attachment.getFileUrl());
-
     // 데이터베이스에서 삭제
     postAttachmentsRepository.delete(attachment);
-    log.info("첨부파일 삭제 완료: {}", attachment.getOriginalFilename());
+    postsRepository.addAttachmentCount(attachment.getPost().getPostId(), -1);
+    postListCacheService.invalidateAfterCommit(attachment.getPost().getCategory());
+
+    // 실제 파일은 커밋 이후 삭제 큐에서 비동기로 삭제 (요청 스레드/DB 락과 디스크 I/O 분리)
+    fileDeletionQueue.enqueueAfterCommit(List.of(attachment.getFileUrl()));
+    log.debug("첨부파일 삭제 완료: {}", attachment.getOriginalFilename());
   }
 
   /**
-   * 게시물에 연결된 모든 실제 파일을 삭제 (DB 레코드는 남김)
+   * 실제 파일들을 현재 트랜잭션 커밋 이후에 삭제 (DB 레코드 삭제는 호출 측 책임) <br>
+   * 트랜잭션이 롤백되면 파일은 그대로 남고, 삭제는 백그라운드 큐에서 재시도와 함께 처리
    *
-   * @param post 게시물 엔티티 post 엔티티가 attachments를 이미 로딩하고 있어야 성능 상 이점 (fetch = FetchType.EAGER)
+   * @param fileUrls 삭제할 파일들의 웹 URL 목록
    */
-  public void deletePhysicalFiles(Posts post) {
-    if (post.getAttachments() == null || post.getAttachments().isEmpty()) {
-      return;
-    }
-
-    for (PostAttachments attachment : post.getAttachments()) {
-      try {
-        fileManager.deleteFile(attachment.getFileUrl());
-      } catch (Exception e) {
-        log.warn("실제 파일 삭제 실패 (URL: {}): {}", attachment.getFileUrl(), e.getMessage());
-        // 하나의 파일 삭제 실패가 전체 프로세스를 중단하지 않도록 예외 처리
-        // 운영 환경에서는 실제로 이런 개별 파일 오류가 흔히 발생하므로 예외를 무시하지 않고 로그만 남기는 패턴이 일반적임
-      }
-    }
+  public void deletePhysicalFilesAfterCommit(List<String> fileUrls) {
+    fileDeletionQueue.enqueueAfterCommit(fileUrls);
   }
 }
@@ -0,0 +1,372 @@
+package com.example.communityservice.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.example.communityservice.dto.comments.CommentsResponseDTO;
+import com.example.communityservice.dto.posts.PostCountsEventDTO;
+import com.example.communityservice.entity.PostCategory;
+import com.example.communityservice.global.exception.BusinessException;
+import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.repository.PostsRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 좋아요/조회수/댓글 수 실시간 전송 (SSE) <br>
+ * - 변경은 커밋 이후 게시글별 증감으로만 누적하고, 정해진 주기(tick)마다 한 번에 전송 <br>
+ * - 게시글/카테고리별 이벤트는 한 번만 직렬화하고 build()한 결과(읽기 전용 Set)를 모든 구독자가 공유 <br>
+ * - SseEventBuilder는 build()할 때마다 내부 상태를 바꾸므로 builder 자체는 구독자 사이에 공유하지 않음 <br>
+ * - 구독자마다 크기가 고정된 전송 큐를 두고 별도 풀에서 전송 → 느린 구독자가 tick이나 다른 구독자를 막지 않음 <br>
+ * - 큐가 가득 찬 구독자는 연결을 끊음 (다시 연결해서 상세/목록을 새로 조회하도록) <br>
+ * - 구독자가 없으면 변경을 기록하지 않음
+ */
+@Slf4j
+@Service
+public class PostEventBroadcaster {
+
+  private static final String ALL_CATEGORIES = "ALL";
+  private static final String EVENT_NAME = "counts";
+  private static final Set<DataWithMediaType> CONNECTED =
+      build(SseEmitter.event().comment("connected"));
+  private static final Set<DataWithMediaType> PING = build(SseEmitter.event().comment("ping"));
+
+  private final PostsRepository postsRepository;
+  private final ObjectMapper objectMapper;
+  private final Executor sseExecutor;
+  // 이번 tick 동안 쌓인 게시글별 증감 (Pending은 compute 안에서만 수정)
+  private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Long, Set<Subscriber>> postSubscribers =
+      new ConcurrentHashMap<>();
+  // 카테고리 이름 또는 ALL_CATEGORIES
+  private final ConcurrentHashMap<String, Set<Subscriber>> categorySubscribers =
+      new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private final Counter slowDisconnects;
+  private long lastKeepAliveAt = System.currentTimeMillis();
+
+  @Value("${post.events.timeout-ms:1800000}")
+  private long timeoutMillis;
+
+  @Value("${post.events.queue-capacity:16}")
+  private int queueCapacity;
+
+  @Value("${post.events.max-subscribers:10000}")
+  private int maxSubscribers;
+
+  @Value("${post.events.max-new-comments:20}")
+  private int maxNewComments;
+
+  @Value("${post.events.keep-alive-ms:15000}")
+  private long keepAliveMillis;
+
+  public PostEventBroadcaster(
+      PostsRepository postsRepository,
+      ObjectMapper objectMapper,
+      @Qualifier("sseExecutor") Executor sseExecutor,
+      MeterRegistry meterRegistry) {
+    this.postsRepository = postsRepository;
+    this.objectMapper = objectMapper;
+    this.sseExecutor = sseExecutor;
+    this.slowDisconnects =
+        Counter.builder("post.events.slow-disconnects")
+            .description("전송 큐가 가득 차서 연결을 끊은 구독자 수")
+            .register(meterRegistry);
+    Gauge.builder("post.events.subscribers", subscriberCount, AtomicInteger::get)
+        .description("실시간 수치 구독자 수")
+        .register(meterRegistry);
+  }
+
+  /** 게시글 하나의 수치 변경 구독 */
+  public SseEmitter subscribePost(Long postId) {
+    if (!postsRepository.existsById(postId)) {
+      throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+    }
+    return subscribe(postSubscribers, postId);
+  }
+
+  /**
+   * 카테고리 목록의 수치 변경 구독
+   *
+   * @param category 게시글 카테고리 (null 또는 "전체"이면 전체 목록)
+   */
+  public SseEmitter subscribeCategory(String category) {
+    String key =
+        category == null || category.equals("전체")
+            ? ALL_CATEGORIES
+            : PostCategory.valueOf(category.toUpperCase()).name();
+    return subscribe(categorySubscribers, key);
+  }
+
+  /** 좋아요 추가/취소 (커밋 이후 반영) */
+  public void likesChangedAfterCommit(Long postId, PostCategory category, int delta) {
+    afterCommit(postId, category, pending -> pending.likes += delta);
+  }
+
+  /** 조회수 증가 (커밋 이후 반영) */
+  public void viewedAfterCommit(Long postId, PostCategory category) {
+    afterCommit(postId, category, pending -> pending.views++);
+  }
+
+  /** 댓글 작성 (커밋 이후 반영, 게시글 구독자에게는 댓글 내용도 전송) */
+  public void commentAddedAfterCommit(
+      Long postId, PostCategory category, CommentsResponseDTO comment) {
+    afterCommit(
+        postId,
+        category,
+        pending -> {
+          pending.comments++;
+          if (pending.newComments.size() < maxNewComments) {
+            pending.newComments.add(comment);
+          }
+        });
+  }
+
+  /** 댓글 삭제 (커밋 이후 반영) */
+  public void commentRemovedAfterCommit(Long postId, PostCategory category) {
+    afterCommit(postId, category, pending -> pending.comments--);
+  }
+
+  /** 게시글 삭제 (커밋 이후 해당 게시글 구독 종료) */
+  public void postDeletedAfterCommit(Long postId) {
+    runAfterCommit(
+        () -> {
+          Set<Subscriber> subscribers = postSubscribers.get(postId);
+          if (subscribers != null) {
+            subscribers.forEach(Subscriber::complete);
+          }
+        });
+  }
+
+  /** 쌓인 증감을 게시글/카테고리 구독자에게 전송 */
+  @Scheduled(fixedRateString = "${post.events.tick-ms:1000}")
+  public void tick() {
+    Map<String, List<PostCountsEventDTO>> byCategory = new HashMap<>();
+    for (Long postId : pending.keySet()) {
+      Pending changes = pending.remove(postId);
+      if (changes == null) {
+        continue;
+      }
+      publish(postSubscribers.get(postId), changes.toEvent(postId, true));
+      if (categorySubscribers.containsKey(changes.category.name())) {
+        byCategory
+            .computeIfAbsent(changes.category.name(), k -> new ArrayList<>())
+            .add(changes.toEvent(postId, false));
+      }
+      if (categorySubscribers.containsKey(ALL_CATEGORIES)) {
+        byCategory
+            .computeIfAbsent(ALL_CATEGORIES, k -> new ArrayList<>())
+            .add(changes.toEvent(postId, false));
+      }
+    }
+    byCategory.forEach((key, events) -> publish(categorySubscribers.get(key), events));
+
+    // 변경이 없어도 주기적으로 보내서 끊어진 연결을 정리하고 프록시의 유휴 연결 종료를 방지
+    long now = System.currentTimeMillis();
+    if (now - lastKeepAliveAt >= keepAliveMillis) {
+      lastKeepAliveAt = now;
+      postSubscribers.values().forEach(set -> set.forEach(s -> s.offer(PING)));
+      categorySubscribers.values().forEach(set -> set.forEach(s -> s.offer(PING)));
+    }
+  }
+
+  private <K> SseEmitter subscribe(ConcurrentHashMap<K, Set<Subscriber>> subscribers, K key) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new BusinessException(ErrorCode.EVENT_SUBSCRIBER_LIMIT_EXCEEDED);
+    }
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(emitter);
+    subscribers.compute(
+        key,
+        (k, set) -> {
+          Set<Subscriber> result = set == null ? ConcurrentHashMap.newKeySet() : set;
+          result.add(subscriber);
+          return result;
+        });
+    Runnable unsubscribe =
+        () -> {
+          if (subscriber.closed.compareAndSet(false, true)) {
+            subscribers.computeIfPresent(
+                key,
+                (k, set) -> {
+                  set.remove(subscriber);
+                  return set.isEmpty() ? null : set;
+                });
+            subscriberCount.decrementAndGet();
+          }
+        };
+    emitter.onCompletion(unsubscribe);
+    emitter.onTimeout(unsubscribe);
+    emitter.onError(e -> unsubscribe.run());
+    // 연결 직후 바로 한 번 전송 (클라이언트가 연결 성공을 바로 알 수 있고, 프록시의 응답 버퍼링 방지)
+    subscriber.offer(CONNECTED);
+    return emitter;
+  }
+
+  private void afterCommit(Long postId, PostCategory category, Consumer<Pending> change) {
+    // 구독자가 없는 게시글/카테고리의 변경은 기록하지 않음 (요청 처리 비용 없음)
+    if (!postSubscribers.containsKey(postId)
+        && !categorySubscribers.containsKey(category.name())
+        && !categorySubscribers.containsKey(ALL_CATEGORIES)) {
+      return;
+    }
+    runAfterCommit(
+        () ->
+            pending.compute(
+                postId,
+                (k, current) -> {
+                  Pending changes = current == null ? new Pending(category) : current;
+                  change.accept(changes);
+                  return changes;
+                }));
+  }
+
+  private static void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  // 구독자 수와 관계없이 한 번만 직렬화
+  private void publish(Set<Subscriber> subscribers, Object event) {
+    if (subscribers == null || subscribers.isEmpty()) {
+      return;
+    }
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      log.warn("실시간 이벤트 직렬화 실패: {}", e.getMessage());
+      return;
+    }
+    Set<DataWithMediaType> message = build(SseEmitter.event().name(EVENT_NAME).data(json));
+    subscribers.forEach(subscriber -> subscriber.offer(message));
+  }
+
+  // 여러 스레드가 동시에 보내도 안전하도록 build() 결과를 읽기 전용으로 공유
+  private static Set<DataWithMediaType> build(SseEventBuilder event) {
+    return Collections.unmodifiableSet(event.build());
+  }
+
+  /** 게시글 하나의 이번 tick 증감 */
+  private static class Pending {
+    private final PostCategory category;
+    private int likes;
+    private int views;
+    private int comments;
+    private final List<CommentsResponseDTO> newComments = new ArrayList<>();
+
+    Pending(PostCategory category) {
+      this.category = category;
+    }
+
+    PostCountsEventDTO toEvent(Long postId, boolean withComments) {
+      return PostCountsEventDTO.builder()
+          .postId(postId)
+          .category(category)
+          .likes(likes)
+          .views(views)
+          .comments(comments)
+          .newComments(withComments ? newComments : null)
+          .build();
+    }
+  }
+
+  /** 구독자 하나의 연결과 전송 큐 (한 번에 한 스레드만 전송) */
+  private class Subscriber {
+    private final SseEmitter emitter;
+    private final ArrayBlockingQueue<Set<DataWithMediaType>> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    void offer(Set<DataWithMediaType> message) {
+      if (closed.get()) {
+        return;
+      }
+      if (!queue.offer(message)) {
+        // 이전 이벤트도 아직 못 받은 구독자 → 계속 쌓지 않고 연결 종료
+        slowDisconnects.increment();
+        complete();
+        return;
+      }
+      scheduleDrain();
+    }
+
+    void complete() {
+      queue.clear();
+      emitter.complete();
+    }
+
+    private void scheduleDrain() {
+      if (!draining.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        sseExecutor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        // 풀이 가득 참 → 큐에 남겨 두고 다음 tick에 다시 시도
+        draining.set(false);
+      }
+    }
+
+    private void drain() {
+      try {
+        Set<DataWithMediaType> message;
+        while ((message = queue.poll()) != null) {
+          emitter.send(message);
+        }
+      } catch (IOException | IllegalStateException e) {
+        // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+        emitter.completeWithError(e);
+        return;
+      } finally {
+        draining.set(false);
+      }
+      // 마지막 poll과 draining 해제 사이에 들어온 이벤트 처리
+      if (!queue.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+  }
+}
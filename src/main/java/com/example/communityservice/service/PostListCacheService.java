@@ -0,0 +1,220 @@
+package com.example.communityservice.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.communityservice.entity.PostCategory;
+import com.example.communityservice.global.util.ReadYourWritesFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글 목록 앞쪽 페이지 응답 캐시 (카테고리 × 정렬 × 페이지) <br>
+ * - JSON 직렬화가 끝난 응답 바이트와 gzip 압축본을 함께 보관 → 적중 시 SQL/직렬화/압축 없이 바로 전송 <br>
+ * - Accept-Encoding에 gzip이 있으면 압축본 전송 (Vary: Accept-Encoding) <br>
+ * - 게시글/댓글/좋아요/첨부파일 변경이 커밋되면 해당 카테고리와 전체 목록을 무효화 (카테고리별 세대 번호 증가) <br>
+ * - 조회수 증가는 무효화하지 않음 → 조회수/조회수 순서는 최대 TTL만큼 늦게 반영
+ */
+@Service
+public class PostListCacheService {
+
+  private static final Set<String> CACHEABLE_SORTS = Set.of("createdAt", "views", "likes");
+  private static final Set<String> KEY_PARAMETERS = Set.of("category", "sort", "page", "size");
+  // 이보다 작은 응답은 압축 이득이 거의 없으므로 원본만 전송
+  private static final int MIN_GZIP_SIZE = 512;
+
+  private final ObjectMapper objectMapper;
+  private final Map<Key, CachedPage> pages = new ConcurrentHashMap<>();
+  // 카테고리 ordinal별 세대 번호, 마지막 칸은 전체 목록
+  private final AtomicLongArray generations = new AtomicLongArray(PostCategory.values().length + 1);
+  private final Counter hits;
+  private final Counter misses;
+
+  @Value("${post.list-cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${post.list-cache.max-pages:2}")
+  private int maxPages;
+
+  @Value("${post.list-cache.max-page-size:50}")
+  private int maxPageSize;
+
+  @Value("${post.list-cache.ttl-ms:5000}")
+  private long ttlMillis;
+
+  public PostListCacheService(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+    this.hits = resultCounter(meterRegistry, "hit");
+    this.misses = resultCounter(meterRegistry, "miss");
+    Gauge.builder("post.list.cache.size", pages, Map::size)
+        .description("캐시된 목록 페이지 수")
+        .register(meterRegistry);
+  }
+
+  /** 캐시 키: 카테고리(null이면 전체), 정렬, 페이지 번호, 페이지 크기 */
+  public record Key(PostCategory category, String sort, int page, int size) {}
+
+  private record CachedPage(byte[] json, byte[] gzip, long generation, long expiresAt) {}
+
+  /**
+   * 캐시 대상 요청이면 키 생성 <br>
+   * 앞쪽 페이지의 카테고리/정렬 목록만 대상 (태그/검색, 알 수 없는 파라미터, 방금 쓰기를 한 사용자는 제외)
+   *
+   * @return 캐시 키 (대상이 아니면 null)
+   */
+  public Key keyOf(HttpServletRequest request, String category, String sort, Pageable pageable) {
+    if (!enabled
+        || pageable.getPageNumber() >= maxPages
+        || pageable.getPageSize() > maxPageSize
+        || !CACHEABLE_SORTS.contains(sort)
+        || !KEY_PARAMETERS.containsAll(request.getParameterMap().keySet())
+        // read-your-writes: 복제본 지연 중에 다른 사용자가 만든 페이지가 아니라 primary에서 다시 조회
+        || ReadYourWritesFilter.isPinnedToPrimary()) {
+      return null;
+    }
+    if (category == null || category.equals("전체")) {
+      return new Key(null, sort, pageable.getPageNumber(), pageable.getPageSize());
+    }
+    try {
+      return new Key(
+          PostCategory.valueOf(category.toUpperCase()),
+          sort,
+          pageable.getPageNumber(),
+          pageable.getPageSize());
+    } catch (IllegalArgumentException e) {
+      return null; // 잘못된 카테고리는 원래 목록 조회에서 오류 응답
+    }
+  }
+
+  /**
+   * 캐시된 응답 전송 (없거나 무효화/만료되었으면 생성해서 저장)
+   *
+   * @param key 캐시 키
+   * @param body 캐시가 없을 때 응답 본문 생성 (JSON 직렬화 대상)
+   */
+  public void serve(
+      Key key, HttpServletRequest request, HttpServletResponse response, Supplier<?> body)
+      throws IOException {
+    // 세대 번호는 조회 전에 읽음 → 조회 중에 커밋된 변경이 있으면 저장한 페이지는 바로 무효
+    long generation = generations.get(slot(key.category()));
+    CachedPage page = pages.get(key);
+    if (page == null
+        || page.generation() != generation
+        || page.expiresAt() <= System.currentTimeMillis()) {
+      misses.increment();
+      byte[] json = objectMapper.writeValueAsBytes(body.get());
+      page =
+          new CachedPage(
+              json,
+              json.length >= MIN_GZIP_SIZE ? gzip(json) : null,
+              generation,
+              System.currentTimeMillis() + ttlMillis);
+      pages.put(key, page);
+    } else {
+      hits.increment();
+    }
+    write(page, request, response);
+  }
+
+  /**
+   * 현재 트랜잭션 커밋 이후 카테고리 목록 무효화 (트랜잭션 밖이면 즉시)
+   *
+   * @param categories 변경된 게시글의 카테고리 (수정으로 카테고리가 바뀌면 이전/이후 모두)
+   */
+  public void invalidateAfterCommit(PostCategory... categories) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidate(categories);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            invalidate(categories);
+          }
+        });
+  }
+
+  private void invalidate(PostCategory... categories) {
+    for (PostCategory category : categories) {
+      generations.incrementAndGet(slot(category));
+    }
+    generations.incrementAndGet(slot(null));
+  }
+
+  private static int slot(PostCategory category) {
+    return category == null ? PostCategory.values().length : category.ordinal();
+  }
+
+  private static void write(
+      CachedPage page, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    boolean gzip = page.gzip() != null && acceptsGzip(request);
+    byte[] body = gzip ? page.gzip() : page.json();
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  // 예: "gzip, deflate, br" / "gzip;q=0" (q=0은 거부)
+  private static boolean acceptsGzip(HttpServletRequest request) {
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  // 한 번 압축해서 여러 번 전송하므로 최고 압축률 사용
+  private static byte[] gzip(byte[] json) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+    try (GZIPOutputStream gzip =
+        new GZIPOutputStream(out) {
+          {
+            def.setLevel(Deflater.BEST_COMPRESSION);
+          }
+        }) {
+      gzip.write(json);
+    }
+    return out.toByteArray();
+  }
+
+  private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("post.list.cache.requests")
+        .description("목록 페이지 캐시 조회 결과")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
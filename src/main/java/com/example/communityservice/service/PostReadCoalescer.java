@@ -0,0 +1,76 @@
+package com.example.communityservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.example.communityservice.dto.posts.PostsResponseDTO;
+import com.example.communityservice.dto.posts.PostsSummaryDTO;
+import com.example.communityservice.global.util.ReadYourWritesFilter;
+import com.example.communityservice.global.util.SingleFlight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글 상세/목록 동시 조회 합치기 (PostsService 앞단) <br>
+ * - 인기 게시글/첫 페이지에 동시에 몰린 같은 조회는 한 번만 실행하고 결과를 공유 <br>
+ * - 트랜잭션 밖에서 기다리므로 follower는 DB 커넥션을 잡지 않음 <br>
+ * - 상세의 좋아요 여부는 사용자마다 다르므로 공유 결과를 복사해서 요청별로 설정 <br>
+ * - 방금 쓰기를 해서 primary에서 읽어야 하는 요청(read-your-writes)은 복제본 조회 결과와 섞이지 않도록 키를 분리
+ */
+@Service
+public class PostReadCoalescer {
+
+  private final PostsService postsService;
+  private final SingleFlight<DetailKey, PostsResponseDTO> details;
+  private final SingleFlight<ListKey, Page<PostsSummaryDTO>> lists;
+
+  public PostReadCoalescer(
+      PostsService postsService,
+      MeterRegistry meterRegistry,
+      @Value("${post.single-flight.timeout-ms:1000}") long timeoutMillis) {
+    this.postsService = postsService;
+    this.details = new SingleFlight<>("post.detail", timeoutMillis, meterRegistry);
+    this.lists = new SingleFlight<>("post.list", timeoutMillis, meterRegistry);
+  }
+
+  private record DetailKey(Long postId, boolean primary) {}
+
+  private record ListKey(String sort, String category, Pageable pageable, boolean primary) {}
+
+  /** PostsService.getPostInfo와 같은 결과 (게시글/댓글 조회는 합치고 좋아요 여부만 요청별로 조회) */
+  public PostsResponseDTO getPostInfo(Long postId, Long userId) {
+    PostsResponseDTO shared =
+        details.execute(
+            new DetailKey(postId, ReadYourWritesFilter.isPinnedToPrimary()),
+            () -> postsService.getPostInfo(postId, null));
+    return shared.toBuilder()
+        .isLikedByCurrentUser(userId != null && postsService.isLikedByUser(postId, userId))
+        .build();
+  }
+
+  /** 최신순 목록 (PostsService.getPosts) */
+  public Page<PostsSummaryDTO> getPosts(String category, Pageable pageable) {
+    return lists.execute(
+        listKey("createdAt", category, pageable), () -> postsService.getPosts(category, pageable));
+  }
+
+  /** 조회수 순 목록 (PostsService.getPopularPosts) */
+  public Page<PostsSummaryDTO> getPopularPosts(String category, Pageable pageable) {
+    return lists.execute(
+        listKey("views", category, pageable),
+        () -> postsService.getPopularPosts(category, pageable));
+  }
+
+  /** 좋아요 순 목록 (PostsService.getPopularPostsByLikes) */
+  public Page<PostsSummaryDTO> getPopularPostsByLikes(String category, Pageable pageable) {
+    return lists.execute(
+        listKey("likes", category, pageable),
+        () -> postsService.getPopularPostsByLikes(category, pageable));
+  }
+
+  private static ListKey listKey(String sort, String category, Pageable pageable) {
+    return new ListKey(sort, category, pageable, ReadYourWritesFilter.isPinnedToPrimary());
+  }
+}
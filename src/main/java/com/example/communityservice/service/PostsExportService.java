@@ -0,0 +1,255 @@
+package com.example.communityservice.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.communityservice.entity.PostCategory;
+import com.example.communityservice.repository.PostsExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 대량 내보내기 서비스 <br>
+ * - 분석용으로 전체 게시글을 NDJSON 또는 CSV로 스트리밍 <br>
+ * - 커서에서 읽은 행을 바로 응답 스트림에 기록하므로 메모리 사용량이 데이터 크기와 무관 <br>
+ * - 로그인 없이 호출할 수 있으므로 화면에 보이는 정보만 포함 (회원 ID, 익명 이메일 등 작성자 식별 정보 제외)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostsExportService {
+
+  private final PostsExportRepository postsExportRepository;
+  private final ObjectMapper objectMapper;
+
+  // 전체 내보내기는 수십 분이 걸릴 수 있으므로 이 요청만 비동기 타임아웃을 길게 적용
+  @Value("${post.export.timeout-ms:1800000}")
+  private long timeoutMillis;
+
+  /** 내보내기 형식 */
+  @Getter
+  public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv; charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+      this.contentType = contentType;
+      this.extension = extension;
+    }
+
+    public static ExportFormat from(String value) {
+      for (ExportFormat format : values()) {
+        if (format.name().equalsIgnoreCase(value)) {
+          return format;
+        }
+      }
+      throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+  }
+
+  /** 내보내기 옵션 (필터 + 포함할 컬럼) */
+  public record ExportOptions(
+      PostCategory category,
+      LocalDateTime from,
+      LocalDateTime to,
+      boolean includeComments,
+      boolean includeLikes,
+      boolean includeTags) {}
+
+  /** 내보내기 응답의 비동기 타임아웃 (ms) */
+  public long getTimeoutMillis() {
+    return timeoutMillis;
+  }
+
+  /**
+   * 게시글을 지정한 형식으로 출력 스트림에 기록
+   *
+   * @param format 내보내기 형식
+   * @param options 필터 및 포함 컬럼 옵션
+   * @param out 응답 출력 스트림 (닫지 않음)
+   */
+  public void export(ExportFormat format, ExportOptions options, OutputStream out)
+      throws IOException {
+    long startTime = System.currentTimeMillis();
+    long rows =
+        switch (format) {
+          case NDJSON -> writeNdjson(options, out);
+          case CSV -> writeCsv(options, out);
+        };
+    log.info(
+        "게시글 내보내기 완료: format={}, rows={}, {}ms",
+        format,
+        rows,
+        System.currentTimeMillis() - startTime);
+  }
+
+  private long writeNdjson(ExportOptions options, OutputStream out) throws IOException {
+    long[] count = {0};
+    // JsonGenerator 내부 버퍼가 차면 자동으로 out에 flush됨 (행 전체를 모아두지 않음)
+    try (JsonGenerator generator =
+        objectMapper
+            .getFactory()
+            .createGenerator(out)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      postsExportRepository.streamPosts(
+          options.category(),
+          options.from(),
+          options.to(),
+          options.includeComments(),
+          rs -> {
+            try {
+              writeJsonRow(generator, rs, options);
+              count[0]++;
+            } catch (IOException e) {
+              throw new UncheckedIOException(e); // 클라이언트 연결 끊김 등 → 커서 즉시 종료
+            }
+          });
+    }
+    return count[0];
+  }
+
+  private void writeJsonRow(JsonGenerator generator, ResultSet rs, ExportOptions options)
+      throws IOException, SQLException {
+    generator.writeStartObject();
+    generator.writeNumberField("postId", rs.getLong("post_id"));
+    generator.writeStringField("category", rs.getString("category"));
+    generator.writeStringField("title", rs.getString("title"));
+    generator.writeStringField("content", rs.getString("content"));
+    generator.writeStringField("authorName", displayAuthorName(rs.getString("author_name")));
+    generator.writeBooleanField("isAnonymous", rs.getBoolean("is_anonymous"));
+    generator.writeNumberField("views", rs.getInt("views"));
+    if (options.includeLikes()) {
+      generator.writeNumberField("likes", rs.getInt("likes"));
+    }
+    generator.writeNumberField("commentsCount", rs.getInt("comments_count"));
+    if (options.includeTags()) {
+      // tags 컬럼은 이미 JSON이므로 파싱 없이 그대로 기록
+      String tags = rs.getString("tags");
+      generator.writeFieldName("tags");
+      if (tags == null) {
+        generator.writeNull();
+      } else {
+        generator.writeRawValue(tags);
+      }
+    }
+    generator.writeStringField("createdAt", formatTimestamp(rs.getTimestamp("created_at")));
+    generator.writeStringField("updatedAt", formatTimestamp(rs.getTimestamp("updated_at")));
+    if (options.includeComments()) {
+      String comments = rs.getString("comments_json");
+      generator.writeFieldName("comments");
+      generator.writeRawValue(comments != null ? comments : "[]");
+    }
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  private long writeCsv(ExportOptions options, OutputStream out) throws IOException {
+    long[] count = {0};
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writer.write(csvHeader(options));
+    postsExportRepository.streamPosts(
+        options.category(),
+        options.from(),
+        options.to(),
+        options.includeComments(),
+        rs -> {
+          try {
+            writeCsvRow(writer, rs, options);
+            count[0]++;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+    writer.flush(); // out은 컨테이너가 관리하므로 닫지 않고 flush만
+    return count[0];
+  }
+
+  private String csvHeader(ExportOptions options) {
+    StringBuilder header =
+        new StringBuilder("postId,category,title,content,authorName,isAnonymous,views");
+    if (options.includeLikes()) {
+      header.append(",likes");
+    }
+    header.append(",commentsCount");
+    if (options.includeTags()) {
+      header.append(",tags");
+    }
+    header.append(",createdAt,updatedAt");
+    if (options.includeComments()) {
+      header.append(",comments");
+    }
+    return header.append('\n').toString();
+  }
+
+  private void writeCsvRow(Writer writer, ResultSet rs, ExportOptions options)
+      throws IOException, SQLException {
+    writer.write(Long.toString(rs.getLong("post_id")));
+    writeCsvField(writer, rs.getString("category"));
+    writeCsvField(writer, rs.getString("title"));
+    writeCsvField(writer, rs.getString("content"));
+    writeCsvField(writer, displayAuthorName(rs.getString("author_name")));
+    writeCsvField(writer, Boolean.toString(rs.getBoolean("is_anonymous")));
+    writeCsvField(writer, Integer.toString(rs.getInt("views")));
+    if (options.includeLikes()) {
+      writeCsvField(writer, Integer.toString(rs.getInt("likes")));
+    }
+    writeCsvField(writer, Integer.toString(rs.getInt("comments_count")));
+    if (options.includeTags()) {
+      writeCsvField(writer, rs.getString("tags"));
+    }
+    writeCsvField(writer, formatTimestamp(rs.getTimestamp("created_at")));
+    writeCsvField(writer, formatTimestamp(rs.getTimestamp("updated_at")));
+    if (options.includeComments()) {
+      String comments = rs.getString("comments_json");
+      writeCsvField(writer, comments != null ? comments : "[]");
+    }
+    writer.write('\n');
+  }
+
+  /** RFC 4180 규칙에 따라 필드 앞에 구분자를 쓰고, 필요한 경우에만 따옴표로 감싸서 기록 */
+  private void writeCsvField(Writer writer, String value) throws IOException {
+    writer.write(',');
+    if (value == null) {
+      return;
+    }
+    boolean needsQuote =
+        value.indexOf(',') >= 0
+            || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0
+            || value.indexOf('\r') >= 0;
+    if (!needsQuote) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  private String displayAuthorName(String authorName) {
+    return authorName != null ? authorName : "익명";
+  }
+
+  private String formatTimestamp(Timestamp timestamp) {
+    return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+  }
+}
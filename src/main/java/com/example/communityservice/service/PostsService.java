@@ -2,8 +2,10 @@ package com.example.communityservice.service;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,6 +25,7 @@ import com.example.communityservice.entity.Posts;
 import com.example.communityservice.global.exception.BusinessException;
 import com.example.communityservice.global.exception.ErrorCode;
 import com.example.communityservice.repository.AuthorsRepository;
+import com.example.communityservice.repository.CommentsRepository;
 import com.example.communityservice.repository.PostAttachmentsRepository;
 import com.example.communityservice.repository.PostLikesRepository;
 import com.example.communityservice.repository.PostsRepository;
@@ -47,8 +50,15 @@ public class PostsService {
   private final AuthorsRepository authorsRepository;
   private final PostAttachmentsRepository postAttachmentsRepository;
   private final PostLikesRepository postLikesRepository;
+  private final CommentsRepository commentsRepository;
   private final PasswordEncoder passwordEncoder;
   private final FileUploadService fileUploadService;
+  private final PostListCacheService postListCacheService;
+  private final PostEventBroadcaster postEventBroadcaster;
+
+  // 게시글 삭제 시 댓글/좋아요를 한 번에 지울 최대 행 수 (대형 게시글의 긴 단일 DELETE 방지)
+  @Value("${post.delete.chunk-size:5000}")
+  private int deleteChunkSize;
 
   /**
    * 게시글 목록 조회 (카테고리별, 페이징)
@@ -67,12 +77,7 @@ public class PostsService {
       posts = postsRepository.findByCategoryOrderByCreatedAtDesc(postCategory, pageable);
     }
 
-    return posts.map(
-        post -> {
-          PostsSummaryDTO postsSummaryDTO = PostsSummaryDTO.from(post);
-          setHasAttachments(postsSummaryDTO, post.getPostId());
-          return postsSummaryDTO;
-        });
+    return posts.map(PostsSummaryDTO::from);
   }
 
   /**
@@ -92,12 +97,7 @@ public class PostsService {
       posts = postsRepository.findByCategoryOrderByViewsDesc(postCategory, pageable);
     }
 
-    return posts.map(
-        post -> {
-          PostsSummaryDTO postsSummaryDTO = PostsSummaryDTO.from(post);
-          setHasAttachments(postsSummaryDTO, post.getPostId());
-          return postsSummaryDTO;
-        });
+    return posts.map(PostsSummaryDTO::from);
   }
 
   /**
@@ -117,12 +117,7 @@ public class PostsService {
       posts = postsRepository.findByCategoryOrderByLikesDesc(postCategory, pageable);
     }
 
-    return posts.map(
-        post -> {
-          PostsSummaryDTO postsSummaryDTO = PostsSummaryDTO.from(post);
-          setHasAttachments(postsSummaryDTO, post.getPostId());
-          return postsSummaryDTO;
-        });
+    return posts.map(PostsSummaryDTO::from);
   }
 
   /**
@@ -172,6 +167,7 @@ public class PostsService {
 
     // 엔티티의 조회수 증가 메서드 호출 (JPA의 변경 감지 기능으로 DB에 자동 반영)
     post.increaseViews();
+    postEventBroadcaster.viewedAfterCommit(postId, post.getCategory());
   }
 
   /**
@@ -210,6 +206,7 @@ public class PostsService {
             .build();
 
     Posts savedPost = postsRepository.save(post);
+    postListCacheService.invalidateAfterCommit(savedPost.getCategory());
     return PostsResponseDTO.from(savedPost);
   }
 
@@ -230,11 +227,13 @@ public class PostsService {
     // 작성자 권한 체크
     validateAuthorPermission(post, requestDto);
 
+    PostCategory previousCategory = post.getCategory();
     post.updatePost(
         requestDto.getTitle(),
         requestDto.getContent(),
         requestDto.getCategory(),
         requestDto.getTags());
+    postListCacheService.invalidateAfterCommit(previousCategory, post.getCategory());
 
     return PostsResponseDTO.from(post);
   }
@@ -255,12 +254,48 @@ public class PostsService {
     // 작성자 권한 체크
     validateAuthorPermission(post, requestDto);
 
-    // 1. 게시물에 연결된 실제 파일들을 먼저 삭제
-    fileUploadService.deletePhysicalFiles(post);
+    // postsRepository.delete(post)는 cascade로 모든 댓글/좋아요/첨부파일을 로딩한 뒤 한 건씩 삭제하므로
+    // 자식 테이블 → 게시글 순서로 집합 단위 DELETE를 직접 실행
+    // 1. 좋아요, 댓글 삭제 (행이 많을 수 있으므로 chunk 단위로 반복)
+    int deletedLikes =
+        deleteInChunks(limit -> postLikesRepository.deleteChunkByPostId(postId, limit));
+    int deletedComments =
+        deleteInChunks(limit -> commentsRepository.deleteChunkByPostId(postId, limit));
+
+    // 2. 첨부파일 레코드 삭제 (실제 파일 경로는 삭제 전에 확보)
+    List<String> fileUrls = postAttachmentsRepository.findFileUrlsByPostId(postId);
+    postAttachmentsRepository.deleteByPostId(postId);
+
+    // 3. 게시글 삭제
+    postsRepository.deleteByPostId(postId);
+    postListCacheService.invalidateAfterCommit(post.getCategory());
+    postEventBroadcaster.postDeletedAfterCommit(postId);
+
+    // 4. 실제 파일은 트랜잭션 커밋 이후에 삭제 (롤백 시 파일만 사라지는 문제 방지)
+    fileUploadService.deletePhysicalFilesAfterCommit(fileUrls);
+
+    log.debug(
+        "게시글 삭제 완료: postId={}, likes={}, comments={}, attachments={}",
+        postId,
+        deletedLikes,
+        deletedComments,
+        fileUrls.size());
+  }
 
-    // 2. 게시물을 삭제
-    // Posts 엔티티의 cascade 설정에 따라 연결된 첨부파일, 댓글 등의 DB 레코드가 자동으로 삭제됩니다.
-    postsRepository.delete(post);
+  /**
+   * 삭제된 행 수가 chunk 크기보다 작아질 때까지 DELETE ... LIMIT 반복
+   *
+   * @param chunkDelete chunk 크기를 받아 삭제된 행 수를 반환하는 삭제 쿼리
+   * @return 총 삭제된 행 수
+   */
+  private int deleteInChunks(IntUnaryOperator chunkDelete) {
+    int total = 0;
+    int deleted;
+    do {
+      deleted = chunkDelete.applyAsInt(deleteChunkSize);
+      total += deleted;
+    } while (deleted == deleteChunkSize);
+    return total;
   }
 
   /**
@@ -287,6 +322,8 @@ public class PostsService {
 
     // 게시글의 좋아요 수 증가
     postsRepository.incrementLikes(postId);
+    postListCacheService.invalidateAfterCommit(post.getCategory());
+    postEventBroadcaster.likesChangedAfterCommit(postId, post.getCategory(), 1);
   }
 
   /**
@@ -297,9 +334,11 @@ public class PostsService {
    */
   @Transactional
   public void removeLike(Long postId, Long userId) {
-    if (!postsRepository.existsById(postId)) {
-      throw new BusinessException(ErrorCode.POST_NOT_FOUND);
-    }
+    // 존재 확인과 함께 목록 캐시 무효화/실시간 이벤트에 쓸 카테고리만 조회
+    PostCategory category =
+        postsRepository
+            .findCategoryByPostId(postId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
     // 좋아요를 눌렀는지 확인
     if (!postLikesRepository.existsByUserIdAndPostPostId(userId, postId)) {
@@ -311,6 +350,8 @@ public class PostsService {
 
     // 게시글의 좋아요 수 감소
     postsRepository.decrementLikes(postId);
+    postListCacheService.invalidateAfterCommit(category);
+    postEventBroadcaster.likesChangedAfterCommit(postId, category, -1);
   }
 
   /**
@@ -381,17 +422,6 @@ public class PostsService {
         postAuthor, requestDto.getAnonymousEmail(), requestDto.getAnonymousPassword());
   }
 
-  /**
-   * PostsSummaryDTO에 첨부파일 존재 여부 설정
-   *
-   * @param dto 설정할 PostsSummaryDTO 객체
-   * @param postId 게시글 ID
-   */
-  private void setHasAttachments(PostsSummaryDTO dto, Long postId) {
-    int attachmentCount = postAttachmentsRepository.countByPostId(postId);
-    dto.setHasAttachments(attachmentCount > 0); // 첨부파일이 하나라도 있으면 true, 없으면 false
-  }
-
   /**
    * 익명 사용자 인증 검증
    *
@@ -450,12 +480,7 @@ public class PostsService {
     String jsonTag = "\"" + tag + "\""; // JSON 규격과 일치하게 만들기 (예: \"spring\" ➡ "spring")
     Page<Posts> posts = postsRepository.findByTagsContaining(jsonTag, pageable);
 
-    return posts.map(
-        post -> {
-          PostsSummaryDTO postsSummaryDTO = PostsSummaryDTO.from(post);
-          setHasAttachments(postsSummaryDTO, post.getPostId());
-          return postsSummaryDTO;
-        });
+    return posts.map(PostsSummaryDTO::from);
   }
 
   /**
@@ -469,12 +494,7 @@ public class PostsService {
     // 제목/내용으로 검색
     Page<Posts> posts = postsRepository.findByTitleContainingOrContentContaining(keyword, pageable);
 
-    return posts.map(
-        post -> {
-          PostsSummaryDTO postsSummaryDTO = PostsSummaryDTO.from(post);
-          setHasAttachments(postsSummaryDTO, post.getPostId());
-          return postsSummaryDTO;
-        });
+    return posts.map(PostsSummaryDTO::from);
   }
 
   /**
@@ -500,12 +520,7 @@ public class PostsService {
   public Page<PostsSummaryDTO> getLikedPostsByUser(Long userId, Pageable pageable) {
     Page<Posts> likedPosts = postsRepository.findLikedPostsByUserId(userId, pageable);
 
-    return likedPosts.map(
-        post -> {
-          PostsSummaryDTO postsSummaryDTO = PostsSummaryDTO.from(post);
-          setHasAttachments(postsSummaryDTO, post.getPostId());
-          return postsSummaryDTO;
-        });
+    return likedPosts.map(PostsSummaryDTO::from);
   }
 
   /**
@@ -519,11 +534,6 @@ public class PostsService {
     Page<Posts> userPosts =
         postsRepository.findByAuthors_UserIdOrderByCreatedAtDesc(userId, pageable);
 
-    return userPosts.map(
-        post -> {
-          PostsSummaryDTO postsSummaryDTO = PostsSummaryDTO.from(post);
-          setHasAttachments(postsSummaryDTO, post.getPostId());
-          return postsSummaryDTO;
-        });
+    return userPosts.map(PostsSummaryDTO::from);
   }
 }
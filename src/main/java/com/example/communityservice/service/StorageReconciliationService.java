@@ -0,0 +1,414 @@
+package com.example.communityservice.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.communityservice.global.util.FileDeletionQueue;
+import com.example.communityservice.global.util.FileManager;
+import com.example.communityservice.global.util.ImageVariant;
+import com.example.communityservice.repository.PostAttachmentsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 저장소와 첨부파일 레코드 정합성 점검 (orphan 파일 정리) <br>
+ * - 업로드 디렉토리를 fork/join으로 병렬 탐색하고, 디렉토리별로 batch 단위 IN 조회로 참조 여부 확인 <br>
+ * - 반대 방향(레코드는 있는데 파일이 없는 경우)은 DB URL을 정렬 순서로 keyset 페이징하며 확인 <br>
+ * - 어느 쪽도 전체 목록을 메모리에 올리지 않음 (디렉토리 하나의 batch + DB 페이지 하나 크기만 사용) <br>
+ * - 결과는 보고서 파일로 남기고, 모드에 따라 orphan 파일을 격리(quarantine)하거나 삭제 큐에 등록
+ *
+ * <p>점검에서 제외하는 파일: 점(.)으로 시작하는 임시 파일, 최근 수정된 파일(업로드 커밋 전일 수 있음), 축소본(원본을 따라 처리), segment 저장소/분할 업로드
+ * staging/격리 디렉토리
+ */
+@Slf4j
+@Service
+public class StorageReconciliationService {
+
+  private final FileManager fileManager;
+  private final FileDeletionQueue fileDeletionQueue;
+  private final PostAttachmentsRepository postAttachmentsRepository;
+  private final Executor reconcileExecutor;
+
+  @Value("${file.upload.path}")
+  private String baseUploadPath;
+
+  @Value("${file.storage.segment.path:./data/segments}")
+  private String segmentPath;
+
+  @Value("${file.upload.chunked.staging-path:./data/upload-sessions}")
+  private String stagingPath;
+
+  // 주기 실행 시 처리 방식 (report / quarantine / delete)
+  @Value("${file.reconcile.mode:report}")
+  private String mode;
+
+  // 이 시간 안에 수정된 파일은 아직 커밋되지 않은 업로드일 수 있으므로 건너뜀 (기본 1시간)
+  @Value("${file.reconcile.grace-ms:3600000}")
+  private long graceMs;
+
+  @Value("${file.reconcile.parallelism:4}")
+  private int parallelism;
+
+  @Value("${file.reconcile.batch-size:500}")
+  private int batchSize;
+
+  @Value("${file.reconcile.quarantine-path:./data/quarantine}")
+  private String quarantinePath;
+
+  @Value("${file.reconcile.report-path:./data/reconcile-reports}")
+  private String reportPath;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  // 같은 타입(Executor) 빈이 여러 개이므로 @Qualifier를 쓰기 위해 생성자를 직접 작성
+  public StorageReconciliationService(
+      FileManager fileManager,
+      FileDeletionQueue fileDeletionQueue,
+      PostAttachmentsRepository postAttachmentsRepository,
+      @Qualifier("reconcileExecutor") Executor reconcileExecutor) {
+    this.fileManager = fileManager;
+    this.fileDeletionQueue = fileDeletionQueue;
+    this.postAttachmentsRepository = postAttachmentsRepository;
+    this.reconcileExecutor = reconcileExecutor;
+  }
+
+  /** orphan 파일 처리 방식 */
+  public enum Mode {
+    REPORT, // 보고서만 작성 (dry-run)
+    QUARANTINE, // 격리 디렉토리로 이동 (복구 가능)
+    DELETE // 삭제 큐에 등록 (삭제 직전에 참조 여부를 다시 확인)
+  }
+
+  /** 점검 결과 요약 */
+  public record ReconcileResult(
+      Mode mode,
+      long scannedFiles,
+      long orphanFiles,
+      long orphanBytes,
+      long missingFiles,
+      long errors,
+      Path reportFile) {}
+
+  /**
+   * 설정된 주기(file.reconcile.cron)마다 실행 (기본값 "-"는 비활성화) <br>
+   * 점검은 전용 스레드에서 실행하고 스케줄러 스레드는 바로 반환 (이전 점검이 아직 실행 중이면 건너뜀)
+   */
+  @Scheduled(cron = "${file.reconcile.cron:-}")
+  public void scheduledRun() {
+    Mode scheduledMode = Mode.valueOf(mode.trim().toUpperCase());
+    if (running.get()) {
+      log.warn("이전 저장소 점검이 아직 실행 중이라 이번 주기는 건너뜁니다.");
+      return;
+    }
+    try {
+      reconcileExecutor.execute(() -> run(scheduledMode));
+    } catch (TaskRejectedException e) {
+      log.warn("이전 저장소 점검이 아직 실행 중이라 이번 주기는 건너뜁니다.");
+    }
+  }
+
+  /**
+   * 저장소 점검 실행 (이미 실행 중이면 건너뜀)
+   *
+   * @param mode orphan 파일 처리 방식
+   * @return 점검 결과 (이미 실행 중이면 null)
+   */
+  public ReconcileResult run(Mode mode) {
+    if (!running.compareAndSet(false, true)) {
+      log.warn("저장소 점검이 이미 실행 중입니다.");
+      return null;
+    }
+    long startTime = System.currentTimeMillis();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      Path reportDirectory = Paths.get(reportPath);
+      Files.createDirectories(reportDirectory);
+      Path reportFile =
+          reportDirectory.resolve(
+              "reconcile-"
+                  + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                  + ".tsv");
+
+      try (Report report = new Report(reportFile, mode)) {
+        Path root = Paths.get(baseUploadPath).toAbsolutePath().normalize();
+        if (Files.isDirectory(root)) {
+          pool.invoke(new DirectoryTask(root, root, report, startTime - graceMs));
+        }
+        findMissingFiles(pool, report);
+
+        ReconcileResult result = report.toResult();
+        log.info(
+            "저장소 점검 완료 ({}): 파일 {}개 확인, orphan {}개({} bytes), 파일 없는 레코드 {}개, 오류 {}건, {}ms, 보고서: {}",
+            mode,
+            result.scannedFiles(),
+            result.orphanFiles(),
+            result.orphanBytes(),
+            result.missingFiles(),
+            result.errors(),
+            System.currentTimeMillis() - startTime,
+            reportFile);
+        return result;
+      }
+    } catch (IOException e) {
+      log.error("저장소 점검 실패: {}", e.getMessage(), e);
+      return null;
+    } finally {
+      pool.shutdown();
+      running.set(false);
+    }
+  }
+
+  /** 디렉토리 하나를 처리하는 작업 (하위 디렉토리는 별도 작업으로 fork) */
+  private class DirectoryTask extends RecursiveAction {
+
+    private final Path root;
+    private final Path directory;
+    private final Report report;
+    private final long modifiedBefore;
+
+    DirectoryTask(Path root, Path directory, Report report, long modifiedBefore) {
+      this.root = root;
+      this.directory = directory;
+      this.report = report;
+      this.modifiedBefore = modifiedBefore;
+    }
+
+    @Override
+    protected void compute() {
+      List<DirectoryTask> subtasks = new ArrayList<>();
+      List<Candidate> batch = new ArrayList<>(batchSize);
+
+      try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+        for (Path entry : entries) {
+          String name = entry.getFileName().toString();
+          if (name.startsWith(".")) {
+            continue; // 저장 중인 임시 파일(.upload-, .staged- 등)
+          }
+          BasicFileAttributes attributes =
+              Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+          if (attributes.isDirectory()) {
+            if (!isExcludedDirectory(entry)) {
+              DirectoryTask subtask = new DirectoryTask(root, entry, report, modifiedBefore);
+              subtask.fork();
+              subtasks.add(subtask);
+            }
+            continue;
+          }
+
+          String fileUrl = toFileUrl(root, entry);
+          if (!attributes.isRegularFile() || ImageVariant.isVariantUrl(fileUrl)) {
+            continue;
+          }
+          report.scanned.increment();
+          if (attributes.lastModifiedTime().toMillis() > modifiedBefore) {
+            continue;
+          }
+
+          batch.add(new Candidate(fileUrl, entry, attributes.size()));
+          if (batch.size() >= batchSize) {
+            checkReferences(batch, report, modifiedBefore);
+            batch = new ArrayList<>(batchSize);
+          }
+        }
+      } catch (IOException e) {
+        log.warn("디렉토리 탐색 실패: {}, 오류: {}", directory, e.getMessage());
+        report.errors.increment();
+      }
+
+      if (!batch.isEmpty()) {
+        checkReferences(batch, report, modifiedBefore);
+      }
+      subtasks.forEach(ForkJoinTask::join);
+    }
+  }
+
+  /** 참조 확인 대상 파일 */
+  private record Candidate(String fileUrl, Path path, long size) {}
+
+  /** batch 안에서 어떤 레코드도 가리키지 않는 파일을 orphan으로 처리 */
+  private void checkReferences(List<Candidate> batch, Report report, long modifiedBefore) {
+    Set<String> referenced =
+        new HashSet<>(
+            postAttachmentsRepository.findReferencedFileUrls(
+                batch.stream().map(Candidate::fileUrl).toList()));
+
+    List<String> toDelete = new ArrayList<>();
+    for (Candidate candidate : batch) {
+      if (referenced.contains(candidate.fileUrl())) {
+        continue;
+      }
+      report.orphans.increment();
+      report.orphanBytes.add(candidate.size());
+
+      switch (report.mode) {
+        case REPORT -> report.write("ORPHAN", candidate.fileUrl(), candidate.size());
+        case QUARANTINE -> quarantine(candidate, report, modifiedBefore);
+        case DELETE -> {
+          toDelete.add(candidate.fileUrl());
+          report.write("ORPHAN_DELETE", candidate.fileUrl(), candidate.size());
+        }
+      }
+    }
+    // 삭제 큐가 처리 직전에 참조 여부를 다시 확인하므로 점검 이후 새로 연결된 파일은 지워지지 않음
+    fileDeletionQueue.enqueueNow(toDelete);
+  }
+
+  /**
+   * orphan 파일과 축소본을 같은 상대 경로로 격리 디렉토리에 이동 <br>
+   * 탐색 이후 중복 업로드가 같은 blob을 재사용했을 수 있으므로, FileManager의 blob 잠금 안에서 수정 시각과 참조 여부를 다시 확인 (재사용은 같은 잠금
+   * 안에서 수정 시각을 갱신하고, 잠금이 풀린 뒤의 재사용은 파일이 없으므로 새로 저장)
+   */
+  private void quarantine(Candidate candidate, Report report, long modifiedBefore) {
+    fileManager.withBlobLock(
+        candidate.fileUrl(),
+        () -> {
+          if (isStillOrphan(candidate, modifiedBefore)) {
+            moveToQuarantine(candidate, report);
+          } else {
+            report.orphans.decrement();
+            report.orphanBytes.add(-candidate.size());
+            report.write("ORPHAN_REUSED", candidate.fileUrl(), candidate.size());
+          }
+        });
+  }
+
+  /** 격리 직전 재확인: 유예 시간 안에 수정(재사용)되지 않았고 여전히 참조하는 레코드가 없는지 */
+  private boolean isStillOrphan(Candidate candidate, long modifiedBefore) {
+    try {
+      if (Files.getLastModifiedTime(candidate.path()).toMillis() > modifiedBefore) {
+        return false;
+      }
+    } catch (IOException e) {
+      return false; // 이미 삭제/이동된 파일
+    }
+    return postAttachmentsRepository.findReferencedFileUrls(List.of(candidate.fileUrl())).isEmpty();
+  }
+
+  private void moveToQuarantine(Candidate candidate, Report report) {
+    List<String> fileUrls = new ArrayList<>();
+    fileUrls.add(candidate.fileUrl());
+    fileUrls.addAll(ImageVariant.allVariantUrls(candidate.fileUrl()));
+
+    for (String fileUrl : fileUrls) {
+      Path source = fileManager.resolvePath(fileUrl);
+      if (!Files.isRegularFile(source)) {
+        continue; // 축소본이 없는 경우
+      }
+      Path target = Paths.get(quarantinePath).resolve(fileUrl.substring("/uploads/".length()));
+      try {
+        long size = Files.size(source);
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        report.write("ORPHAN_QUARANTINED", fileUrl, size);
+      } catch (IOException e) {
+        log.warn("orphan 파일 격리 실패: {}, 오류: {}", fileUrl, e.getMessage());
+        report.errors.increment();
+      }
+    }
+  }
+
+  /** DB URL을 정렬 순서로 페이지 단위로 읽으면서 실제 파일이 없는 레코드 확인 (존재 확인은 병렬) */
+  private void findMissingFiles(ForkJoinPool pool, Report report) {
+    String lastUrl = "";
+    while (true) {
+      List<String> fileUrls =
+          postAttachmentsRepository.findFileUrlsAfter(lastUrl, PageRequest.of(0, batchSize));
+      if (fileUrls.isEmpty()) {
+        return;
+      }
+      lastUrl = fileUrls.get(fileUrls.size() - 1);
+
+      List<String> missing =
+          pool.submit(
+                  () ->
+                      fileUrls.parallelStream()
+                          .filter(fileUrl -> !fileManager.exists(fileUrl))
+                          .toList())
+              .join();
+      for (String fileUrl : missing) {
+        report.missing.increment();
+        report.write("MISSING", fileUrl, -1);
+      }
+    }
+  }
+
+  /** 실제 파일 경로를 웹 URL로 변환 (예: ./uploads/posts/... -> /uploads/posts/...) */
+  private String toFileUrl(Path root, Path path) {
+    return "/uploads/"
+        + root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+  }
+
+  /** 업로드 디렉토리 아래에 설정되었을 수 있는 다른 저장소 디렉토리 */
+  private boolean isExcludedDirectory(Path directory) {
+    Path normalized = directory.toAbsolutePath().normalize();
+    return normalized.equals(Paths.get(segmentPath).toAbsolutePath().normalize())
+        || normalized.equals(Paths.get(stagingPath).toAbsolutePath().normalize())
+        || normalized.equals(Paths.get(quarantinePath).toAbsolutePath().normalize())
+        || normalized.equals(Paths.get(reportPath).toAbsolutePath().normalize());
+  }
+
+  /** 점검 보고서 (탭 구분: 종류, URL, 크기) 및 집계 */
+  private static class Report implements AutoCloseable {
+
+    private final Mode mode;
+    private final Path file;
+    private final BufferedWriter writer;
+    private final LongAdder scanned = new LongAdder();
+    private final LongAdder orphans = new LongAdder();
+    private final LongAdder orphanBytes = new LongAdder();
+    private final LongAdder missing = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    Report(Path file, Mode mode) throws IOException {
+      this.file = file;
+      this.mode = mode;
+      this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+      writer.write("# mode=" + mode + "\n");
+    }
+
+    synchronized void write(String type, String fileUrl, long size) {
+      try {
+        writer.write(type + "\t" + fileUrl + "\t" + (size >= 0 ? size : "") + "\n");
+      } catch (IOException e) {
+        errors.increment();
+      }
+    }
+
+    ReconcileResult toResult() {
+      return new ReconcileResult(
+          mode, scanned.sum(), orphans.sum(), orphanBytes.sum(), missing.sum(), errors.sum(), file);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      writer.close();
+    }
+  }
+}
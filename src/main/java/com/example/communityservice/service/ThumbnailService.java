@@ -0,0 +1,307 @@
+package com.example.communityservice.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.communityservice.global.exception.BusinessException;
+import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.global.util.FileManager;
+import com.example.communityservice.global.util.ImageVariant;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 첨부파일 축소본(썸네일/미리보기) 생성 서비스 <br>
+ * - 업로드 커밋 이후 크기 제한 풀에서 비동기로 생성 (업로드 응답 시간에 영향 X) <br>
+ * - 풀이 가득 찼거나 예전에 올라온 파일은 처음 요청될 때 생성 (같은 축소본 동시 생성은 한 번만 수행) <br>
+ * - 요청 시 생성은 동시에 thumbnail.on-demand-concurrency개까지만 디코딩하고, 넘으면 기다리지 않고 503 <br>
+ * - 원본은 한 번만 디코딩하고, 큰 이미지는 디코딩 단계에서 subsampling하여 메모리 사용량 제한
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+  private final FileManager fileManager;
+  private final Executor thumbnailExecutor;
+  // 요청 스레드에서 디코딩 중인 원본 수 제한 (다른 파일 요청이 몰려도 CPU/메모리 사용량 제한)
+  private final Semaphore onDemandPermits;
+
+  // 생성 중인 축소본 (같은 파일에 대한 동시 요청이 한 번의 생성 결과를 공유)
+  private final ConcurrentHashMap<String, CompletableFuture<Resource>> inFlight =
+      new ConcurrentHashMap<>();
+
+  // 이 픽셀 수를 넘는 원본은 처리하지 않음 (압축 폭탄 이미지 방지)
+  @Value("${thumbnail.max-source-pixels:50000000}")
+  private long maxSourcePixels;
+
+  @Value("${thumbnail.jpeg-quality:0.85}")
+  private float jpegQuality;
+
+  public ThumbnailService(
+      FileManager fileManager,
+      @Qualifier("thumbnailExecutor") Executor thumbnailExecutor,
+      @Value("${thumbnail.on-demand-concurrency:2}") int onDemandConcurrency) {
+    this.fileManager = fileManager;
+    this.thumbnailExecutor = thumbnailExecutor;
+    this.onDemandPermits = new Semaphore(onDemandConcurrency);
+  }
+
+  /**
+   * 현재 트랜잭션 커밋 이후 이미지 파일들의 축소본 생성을 예약 (트랜잭션 밖이면 즉시 예약)
+   *
+   * @param fileUrls 업로드된 파일들의 웹 URL (이미지가 아닌 파일은 무시)
+   */
+  public void generateAfterCommit(List<String> fileUrls) {
+    List<String> images = fileUrls.stream().filter(ImageVariant::supports).toList();
+    if (images.isEmpty()) {
+      return;
+    }
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      submit(images);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            submit(images);
+          }
+        });
+  }
+
+  /**
+   * 축소본 조회 (없으면 현재 스레드에서 생성)
+   *
+   * @param fileUrl 원본 파일의 웹 URL
+   * @param variant 축소본 종류
+   * @return 축소본 파일
+   * @throws BusinessException 요청 시 생성 한도가 가득 찬 경우 (THUMBNAIL_BUSY)
+   */
+  public Resource getOrCreate(String fileUrl, ImageVariant variant) throws IOException {
+    String variantUrl = variant.variantUrl(fileUrl);
+    Optional<Resource> existing = fileManager.findResource(variantUrl);
+    if (existing.isPresent()) {
+      return existing.get();
+    }
+
+    CompletableFuture<Resource> mine = new CompletableFuture<>();
+    CompletableFuture<Resource> running = inFlight.putIfAbsent(variantUrl, mine);
+    if (running != null) {
+      try {
+        return running.join(); // 다른 스레드가 생성 중이면 결과를 기다림
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtime) {
+          throw runtime;
+        }
+        throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+      }
+    }
+
+    if (!onDemandPermits.tryAcquire()) {
+      BusinessException busy = new BusinessException(ErrorCode.THUMBNAIL_BUSY);
+      inFlight.remove(variantUrl, mine);
+      mine.completeExceptionally(busy);
+      throw busy;
+    }
+    try {
+      render(fileUrl, List.of(variant));
+      Resource created =
+          fileManager
+              .findResource(variantUrl)
+              .orElseThrow(() -> new IOException("축소본을 찾을 수 없습니다: " + variantUrl));
+      mine.complete(created);
+      return created;
+    } catch (IOException | RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(variantUrl, mine);
+      onDemandPermits.release();
+    }
+  }
+
+  /** 요청 시점에 생성 중인 축소본 수 */
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private void submit(List<String> fileUrls) {
+    for (String fileUrl : fileUrls) {
+      try {
+        thumbnailExecutor.execute(() -> generateAll(fileUrl));
+      } catch (RejectedExecutionException e) {
+        // 대기열이 가득 차면 버림 → 처음 조회될 때 생성됨
+        log.debug("축소본 생성 대기열 가득 참, 요청 시 생성: {}", fileUrl);
+      }
+    }
+  }
+
+  private void generateAll(String fileUrl) {
+    long startTime = System.currentTimeMillis();
+    try {
+      render(fileUrl, Arrays.asList(ImageVariant.values()));
+      log.debug("축소본 생성 완료: {} ({}ms)", fileUrl, System.currentTimeMillis() - startTime);
+    } catch (Exception e) {
+      log.warn("축소본 생성 실패: {}, 오류: {}", fileUrl, e.getMessage());
+    }
+  }
+
+  /** 원본을 한 번 디코딩해서 아직 없는 축소본들을 생성 */
+  private void render(String fileUrl, List<ImageVariant> variants) throws IOException {
+    List<ImageVariant> missing =
+        variants.stream()
+            .filter(variant -> !fileManager.exists(variant.variantUrl(fileUrl)))
+            .toList();
+    if (missing.isEmpty()) {
+      return;
+    }
+
+    int largest = missing.stream().mapToInt(ImageVariant::getMaxSize).max().orElseThrow();
+    Resource original =
+        fileManager
+            .findResource(fileUrl)
+            .orElseThrow(() -> new IOException("원본 파일을 찾을 수 없습니다: " + fileUrl));
+    BufferedImage source = read(original, largest);
+    String format = ImageVariant.outputFormat(fileUrl);
+
+    for (ImageVariant variant : missing) {
+      write(resize(source, variant, format), format, variant.variantUrl(fileUrl));
+    }
+  }
+
+  /**
+   * 원본 이미지 디코딩 <br>
+   * 결과가 목표 크기의 2배 이상이 되는 범위에서 subsampling하여 큰 원본도 작은 메모리로 디코딩
+   */
+  private BufferedImage read(Resource resource, int targetSize) throws IOException {
+    // 일반 파일은 파일에서 직접, segment 파일은 매핑된 메모리에서 읽음 (디스크 캐시 파일을 만들지 않음)
+    // MemoryCacheImageInputStream은 원본 스트림을 닫지 않으므로 직접 닫음 (segment 매핑 반환)
+    try (InputStream stream = resource.isFile() ? null : resource.getInputStream();
+        ImageInputStream input =
+            stream == null
+                ? ImageIO.createImageInputStream(resource.getFile())
+                : new MemoryCacheImageInputStream(stream)) {
+      if (input == null) {
+        throw new IOException("이미지 파일을 열 수 없습니다: " + resource.getDescription());
+      }
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        throw new IOException("지원하지 않는 이미지 형식입니다: " + resource.getDescription());
+      }
+
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxSourcePixels) {
+          throw new IOException(String.format("이미지가 너무 큽니다: %dx%d", width, height));
+        }
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        // 가로 기준으로 계산 (긴 변 기준 축소본에도 충분한 해상도를 남기는 보수적인 값)
+        int subsampling = Math.max(1, width / (targetSize * 2));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /** 단계적으로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤 (한 번에 크게 줄일 때 생기는 계단 현상 방지) */
+  private BufferedImage resize(BufferedImage source, ImageVariant variant, String format) {
+    int width = source.getWidth();
+    int height = source.getHeight();
+    double scale =
+        variant.isBoundByWidth()
+            ? (double) variant.getMaxSize() / width
+            : (double) variant.getMaxSize() / Math.max(width, height);
+    scale = Math.min(1.0, scale); // 원본보다 크게 만들지 않음
+    int targetWidth = Math.max(1, (int) Math.round(width * scale));
+    int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+    // jpg는 알파 채널이 없으므로 RGB로 그리고 투명 영역은 흰색으로 채움
+    int type = format.equals("png") ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+    BufferedImage current = source;
+    do {
+      width = Math.max(targetWidth, width / 2);
+      height = Math.max(targetHeight, height / 2);
+      BufferedImage next = new BufferedImage(width, height, type);
+      Graphics2D graphics = next.createGraphics();
+      try {
+        if (type == BufferedImage.TYPE_INT_RGB) {
+          graphics.setColor(Color.WHITE);
+          graphics.fillRect(0, 0, width, height);
+        }
+        graphics.setRenderingHint(
+            RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(
+            RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(current, 0, 0, width, height, null);
+      } finally {
+        graphics.dispose();
+      }
+      current = next;
+    } while (width != targetWidth || height != targetHeight);
+    return current;
+  }
+
+  /** 임시 파일에 기록한 뒤 저장소에 한 번에 반영 (읽는 쪽이 덜 쓴 파일을 보지 않도록) */
+  private void write(BufferedImage image, String format, String variantUrl) throws IOException {
+    Path tempFile = fileManager.createTempFileFor(variantUrl);
+    try {
+      ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+      try (ImageOutputStream output = ImageIO.createImageOutputStream(tempFile.toFile())) {
+        writer.setOutput(output);
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (format.equals("jpg")) {
+          param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+          param.setCompressionQuality(jpegQuality);
+        }
+        writer.write(null, new IIOImage(image, null, null), param);
+      } finally {
+        writer.dispose();
+      }
+      fileManager.storeTempFile(tempFile, variantUrl);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(tempFile);
+      throw e;
+    }
+  }
+}
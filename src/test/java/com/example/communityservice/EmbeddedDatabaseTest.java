@@ -0,0 +1,166 @@
+package com.example.communityservice;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.communityservice.global.util.SqlStatsFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * 내장 MariaDB로 애플리케이션 전체를 띄우는 통합 테스트 기반 클래스 <br>
+ * - DB는 테스트 JVM마다 한 번만 시작 (종료 시 MariaDB4j가 정리), 스키마는 ddl-auto=create <br>
+ * - 같은 설정의 테스트 클래스는 Spring 컨텍스트와 DB를 공유하므로 테스트마다 자기 데이터를 새로 만들어서 사용 <br>
+ * - 요청별 SQL 실행 횟수는 SqlStatsFilter의 X-Sql-Stats 응답 헤더로 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class EmbeddedDatabaseTest {
+
+  private static final String DATABASE = "community_test";
+  private static final DB DB = start();
+  private static final Pattern STATEMENTS = Pattern.compile("statements=(\\d+)");
+
+  @Autowired protected MockMvc mockMvc;
+  @Autowired protected ObjectMapper objectMapper;
+
+  @DynamicPropertySource
+  static void datasource(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> jdbcUrl(DATABASE));
+    registry.add("spring.datasource.username", () -> "root");
+    registry.add("spring.datasource.password", () -> "");
+  }
+
+  /**
+   * 회원 게시글 작성 후 첨부파일 업로드, 댓글 작성 (모두 API로 실행)
+   *
+   * @return 게시글 ID
+   */
+  protected long createPost(String category, long userId, int attachments, int comments)
+      throws Exception {
+    MvcResult created =
+        mockMvc
+            .perform(
+                post("/api/posts")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            Map.of(
+                                "category",
+                                category,
+                                "title",
+                                "제목",
+                                "content",
+                                "내용",
+                                "authorId",
+                                userId,
+                                "authorName",
+                                "회원" + userId))))
+            .andExpect(status().isOk())
+            .andReturn();
+    long postId =
+        objectMapper
+            .readTree(created.getResponse().getContentAsString(StandardCharsets.UTF_8))
+            .path("data")
+            .path("postId")
+            .asLong();
+
+    for (int i = 0; i < attachments; i++) {
+      mockMvc
+          .perform(
+              multipart("/api/posts/" + postId + "/attachments")
+                  .file(
+                      new MockMultipartFile(
+                          "files",
+                          "file" + i + ".txt",
+                          MediaType.TEXT_PLAIN_VALUE,
+                          (postId + "-" + i).getBytes(StandardCharsets.UTF_8))))
+          .andExpect(status().isOk());
+    }
+    for (int i = 0; i < comments; i++) {
+      mockMvc
+          .perform(
+              post("/api/comments")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(
+                      objectMapper.writeValueAsString(
+                          Map.of(
+                              "postId",
+                              postId,
+                              "content",
+                              "댓글" + i,
+                              "authorId",
+                              userId,
+                              "authorName",
+                              "회원" + userId))))
+          .andExpect(status().isOk());
+    }
+    return postId;
+  }
+
+  /**
+   * 내장 MariaDB에 데이터베이스를 만들고 JDBC URL 반환 (Spring 컨텍스트 없이 DB만 쓰는 테스트용)
+   *
+   * @param database 데이터베이스 이름 (이미 있으면 그대로 사용)
+   */
+  public static String createDatabase(String database) {
+    try {
+      DB.createDB(database);
+    } catch (ManagedProcessException e) {
+      throw new IllegalStateException("데이터베이스 생성 실패: " + database, e);
+    }
+    return jdbcUrl(database);
+  }
+
+  /** 요청 하나에서 실행된 SQL 수 */
+  protected static int statements(MvcResult result) {
+    String header = result.getResponse().getHeader(SqlStatsFilter.HEADER_NAME);
+    Matcher matcher = STATEMENTS.matcher(header == null ? "" : header);
+    if (!matcher.find()) {
+      throw new IllegalStateException("SQL 통계 헤더가 없습니다: " + header);
+    }
+    return Integer.parseInt(matcher.group(1));
+  }
+
+  private static String jdbcUrl(String database) {
+    return "jdbc:mysql://localhost:" + DB.getConfiguration().getPort() + "/" + database;
+  }
+
+  private static DB start() {
+    DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+    config.setPort(0); // 0이면 빈 포트 선택
+    config.setDefaultCharacterSet("utf8mb4");
+    if ("root".equals(System.getProperty("user.name"))) {
+      config.addArg("--user=root"); // 컨테이너 등 root로 실행할 때 mariadbd가 거부하지 않도록
+    }
+    try {
+      DB db = DB.newEmbeddedDB(config.build());
+      db.start();
+      db.createDB(DATABASE);
+      return db;
+    } catch (ManagedProcessException e) {
+      throw new IllegalStateException("내장 MariaDB 시작 실패", e);
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package com.example.communityservice.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.example.communityservice.EmbeddedDatabaseTest;
+import com.example.communityservice.entity.PostCategory;
+import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.global.util.FileDeletionQueue;
+import com.example.communityservice.service.PostListCacheService;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 분할 업로드 재개와 완료 실패 시 복구 <br>
+ * - 받지 못한 조각만 다시 보내면 완료되고, 조각이 빠진 상태의 완료 요청은 세션을 건드리지 않아야 함 <br>
+ * - 파일 이동 후 DB 반영이 실패하면 첨부파일은 남지 않고, 옮긴 파일은 삭제 큐로, 세션은 조각을 다시 받는 상태로 되돌아가야 함 <br>
+ * - 트랜잭션 안에서 실패시키려고 spy 빈을 쓰므로 별도 컨텍스트 → 삭제 저널은 다른 컨텍스트와 겹치지 않는 경로 사용
+ */
+@TestPropertySource(
+    properties = "file.delete.journal-path=build/test-work/data/chunked/file-deletion.journal")
+class ChunkedUploadTest extends EmbeddedDatabaseTest {
+
+  private static final int CHUNK_SIZE = 1024 * 1024;
+
+  @MockitoSpyBean private PostListCacheService postListCacheService;
+  @MockitoSpyBean private FileDeletionQueue fileDeletionQueue;
+
+  @Value("${file.upload.chunked.staging-path}")
+  private String stagingPath;
+
+  @AfterEach
+  void resetSpies() {
+    reset(postListCacheService, fileDeletionQueue);
+  }
+
+  @Test
+  @DisplayName("빠진 조각이 있으면 완료를 거절하고, 그 조각만 다시 보내면 완료")
+  void resumesMissingChunk() throws Exception {
+    long postId = createPost("LIQUOR_REVIEW", 11L, 0, 0);
+    byte[] content = content(CHUNK_SIZE * 2 + CHUNK_SIZE / 2);
+    String uploadId = createSession(postId, "resume.txt", content);
+
+    sendChunk(uploadId, content, 0).andExpect(status().isOk());
+    sendChunk(uploadId, content, 2)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.missingChunks[0]").value(1));
+
+    commit(uploadId)
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.code").value(ErrorCode.UPLOAD_INCOMPLETE.getCode()));
+    mockMvc
+        .perform(get("/api/posts/attachments/uploads/" + uploadId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.missingChunks.length()").value(1))
+        .andExpect(jsonPath("$.data.receivedBytes").value(CHUNK_SIZE + CHUNK_SIZE / 2));
+
+    sendChunk(uploadId, content, 1)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.missingChunks").isEmpty());
+    commit(uploadId)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.fileSize").value(content.length));
+
+    assertThat(attachments(postId)).hasSize(1);
+    assertThat(Files.exists(Paths.get(stagingPath, uploadId + ".part"))).isFalse();
+    assertThat(Files.exists(Paths.get(stagingPath, uploadId + ".json"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("체크섬이 다른 조각은 받은 것으로 표시하지 않음")
+  void rejectsCorruptChunk() throws Exception {
+    long postId = createPost("LIQUOR_REVIEW", 12L, 0, 0);
+    byte[] content = content(CHUNK_SIZE / 2);
+    String uploadId = createSession(postId, "corrupt.txt", content);
+
+    mockMvc
+        .perform(
+            put("/api/posts/attachments/uploads/" + uploadId)
+                .param("offset", "0")
+                .header("X-Chunk-SHA256", sha256(new byte[] {1}))
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(content))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value(ErrorCode.CHUNK_CHECKSUM_MISMATCH.getCode()));
+
+    mockMvc
+        .perform(get("/api/posts/attachments/uploads/" + uploadId))
+        .andExpect(jsonPath("$.data.missingChunks.length()").value(1));
+  }
+
+  @Test
+  @DisplayName("DB 반영 실패: 첨부파일은 롤백, 옮긴 파일은 삭제 큐에 등록, 세션은 다시 조각을 받을 수 있는 상태")
+  void rollsBackWhenDatabaseStepFails() throws Exception {
+    long postId = createPost("LIQUOR_REVIEW", 13L, 0, 0);
+    byte[] content = content(CHUNK_SIZE + 10);
+    String uploadId = createSession(postId, "rollback.txt", content);
+    sendChunk(uploadId, content, 0).andExpect(status().isOk());
+    sendChunk(uploadId, content, 1).andExpect(status().isOk());
+
+    // 첨부파일 insert 이후, 같은 트랜잭션 안에서 실패
+    doThrow(new IllegalStateException("테스트용 실패"))
+        .when(postListCacheService)
+        .invalidateAfterCommit(any(PostCategory[].class));
+    commit(uploadId).andExpect(status().isInternalServerError());
+
+    assertThat(attachments(postId)).isEmpty();
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> enqueued = ArgumentCaptor.forClass(List.class);
+    verify(fileDeletionQueue).enqueueNow(enqueued.capture());
+    assertThat(enqueued.getValue()).singleElement().asString().startsWith("/uploads/");
+    mockMvc
+        .perform(get("/api/posts/attachments/uploads/" + uploadId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.missingChunks.length()").value(2))
+        .andExpect(jsonPath("$.data.receivedBytes").value(0));
+
+    reset(postListCacheService);
+    sendChunk(uploadId, content, 0).andExpect(status().isOk());
+    sendChunk(uploadId, content, 1).andExpect(status().isOk());
+    commit(uploadId).andExpect(status().isOk());
+    assertThat(attachments(postId)).hasSize(1);
+  }
+
+  private String createSession(long postId, String filename, byte[] content) throws Exception {
+    String response =
+        mockMvc
+            .perform(
+                post("/api/posts/" + postId + "/attachments/uploads")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            Map.of(
+                                "originalFilename",
+                                filename,
+                                "totalSize",
+                                content.length,
+                                "sha256",
+                                sha256(content)))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.chunkSize").value(CHUNK_SIZE))
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+    return objectMapper.readTree(response).path("data").path("uploadId").asText();
+  }
+
+  private ResultActions sendChunk(String uploadId, byte[] content, int index) throws Exception {
+    int from = index * CHUNK_SIZE;
+    byte[] chunk = Arrays.copyOfRange(content, from, Math.min(content.length, from + CHUNK_SIZE));
+    return mockMvc.perform(
+        put("/api/posts/attachments/uploads/" + uploadId)
+            .param("offset", Integer.toString(from))
+            .header("X-Chunk-SHA256", sha256(chunk))
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .content(chunk));
+  }
+
+  private ResultActions commit(String uploadId) throws Exception {
+    return mockMvc.perform(post("/api/posts/attachments/uploads/" + uploadId + "/commit"));
+  }
+
+  private JsonNode attachments(long postId) throws Exception {
+    String response =
+        mockMvc
+            .perform(get("/api/posts/" + postId + "/attachments"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+    return objectMapper.readTree(response).path("data");
+  }
+
+  /** 테스트마다 내용이 달라지도록 길이를 섞은 바이트 (내용 기반 저장소에서 다른 테스트의 파일과 겹치지 않음) */
+  private static byte[] content(int length) {
+    byte[] content = new byte[length];
+    for (int i = 0; i < length; i++) {
+      content[i] = (byte) (i * 31 + length);
+    }
+    return content;
+  }
+
+  private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+  }
+}
@@ -0,0 +1,121 @@
+package com.example.communityservice.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.communityservice.EmbeddedDatabaseTest;
+import com.example.communityservice.entity.Posts;
+
+/**
+ * 게시글 API별 SQL 실행 횟수 (X-Sql-Stats 헤더) <br>
+ * - 2차 캐시를 비운 상태에서 측정 → 캐시 적중과 무관한 최대 횟수 <br>
+ * - 첨부파일 컬렉션은 상세 조회에서만 로딩되고, 목록/삭제는 첨부파일 행을 읽지 않아야 함 <br>
+ * - 목록은 다른 테스트의 게시글(작성자 조회가 늘어남)과 섞이지 않도록 목록 테스트만 쓰는 카테고리(FREE_BOARD) 사용
+ */
+class PostsQueryCountTest extends EmbeddedDatabaseTest {
+
+  private static final String ATTACHMENTS = Posts.class.getName() + ".attachments";
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    sessionFactory.getCache().evictAllRegions();
+    statistics = sessionFactory.getStatistics();
+  }
+
+  @Test
+  @DisplayName("상세 조회: 게시글, 작성자, 댓글, 첨부파일 각 1번 (댓글/첨부파일 수와 무관)")
+  void detail() throws Exception {
+    long postId = createPost("QNA", 1L, 3, 3);
+    setUp();
+
+    long attachmentLoads = attachmentCollectionLoads();
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/posts/" + postId).param("incrementView", "false"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.attachments.length()").value(3))
+            .andExpect(jsonPath("$.data.comments.length()").value(3))
+            .andReturn();
+
+    assertThat(statements(result)).isEqualTo(4);
+    assertThat(attachmentCollectionLoads() - attachmentLoads).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("목록 조회: 게시글 페이지, 댓글 수 일괄 조회, 작성자 (첨부파일은 읽지 않고 hasAttachments 컬럼 사용)")
+  void list() throws Exception {
+    createPost("FREE_BOARD", 2L, 2, 1);
+    createPost("FREE_BOARD", 2L, 0, 2);
+    createPost("FREE_BOARD", 2L, 1, 0);
+    setUp();
+
+    long attachmentLoads = attachmentCollectionLoads();
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/posts").param("category", "FREE_BOARD").param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[?(@.hasAttachments == true)]").isNotEmpty())
+            .andReturn();
+
+    assertThat(statements(result)).isEqualTo(3);
+    assertThat(attachmentCollectionLoads()).isEqualTo(attachmentLoads);
+  }
+
+  @Test
+  @DisplayName("삭제: 자식 테이블을 집합 단위로 지우고 컬렉션을 로딩하지 않음 (첨부파일/댓글 수와 무관)")
+  void deletePost() throws Exception {
+    long postId = createPost("QNA", 3L, 3, 3);
+    setUp();
+
+    long attachmentLoads = attachmentCollectionLoads();
+    long collectionLoads = statistics.getCollectionLoadCount();
+    MvcResult result =
+        mockMvc
+            .perform(
+                delete("/api/posts/" + postId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            Map.of(
+                                "category",
+                                "QNA",
+                                "title",
+                                "제목",
+                                "content",
+                                "내용",
+                                "authorId",
+                                3L))))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    // 게시글 조회, 좋아요/댓글 chunk 삭제, 첨부파일 경로 조회, 첨부파일/게시글 삭제 (+ 작성자 권한 확인용 작성자 조회)
+    assertThat(statements(result)).isEqualTo(7);
+    assertThat(attachmentCollectionLoads()).isEqualTo(attachmentLoads);
+    assertThat(statistics.getCollectionLoadCount()).isEqualTo(collectionLoads);
+  }
+
+  private long attachmentCollectionLoads() {
+    return statistics.getCollectionStatistics(ATTACHMENTS).getLoadCount();
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.communityservice.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.example.communityservice.EmbeddedDatabaseTest;
+
+/**
+ * 작성자/첨부파일 2차 캐시 적중과 무효화 <br>
+ * - 같은 게시글을 두 번 조회하면 두 번째는 작성자, 첨부파일 컬렉션을 캐시에서 읽고 SQL이 그만큼 줄어야 함 <br>
+ * - 첨부파일 업로드는 JdbcTemplate(insertAll)로 저장되어 Hibernate가 모르므로, 직접 무효화한 컬렉션 캐시가 이전 목록을 돌려주지 않는지 확인
+ * <br>
+ * - 다른 테스트의 게시글과 섞이지 않도록 이 클래스만 쓰는 카테고리 사용 (상세: EVENT, 목록: PRICE_INFO)
+ */
+class PostsSecondLevelCacheTest extends EmbeddedDatabaseTest {
+
+  private static final String AUTHORS = "authors";
+  private static final String ATTACHMENTS = "posts.attachments";
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    sessionFactory.getCache().evictAllRegions();
+    statistics = sessionFactory.getStatistics();
+  }
+
+  @Test
+  @DisplayName("상세 재조회: 작성자와 첨부파일 컬렉션을 캐시에서 읽어 SQL 2번 감소")
+  void detailHitsCache() throws Exception {
+    long postId = createPost("EVENT", 5L, 2, 2);
+    setUp();
+
+    long authorHits = region(AUTHORS).getHitCount();
+    long attachmentHits = region(ATTACHMENTS).getHitCount();
+    long attachmentMisses = region(ATTACHMENTS).getMissCount();
+    int cold = statements(detail(postId, 2).andReturn());
+    assertThat(region(ATTACHMENTS).getMissCount()).isEqualTo(attachmentMisses + 1);
+    assertThat(region(ATTACHMENTS).getHitCount()).isEqualTo(attachmentHits);
+
+    int warm = statements(detail(postId, 2).andReturn());
+
+    // 게시글, 댓글만 조회
+    assertThat(cold).isEqualTo(4);
+    assertThat(warm).isEqualTo(2);
+    assertThat(region(AUTHORS).getHitCount()).isGreaterThan(authorHits);
+    assertThat(region(ATTACHMENTS).getHitCount()).isEqualTo(attachmentHits + 1);
+  }
+
+  @Test
+  @DisplayName("목록 재조회: 작성자를 캐시에서 읽어 게시글 페이지와 댓글 수만 조회")
+  void listHitsAuthorCache() throws Exception {
+    createPost("PRICE_INFO", 6L, 0, 1);
+    createPost("PRICE_INFO", 6L, 1, 0);
+    setUp();
+
+    int cold = statements(list().andReturn());
+    long authorHits = region(AUTHORS).getHitCount();
+    int warm = statements(list().andReturn());
+
+    assertThat(cold).isEqualTo(3);
+    assertThat(warm).isEqualTo(2);
+    assertThat(region(AUTHORS).getHitCount()).isGreaterThan(authorHits);
+  }
+
+  @Test
+  @DisplayName("첨부파일 추가 업로드(insertAll) 후 상세 조회: 캐시된 이전 첨부파일 목록을 쓰지 않고 다시 조회")
+  void uploadEvictsAttachmentCollection() throws Exception {
+    long postId = createPost("EVENT", 7L, 1, 0);
+    setUp();
+    detail(postId, 1);
+    detail(postId, 1); // 컬렉션 캐시 적중 상태
+    long attachmentHits = region(ATTACHMENTS).getHitCount();
+    long attachmentMisses = region(ATTACHMENTS).getMissCount();
+
+    mockMvc
+        .perform(
+            multipart("/api/posts/" + postId + "/attachments")
+                .file(
+                    new MockMultipartFile(
+                        "files",
+                        "added.txt",
+                        MediaType.TEXT_PLAIN_VALUE,
+                        "added".getBytes(StandardCharsets.UTF_8))))
+        .andExpect(status().isOk());
+
+    MvcResult result =
+        detail(postId, 2)
+            .andExpect(
+                jsonPath("$.data.attachments[?(@.originalFilename == 'added.txt')]").isNotEmpty())
+            .andReturn();
+
+    assertThat(region(ATTACHMENTS).getMissCount()).isEqualTo(attachmentMisses + 1);
+    assertThat(region(ATTACHMENTS).getHitCount()).isEqualTo(attachmentHits);
+    assertThat(statements(result)).isEqualTo(3); // 작성자는 캐시, 첨부파일은 다시 조회
+  }
+
+  private ResultActions detail(long postId, int attachments) throws Exception {
+    return mockMvc
+        .perform(get("/api/posts/" + postId).param("incrementView", "false"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.attachments.length()").value(attachments));
+  }
+
+  private ResultActions list() throws Exception {
+    return mockMvc
+        .perform(get("/api/posts").param("category", "PRICE_INFO").param("size", "20"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content.length()").value(2));
+  }
+
+  private CacheRegionStatistics region(String regionName) {
+    return statistics.getCacheRegionStatistics(regionName);
+  }
+}
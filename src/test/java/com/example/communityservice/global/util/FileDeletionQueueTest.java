@@ -0,0 +1,169 @@
+package com.example.communityservice.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.communityservice.global.exception.BusinessException;
+import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.repository.PostAttachmentsRepository;
+
+class FileDeletionQueueTest {
+
+  private static final String A = "/uploads/posts/2025/09/18/a.pdf";
+  private static final String B = "/uploads/posts/2025/09/18/b.pdf";
+  private static final String BLOB = "/uploads/blobs/ab/cd/abcd.pdf";
+
+  @TempDir Path tempDir;
+
+  private Path journalPath;
+  private FileManager fileManager;
+  private PostAttachmentsRepository postAttachmentsRepository;
+  private FileDeletionQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    journalPath = tempDir.resolve("file-deletion.journal");
+    fileManager = mock(FileManager.class);
+    postAttachmentsRepository = mock(PostAttachmentsRepository.class);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    if (queue != null) {
+      queue.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("재시작 시 완료 기록이 없는 삭제 작업만 다시 등록하고, 저널은 대기 작업만 남도록 다시 씀")
+  void replaysPendingTasksAfterCrash() throws IOException {
+    Files.writeString(
+        journalPath,
+        "+ " + A + "\n" + "+ " + B + "\n" + "- " + A + "\n" + "+ " + A + "\n" + "- " + A + "\n"
+            + "+");
+
+    queue = start(1_000);
+
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(Files.readAllLines(journalPath)).containsExactly("+ " + B);
+  }
+
+  @Test
+  @DisplayName("같은 URL이 두 번 등록되고 한 번만 완료되었으면 다시 등록")
+  void countsDuplicateEntries() throws IOException {
+    Files.writeString(journalPath, "+ " + A + "\n" + "+ " + A + "\n" + "- " + A + "\n");
+
+    queue = start(1_000);
+
+    assertThat(queue.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("처리 전에 서버가 죽어도 등록된 작업은 다음 시작 때 삭제되고, 삭제된 작업은 다시 등록되지 않음")
+  void survivesRestartBeforeDrain() throws IOException {
+    queue = start(1_000);
+    queue.enqueueNow(List.of(A, B));
+    queue.stop(); // 워커가 처리하기 전에 종료
+
+    queue = start(1_000);
+    assertThat(queue.size()).isEqualTo(2);
+    drain();
+    verify(fileManager).deleteFile(A);
+    verify(fileManager).deleteFile(B);
+    queue.stop();
+
+    queue = start(1_000);
+    assertThat(queue.size()).isZero();
+    assertThat(Files.readAllLines(journalPath)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("완료 기록이 기준 이상 쌓이고 대기 작업이 없으면 저널을 비움")
+  void compactsJournalWhenIdle() throws IOException {
+    queue = start(4);
+    queue.enqueueNow(List.of(A));
+    drain();
+    assertThat(Files.readAllLines(journalPath)).containsExactly("+ " + A, "- " + A);
+
+    queue.enqueueNow(List.of(B));
+    drain();
+    assertThat(Files.size(journalPath)).isZero();
+  }
+
+  @Test
+  @DisplayName("삭제에 실패하면 저널에 남겨두고 나중에 재시도")
+  void keepsFailedTaskForRetry() throws IOException {
+    doThrow(new BusinessException(ErrorCode.FILE_DELETE_FAILED)).when(fileManager).deleteFile(A);
+    queue = start(1_000);
+    queue.enqueueNow(List.of(A));
+
+    drain();
+
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(Files.readAllLines(journalPath)).containsExactly("+ " + A);
+  }
+
+  @Test
+  @DisplayName("아직 다른 첨부파일이 참조하는 blob은 지우지 않고 작업만 완료")
+  void skipsBlobStillReferenced() throws IOException {
+    when(fileManager.isContentAddressed(anyString())).thenReturn(true);
+    when(postAttachmentsRepository.findReferencedFileUrls(List.of(BLOB))).thenReturn(List.of(BLOB));
+    queue = start(1_000);
+    queue.enqueueNow(List.of(BLOB));
+
+    drain();
+
+    verify(fileManager, never()).deleteBlobIfIdle(anyString(), anyLong());
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("유예 시간 안에 재사용된 blob은 남은 시간만큼 미룸")
+  void defersRecentlySharedBlob() throws IOException {
+    when(fileManager.isContentAddressed(anyString())).thenReturn(true);
+    when(fileManager.deleteBlobIfIdle(BLOB, 600_000)).thenReturn(60_000L);
+    queue = start(1_000);
+    queue.enqueueNow(List.of(BLOB));
+
+    drain();
+
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(Files.readAllLines(journalPath)).containsExactly("+ " + BLOB);
+  }
+
+  /** 워커는 시작하지만 테스트 중에는 돌지 않도록 긴 주기로 설정 (처리는 drain()으로 직접 실행) */
+  private FileDeletionQueue start(int compactThreshold) throws IOException {
+    FileDeletionQueue started = new FileDeletionQueue(fileManager, postAttachmentsRepository);
+    ReflectionTestUtils.setField(started, "journalPath", journalPath.toString());
+    ReflectionTestUtils.setField(started, "batchSize", 100);
+    ReflectionTestUtils.setField(started, "maxAttempts", 5);
+    ReflectionTestUtils.setField(started, "retryDelayMs", 60_000L);
+    ReflectionTestUtils.setField(started, "pollIntervalMs", 3_600_000L);
+    ReflectionTestUtils.setField(started, "compactThreshold", compactThreshold);
+    ReflectionTestUtils.setField(started, "sharedGraceMs", 600_000L);
+    started.start();
+    return started;
+  }
+
+  private void drain() {
+    ReflectionTestUtils.invokeMethod(queue, "drain");
+  }
+}
@@ -0,0 +1,92 @@
+package com.example.communityservice.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+  private static final long T0 = TimeUnit.HOURS.toNanos(1);
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  @DisplayName("쉬고 있던 키는 burst건까지 바로 허용하고, 그다음 요청은 요청 간격만큼 기다려야 함")
+  void allowsBurstThenRejects() {
+    RateLimiter limiter = new RateLimiter(60, 3, 100); // 1초에 1건, 최대 3건
+
+    assertThat(limiter.tryAcquire("a", T0)).isZero();
+    assertThat(limiter.tryAcquire("a", T0)).isZero();
+    assertThat(limiter.tryAcquire("a", T0)).isZero();
+    assertThat(limiter.tryAcquire("a", T0)).isEqualTo(SECOND);
+    // 거절된 요청은 소비하지 않음
+    assertThat(limiter.tryAcquire("a", T0)).isEqualTo(SECOND);
+  }
+
+  @Test
+  @DisplayName("요청 간격이 지날 때마다 1건씩 다시 허용")
+  void refillsOnePermitPerInterval() {
+    RateLimiter limiter = new RateLimiter(60, 2, 100);
+    limiter.tryAcquire("a", T0);
+    limiter.tryAcquire("a", T0);
+
+    assertThat(limiter.tryAcquire("a", T0 + SECOND / 2)).isEqualTo(SECOND / 2);
+    assertThat(limiter.tryAcquire("a", T0 + SECOND)).isZero();
+    assertThat(limiter.tryAcquire("a", T0 + SECOND)).isEqualTo(SECOND);
+    assertThat(limiter.tryAcquire("a", T0 + 2 * SECOND)).isZero();
+  }
+
+  @Test
+  @DisplayName("오래 쉬어도 burst건보다 많이 쌓이지 않음")
+  void capsRefillAtBurst() {
+    RateLimiter limiter = new RateLimiter(60, 2, 100);
+    limiter.tryAcquire("a", T0);
+
+    long later = T0 + 60 * SECOND;
+    assertThat(limiter.tryAcquire("a", later)).isZero();
+    assertThat(limiter.tryAcquire("a", later)).isZero();
+    assertThat(limiter.tryAcquire("a", later)).isEqualTo(SECOND);
+  }
+
+  @Test
+  @DisplayName("키별로 따로 제한")
+  void limitsEachKeySeparately() {
+    RateLimiter limiter = new RateLimiter(60, 1, 100);
+
+    assertThat(limiter.tryAcquire("a", T0)).isZero();
+    assertThat(limiter.tryAcquire("a", T0)).isPositive();
+    assertThat(limiter.tryAcquire("b", T0)).isZero();
+  }
+
+  @Test
+  @DisplayName("bucket이 가득 찬 키만 정리하고, 정리된 키는 새 키와 같은 상태")
+  void evictsOnlyIdleKeys() {
+    RateLimiter limiter = new RateLimiter(60, 2, 100);
+    limiter.tryAcquire("idle", T0);
+    limiter.tryAcquire("busy", T0 + 5 * SECOND);
+    limiter.tryAcquire("busy", T0 + 5 * SECOND);
+
+    limiter.evictIdle(T0 + 5 * SECOND);
+
+    assertThat(limiter.size()).isEqualTo(1);
+    assertThat(limiter.tryAcquire("busy", T0 + 5 * SECOND)).isEqualTo(SECOND);
+  }
+
+  @Test
+  @DisplayName("키가 가득 차면 제한 중인 키는 유지하고 새 키를 거절, 쉬는 키가 생기면 정리 후 허용")
+  void rejectsNewKeysOnlyWhileAllKeysAreLimited() {
+    RateLimiter limiter = new RateLimiter(60, 1, 2);
+    limiter.tryAcquire("a", T0);
+    limiter.tryAcquire("b", T0);
+
+    assertThat(limiter.tryAcquire("c", T0)).isEqualTo(SECOND);
+    assertThat(limiter.size()).isEqualTo(2);
+    // 기존 키의 제한은 그대로 유지 (공용 bucket으로 넘어가지 않음)
+    assertThat(limiter.tryAcquire("a", T0)).isEqualTo(SECOND);
+
+    assertThat(limiter.tryAcquire("c", T0 + 2 * SECOND)).isZero();
+    assertThat(limiter.size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,178 @@
+package com.example.communityservice.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.communityservice.EmbeddedDatabaseTest;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 복제본 지연/장애 시 primary 대체 <br>
+ * - 내장 MariaDB의 데이터베이스 두 개를 primary/복제본으로 사용하고, 복제는 복제본의 heartbeat 행을 직접 바꿔서 흉내 냄 <br>
+ * - 어느 쪽 커넥션인지는 커넥션의 catalog(데이터베이스 이름)로 확인
+ */
+class ReplicaRouterTest {
+
+  private static final long MAX_LAG_MS = 2_000;
+  private static final long HEARTBEAT_INTERVAL_MS = 100;
+  private static final long CHECK_TIMEOUT_MS = 250;
+  private static final AtomicInteger DATABASES = new AtomicInteger();
+
+  private String primaryDatabase;
+  private String replicaDatabase;
+  private HikariDataSource replicaAdmin; // 복제 상태를 바꾸는 용도 (라우터와 별도 풀)
+  private ReplicaRouter router;
+
+  @BeforeEach
+  void setUp() {
+    int id = DATABASES.incrementAndGet();
+    primaryDatabase = "router_primary_" + id;
+    replicaDatabase = "router_replica_" + id;
+    String replicaUrl = EmbeddedDatabaseTest.createDatabase(replicaDatabase);
+    replicaAdmin = pool(replicaUrl, "replica-admin");
+    router =
+        new ReplicaRouter(
+            pool(EmbeddedDatabaseTest.createDatabase(primaryDatabase), "primary"),
+            List.of(pool(replicaUrl, "replica-1")),
+            MAX_LAG_MS,
+            HEARTBEAT_INTERVAL_MS,
+            CHECK_TIMEOUT_MS,
+            new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    router.close();
+    replicaAdmin.close();
+  }
+
+  @Test
+  @DisplayName("첫 확인 전이거나 heartbeat가 복제되지 않은 복제본은 사용하지 않음")
+  void usesPrimaryUntilReplicaIsChecked() throws Exception {
+    assertThat(readOnlyDatabase()).isEqualTo(primaryDatabase);
+
+    router.heartbeat(); // 복제본에 heartbeat 테이블이 없음 → 확인 실패
+    Thread.sleep(HEARTBEAT_INTERVAL_MS * 2);
+
+    assertThat(readOnlyDatabase()).isEqualTo(primaryDatabase);
+  }
+
+  @Test
+  @DisplayName("지연이 기준 이하면 복제본, 기준을 넘으면 primary로 대체하고 따라잡으면 다시 복제본")
+  void fallsBackWhileReplicaLags() throws Exception {
+    awaitReadsFrom(replicaDatabase, 0);
+    awaitReadsFrom(primaryDatabase, MAX_LAG_MS * 5);
+    awaitReadsFrom(replicaDatabase, 0);
+  }
+
+  @Test
+  @DisplayName("지연 확인이 멈추면 마지막으로 성공한 확인이 오래되는 시점부터 primary 사용")
+  void fallsBackWhenChecksStall() throws Exception {
+    awaitReadsFrom(replicaDatabase, 0);
+
+    // heartbeat를 더 실행하지 않음 (확인이 멈춘 상태) → 주기 4번 + 확인 제한 시간 이후 대체
+    Thread.sleep(HEARTBEAT_INTERVAL_MS * 4 + CHECK_TIMEOUT_MS + 100);
+
+    assertThat(readOnlyDatabase()).isEqualTo(primaryDatabase);
+  }
+
+  @Test
+  @DisplayName("쓰기 요청과 직후 같은 사용자의 읽기는 복제본이 정상이어도 primary 사용")
+  void pinsWritersToPrimary() throws Exception {
+    awaitReadsFrom(replicaDatabase, 0);
+    ReadYourWritesFilter filter = new ReadYourWritesFilter(60_000, false);
+
+    assertThat(readThrough(filter, "GET", "10.0.0.1")).isEqualTo(replicaDatabase);
+    assertThat(readThrough(filter, "POST", "10.0.0.1")).isEqualTo(primaryDatabase);
+    assertThat(readThrough(filter, "GET", "10.0.0.1")).isEqualTo(primaryDatabase);
+    assertThat(readThrough(filter, "GET", "10.0.0.2")).isEqualTo(replicaDatabase);
+  }
+
+  /** 복제본의 heartbeat 행을 primary에서 복제된 것처럼 기록 */
+  private void replicate(long beatAt) throws SQLException {
+    try (Connection connection = replicaAdmin.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE IF NOT EXISTS replica_heartbeat"
+              + " (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+      statement.execute(
+          "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, "
+              + beatAt
+              + ") ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)");
+    }
+  }
+
+  /** 복제본이 lagMillis만큼 늦은 상태로 heartbeat를 주기마다 실행하면서 읽기 전용 커넥션이 database로 갈 때까지 대기 */
+  private void awaitReadsFrom(String database, long lagMillis) throws Exception {
+    await(
+        () -> {
+          try {
+            replicate(System.currentTimeMillis() - lagMillis);
+            router.heartbeat();
+            return database.equals(readOnlyDatabase());
+          } catch (SQLException e) {
+            return false;
+          }
+        });
+    assertThat(readOnlyDatabase()).isEqualTo(database);
+  }
+
+  private String readOnlyDatabase() throws SQLException {
+    try (Connection connection = router.readOnlyDataSource().getConnection()) {
+      return connection.getCatalog();
+    }
+  }
+
+  /** 필터를 거친 요청 안에서 읽기 전용 커넥션을 가져온 데이터베이스 */
+  private String readThrough(ReadYourWritesFilter filter, String method, String remoteAddr)
+      throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/posts");
+    request.setRemoteAddr(remoteAddr);
+    AtomicReference<String> database = new AtomicReference<>();
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> {
+          try {
+            database.set(readOnlyDatabase());
+          } catch (SQLException e) {
+            throw new IllegalStateException(e);
+          }
+        });
+    return database.get();
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(HEARTBEAT_INTERVAL_MS);
+    }
+  }
+
+  private static HikariDataSource pool(String url, String name) {
+    HikariDataSource pool = new HikariDataSource();
+    pool.setJdbcUrl(url);
+    pool.setUsername("root");
+    pool.setPassword("");
+    pool.setPoolName(name);
+    pool.setMaximumPoolSize(2);
+    pool.setInitializationFailTimeout(-1);
+    return pool;
+  }
+}
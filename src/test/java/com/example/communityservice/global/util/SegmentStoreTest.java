@@ -0,0 +1,181 @@
+package com.example.communityservice.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SegmentStoreTest {
+
+  // 40바이트 파일 2개가 한 segment에 들어가고 3번째부터 다음 segment로 넘어가는 크기
+  private static final long MAX_SEGMENT_SIZE = 100;
+
+  @TempDir Path tempDir;
+
+  private SegmentStore store;
+
+  @AfterEach
+  void tearDown() throws IOException {
+    if (store != null) {
+      store.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("저장한 파일은 바로 읽을 수 있고, 재시작하면 인덱스 로그로 다시 찾음")
+  void putAndLoadSurviveRestart() throws IOException {
+    store = start(MAX_SEGMENT_SIZE);
+    store.put("a.txt", source("a", 40));
+    store.put("b.txt", source("b", 40));
+    store.put("c.txt", source("c", 40));
+
+    assertThat(read("a.txt")).isEqualTo(content("a", 40));
+    store.stop();
+
+    store = start(MAX_SEGMENT_SIZE);
+    assertThat(store.size()).isEqualTo(3);
+    assertThat(read("a.txt")).isEqualTo(content("a", 40));
+    assertThat(read("b.txt")).isEqualTo(content("b", 40));
+    assertThat(read("c.txt")).isEqualTo(content("c", 40));
+  }
+
+  @Test
+  @DisplayName("같은 이름으로 다시 저장하면 새 내용, 삭제하면 재시작 후에도 없음")
+  void replaceAndDelete() throws IOException {
+    store = start(MAX_SEGMENT_SIZE);
+    store.put("a.txt", source("old", 10));
+    store.put("a.txt", source("new", 10));
+    store.put("b.txt", source("b", 10));
+    assertThat(store.delete("b.txt")).isTrue();
+    assertThat(store.delete("b.txt")).isFalse();
+    store.stop();
+
+    store = start(MAX_SEGMENT_SIZE);
+    assertThat(read("a.txt")).isEqualTo(content("new", 10));
+    assertThat(store.contains("b.txt")).isFalse();
+    assertThat(store.load("b.txt")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("동시에 저장해도 모든 파일이 반영되고 재시작 후에도 내용이 같음 (fsync를 함께 수행)")
+  void concurrentPuts() throws Exception {
+    store = start(4096);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        String name = "file-" + i;
+        Path source = source(name, 50);
+        futures.add(
+            executor.submit(
+                () -> {
+                  store.put(name, source);
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    store.stop();
+
+    store = start(4096);
+    assertThat(store.size()).isEqualTo(200);
+    for (int i = 0; i < 200; i++) {
+      assertThat(read("file-" + i)).isEqualTo(content("file-" + i, 50));
+    }
+  }
+
+  @Test
+  @DisplayName("compaction: 살아 있는 파일만 옮기고, 기존 segment는 읽는 중인 스트림이 닫힌 뒤 삭제")
+  void compactionMovesLiveFilesAndDeletesAfterRelease() throws IOException {
+    store = start(MAX_SEGMENT_SIZE);
+    store.put("a.txt", source("a", 40)); // segment 1
+    store.put("b.txt", source("b", 40)); // segment 1
+    store.put("c.txt", source("c", 40)); // segment 2 (쓰는 중)
+    store.delete("a.txt"); // segment 1의 절반이 삭제됨
+    Path firstSegment = tempDir.resolve("segment-000001.dat");
+
+    Resource before = store.load("b.txt").orElseThrow();
+    try (InputStream reading = before.getInputStream()) {
+      store.compact();
+
+      // 읽는 중인 스트림은 기존 매핑으로 계속 읽고, 파일은 스트림이 닫힐 때까지 남음
+      assertThat(Files.exists(firstSegment)).isTrue();
+      assertThat(new String(reading.readAllBytes(), StandardCharsets.UTF_8))
+          .isEqualTo(content("b", 40));
+    }
+    assertThat(Files.exists(firstSegment)).isFalse();
+
+    // compaction 전에 조회한 Resource도 새 위치에서 다시 읽음
+    try (InputStream reopened = before.getInputStream()) {
+      assertThat(new String(reopened.readAllBytes(), StandardCharsets.UTF_8))
+          .isEqualTo(content("b", 40));
+    }
+    store.stop();
+
+    store = start(MAX_SEGMENT_SIZE);
+    assertThat(store.size()).isEqualTo(2);
+    assertThat(read("b.txt")).isEqualTo(content("b", 40));
+    assertThat(read("c.txt")).isEqualTo(content("c", 40));
+  }
+
+  @Test
+  @DisplayName("compaction 대상 segment를 읽는 중인 스트림이 없으면 바로 삭제")
+  void compactionDeletesIdleSegmentImmediately() throws IOException {
+    store = start(MAX_SEGMENT_SIZE);
+    store.put("a.txt", source("a", 40));
+    store.put("b.txt", source("b", 40));
+    store.put("c.txt", source("c", 40));
+    assertThat(read("b.txt")).isEqualTo(content("b", 40)); // 매핑된 상태
+    store.delete("a.txt");
+
+    store.compact();
+
+    assertThat(Files.exists(tempDir.resolve("segment-000001.dat"))).isFalse();
+    assertThat(read("b.txt")).isEqualTo(content("b", 40));
+  }
+
+  private SegmentStore start(long maxSegmentSize) throws IOException {
+    SegmentStore started = new SegmentStore();
+    ReflectionTestUtils.setField(started, "storePath", tempDir.toString());
+    ReflectionTestUtils.setField(started, "maxSegmentSize", maxSegmentSize);
+    ReflectionTestUtils.setField(started, "compactIntervalMs", 3_600_000L);
+    ReflectionTestUtils.setField(started, "compactDeadRatio", 0.5);
+    started.start();
+    return started;
+  }
+
+  private String read(String name) throws IOException {
+    try (InputStream in = store.load(name).orElseThrow().getInputStream()) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private Path source(String prefix, int length) throws IOException {
+    return Files.writeString(
+        Files.createTempFile(tempDir, "source-", ".tmp"), content(prefix, length));
+  }
+
+  /** prefix를 반복해서 length 길이로 만든 내용 */
+  private static String content(String prefix, int length) {
+    return prefix.repeat(length / prefix.length() + 1).substring(0, length);
+  }
+}
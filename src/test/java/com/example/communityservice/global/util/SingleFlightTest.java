@@ -0,0 +1,155 @@
+package com.example.communityservice.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("조회 중에 들어온 같은 키 요청은 leader의 결과를 함께 사용")
+  void followersShareLeaderResult() throws Exception {
+    SingleFlight<String, String> singleFlight = newSingleFlight(10_000);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loads = new AtomicInteger();
+
+    Future<String> leader =
+        executor.submit(() -> singleFlight.execute("k", () -> blockingLoad(loads, release)));
+    awaitCount("leader", 1);
+    Future<String> follower =
+        executor.submit(() -> singleFlight.execute("k", () -> blockingLoad(loads, release)));
+    awaitCount("follower", 1);
+    release.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("leader가 실패하면 기다리던 follower도 같은 예외를 받음")
+  void followersReceiveLeaderFailure() throws Exception {
+    SingleFlight<String, String> singleFlight = newSingleFlight(10_000);
+    CountDownLatch release = new CountDownLatch(1);
+    IllegalStateException failure = new IllegalStateException("조회 실패");
+
+    Future<String> leader =
+        executor.submit(
+            () ->
+                singleFlight.execute(
+                    "k",
+                    () -> {
+                      await(release);
+                      throw failure;
+                    }));
+    awaitCount("leader", 1);
+    Future<String> follower = executor.submit(() -> singleFlight.execute("k", () -> "own"));
+    awaitCount("follower", 1);
+    release.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+  }
+
+  @Test
+  @DisplayName("실패한 조회는 남지 않고 다음 요청이 새로 조회")
+  void failedFlightIsNotReused() {
+    SingleFlight<String, String> singleFlight = newSingleFlight(10_000);
+
+    assertThatThrownBy(
+            () ->
+                singleFlight.execute(
+                    "k",
+                    () -> {
+                      throw new IllegalStateException("조회 실패");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(singleFlight.execute("k", () -> "retry")).isEqualTo("retry");
+    assertThat(count("leader")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("follower는 timeout이 지나면 leader를 기다리지 않고 직접 조회")
+  void followerFallsBackToOwnLoadAfterTimeout() throws Exception {
+    SingleFlight<String, String> singleFlight = newSingleFlight(50);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loads = new AtomicInteger();
+
+    Future<String> leader =
+        executor.submit(() -> singleFlight.execute("k", () -> blockingLoad(loads, release)));
+    awaitCount("leader", 1);
+
+    assertThat(singleFlight.execute("k", () -> "own")).isEqualTo("own");
+    assertThat(count("timeout")).isEqualTo(1);
+    assertThat(leader.isDone()).isFalse();
+
+    release.countDown();
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+  }
+
+  @Test
+  @DisplayName("다른 키는 합치지 않음")
+  void differentKeysLoadIndependently() {
+    SingleFlight<String, String> singleFlight = newSingleFlight(10_000);
+
+    assertThat(singleFlight.execute("a", () -> "A")).isEqualTo("A");
+    assertThat(singleFlight.execute("b", () -> "B")).isEqualTo("B");
+    assertThat(count("leader")).isEqualTo(2);
+    assertThat(count("follower")).isZero();
+  }
+
+  private SingleFlight<String, String> newSingleFlight(long timeoutMillis) {
+    return new SingleFlight<>("test", timeoutMillis, meterRegistry);
+  }
+
+  private static String blockingLoad(AtomicInteger loads, CountDownLatch release) {
+    loads.incrementAndGet();
+    await(release);
+    return "value";
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("테스트 대기 시간 초과");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private double count(String role) {
+    return meterRegistry.get("single.flight.requests").tag("role", role).counter().count();
+  }
+
+  /** 다른 스레드의 요청이 leader/follower로 등록될 때까지 대기 */
+  private void awaitCount(String role, int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (count(role) < expected) {
+      assertThat(System.nanoTime()).as("%s 등록 대기", role).isLessThan(deadline);
+      Thread.sleep(1);
+    }
+  }
+}
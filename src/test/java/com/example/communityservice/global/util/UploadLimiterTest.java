@@ -0,0 +1,107 @@
+package com.example.communityservice.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.communityservice.global.exception.BusinessException;
+import com.example.communityservice.global.exception.ErrorCode;
+
+class UploadLimiterTest {
+
+  private UploadLimiter uploadLimiter;
+
+  @BeforeEach
+  void setUp() {
+    uploadLimiter = new UploadLimiter();
+    ReflectionTestUtils.setField(uploadLimiter, "maxBytesPerUser", 50L);
+    ReflectionTestUtils.setField(uploadLimiter, "maxBytesTotal", 100L);
+  }
+
+  @Test
+  @DisplayName("사용자별 한도를 넘으면 거절하고, 반환하면 다시 허용")
+  void limitsBytesPerUser() {
+    UploadLimiter.Permit first = uploadLimiter.acquire(1L, 30);
+
+    assertLimitExceeded(() -> uploadLimiter.acquire(1L, 30));
+    assertThat(uploadLimiter.inFlightBytes()).isEqualTo(30);
+
+    first.close();
+    uploadLimiter.acquire(1L, 50).close();
+    assertThat(uploadLimiter.inFlightBytes()).isZero();
+  }
+
+  @Test
+  @DisplayName("전체 한도를 넘으면 거절하고, 거절된 요청의 사용자별 사용량은 되돌림")
+  void limitsTotalBytesAndRollsBackUserBytes() {
+    UploadLimiter.Permit first = uploadLimiter.acquire(1L, 50);
+    uploadLimiter.acquire(2L, 40);
+
+    assertLimitExceeded(() -> uploadLimiter.acquire(3L, 20));
+    assertThat(uploadLimiter.inFlightBytes()).isEqualTo(90);
+
+    // 거절된 20 bytes가 사용자 3에게 남아 있으면 50 bytes는 사용자별 한도에 걸림
+    first.close();
+    uploadLimiter.acquire(3L, 50);
+    assertThat(uploadLimiter.inFlightBytes()).isEqualTo(90);
+  }
+
+  @Test
+  @DisplayName("동시에 획득해도 전체 사용량이 한도를 넘지 않고, 모두 반환하면 0")
+  void neverExceedsTotalUnderContention() throws Exception {
+    ReflectionTestUtils.setField(uploadLimiter, "maxBytesTotal", 200L); // 16개 스레드 중 6개까지만 동시에 허용
+    int threads = 16;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        long key = t;
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  long maxSeen = 0;
+                  for (int i = 0; i < 10_000; i++) {
+                    try (UploadLimiter.Permit permit = uploadLimiter.acquire(key, 30)) {
+                      maxSeen = Math.max(maxSeen, uploadLimiter.inFlightBytes());
+                    } catch (BusinessException e) {
+                      // 한도 초과는 정상 결과
+                    }
+                  }
+                  return maxSeen;
+                }));
+      }
+      start.countDown();
+      for (Future<Long> result : results) {
+        assertThat(result.get(30, TimeUnit.SECONDS)).isLessThanOrEqualTo(200L);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(uploadLimiter.inFlightBytes()).isZero();
+    for (long key = 0; key < threads; key++) {
+      uploadLimiter.acquire(key, 50).close(); // 사용자별 사용량도 모두 반환됨
+    }
+  }
+
+  private static void assertLimitExceeded(Runnable acquire) {
+    assertThatThrownBy(acquire::run)
+        .isInstanceOfSatisfying(
+            BusinessException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UPLOAD_LIMIT_EXCEEDED));
+  }
+}
@@ -0,0 +1,178 @@
+package com.example.communityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.communityservice.entity.PostCategory;
+import com.example.communityservice.service.PostListCacheService.Key;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PostListCacheServiceTest {
+
+  private static final Key FREE_BOARD = new Key(PostCategory.FREE_BOARD, "createdAt", 0, 20);
+  private static final Key QNA = new Key(PostCategory.QNA, "createdAt", 0, 20);
+  private static final Key ALL = new Key(null, "createdAt", 0, 20);
+
+  private PostListCacheService cache;
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new PostListCacheService(
+            Jackson2ObjectMapperBuilder.json().build(), new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(cache, "enabled", true);
+    ReflectionTestUtils.setField(cache, "maxPages", 2);
+    ReflectionTestUtils.setField(cache, "maxPageSize", 50);
+    ReflectionTestUtils.setField(cache, "ttlMillis", 60_000L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("같은 키의 두 번째 요청은 목록을 다시 만들지 않고 저장된 응답을 전송")
+  void servesCachedPage() throws IOException {
+    String first = serve(FREE_BOARD);
+    String second = serve(FREE_BOARD);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("카테고리 무효화는 그 카테고리와 전체 목록만 다시 만들게 함")
+  void invalidatesCategoryAndAllList() throws IOException {
+    serve(FREE_BOARD);
+    serve(QNA);
+    serve(ALL);
+
+    cache.invalidateAfterCommit(PostCategory.FREE_BOARD); // 트랜잭션 밖 → 즉시 무효화
+    loads.set(0);
+    serve(FREE_BOARD);
+    serve(QNA);
+    serve(ALL);
+
+    assertThat(loads).hasValue(2); // FREE_BOARD, ALL
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안의 무효화는 커밋된 뒤에만 적용되고, 롤백되면 적용되지 않음")
+  void invalidatesOnlyAfterCommit() throws IOException {
+    serve(FREE_BOARD);
+
+    TransactionSynchronizationManager.initSynchronization();
+    cache.invalidateAfterCommit(PostCategory.FREE_BOARD);
+    serve(FREE_BOARD);
+    assertThat(loads).as("커밋 전에는 기존 응답 유지").hasValue(1);
+
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    serve(FREE_BOARD);
+    assertThat(loads).as("롤백 후에도 기존 응답 유지").hasValue(1);
+
+    TransactionSynchronizationManager.initSynchronization();
+    cache.invalidateAfterCommit(PostCategory.FREE_BOARD);
+    synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+    serve(FREE_BOARD);
+    assertThat(loads).as("커밋 후에는 다시 조회").hasValue(2);
+  }
+
+  @Test
+  @DisplayName("목록을 만드는 중에 커밋된 변경이 있으면 저장한 응답은 다음 요청에서 바로 무효")
+  void pageBuiltDuringWriteIsNotReused() throws IOException {
+    serve(
+        FREE_BOARD,
+        () -> {
+          cache.invalidateAfterCommit(PostCategory.FREE_BOARD);
+          return List.of("stale");
+        });
+
+    serve(FREE_BOARD);
+    assertThat(loads).as("변경 전 세대로 만든 응답은 재사용하지 않음").hasValue(2);
+    serve(FREE_BOARD);
+    assertThat(loads).as("새 세대로 만든 응답은 재사용").hasValue(2);
+  }
+
+  @Test
+  @DisplayName("만료된 응답은 다시 만듦")
+  void expiresAfterTtl() throws IOException {
+    ReflectionTestUtils.setField(cache, "ttlMillis", 0L);
+    serve(FREE_BOARD);
+    serve(FREE_BOARD);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("gzip을 받는 요청에는 압축본을 전송")
+  void servesGzipWhenAccepted() throws IOException {
+    Supplier<Object> large = () -> List.of("x".repeat(4096));
+    serve(FREE_BOARD, large);
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+    request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    cache.serve(FREE_BOARD, request, response, large);
+
+    assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getContentAsByteArray().length).isLessThan(4096);
+  }
+
+  @Test
+  @DisplayName("앞쪽 페이지의 알려진 정렬만 캐시 대상")
+  void keyOfOnlyCoversFrontPages() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+    request.setParameter("category", "qna");
+
+    assertThat(cache.keyOf(request, "qna", "createdAt", PageRequest.of(0, 20))).isEqualTo(QNA);
+    assertThat(cache.keyOf(request, "전체", "createdAt", PageRequest.of(0, 20))).isEqualTo(ALL);
+    assertThat(cache.keyOf(request, "qna", "createdAt", PageRequest.of(2, 20))).isNull();
+    assertThat(cache.keyOf(request, "qna", "title", PageRequest.of(0, 20))).isNull();
+    request.setParameter("tag", "와인");
+    assertThat(cache.keyOf(request, "qna", "createdAt", PageRequest.of(0, 20))).isNull();
+  }
+
+  private String serve(Key key) throws IOException {
+    return serve(key, () -> List.of("post-" + loads.get()));
+  }
+
+  private String serve(Key key, Supplier<Object> body) throws IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    cache.serve(
+        key,
+        new MockHttpServletRequest("GET", "/api/posts"),
+        response,
+        () -> {
+          loads.incrementAndGet();
+          return body.get();
+        });
+    return response.getContentAsString();
+  }
+}
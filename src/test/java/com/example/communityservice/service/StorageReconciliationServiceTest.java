@@ -0,0 +1,107 @@
+package com.example.communityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.example.communityservice.EmbeddedDatabaseTest;
+import com.example.communityservice.global.util.FileManager;
+import com.example.communityservice.service.StorageReconciliationService.Mode;
+import com.example.communityservice.service.StorageReconciliationService.ReconcileResult;
+
+/**
+ * 저장소 점검: 레코드 없는 파일(orphan)과 파일 없는 레코드(missing) 확인 <br>
+ * - 업로드 디렉토리와 DB는 다른 테스트와 공유하므로 개수 대신 이 테스트가 만든 URL이 보고서에 있는지로 확인 <br>
+ * - 유예 시간(file.reconcile.grace-ms) 안의 파일은 제외되므로 점검 대상 파일은 수정 시각을 과거로 바꿔서 사용
+ */
+class StorageReconciliationServiceTest extends EmbeddedDatabaseTest {
+
+  private static final Duration OLD = Duration.ofDays(1);
+
+  @Autowired private StorageReconciliationService storageReconciliationService;
+  @Autowired private FileManager fileManager;
+
+  @Value("${file.upload.path}")
+  private String uploadPath;
+
+  @Value("${file.reconcile.quarantine-path}")
+  private String quarantinePath;
+
+  @Test
+  @DisplayName("점검: 오래된 orphan과 파일 없는 레코드는 보고, 참조 중인 파일과 최근 파일은 제외")
+  void reportsOrphanAndMissingFiles() throws Exception {
+    String referenced = attachmentUrl(createPost("LIQUOR_REVIEW", 21L, 1, 0));
+    String missing = attachmentUrl(createPost("LIQUOR_REVIEW", 22L, 1, 0));
+    age(fileManager.resolvePath(referenced));
+    Files.delete(fileManager.resolvePath(missing));
+    String orphan = writeUpload("orphan", true);
+    String recent = writeUpload("recent", false);
+
+    ReconcileResult result = storageReconciliationService.run(Mode.REPORT);
+
+    List<String> report = Files.readAllLines(result.reportFile(), StandardCharsets.UTF_8);
+    assertThat(report).contains("ORPHAN\t" + orphan + "\t6", "MISSING\t" + missing + "\t");
+    assertThat(report).noneMatch(line -> line.contains(referenced) || line.contains(recent));
+    assertThat(result.orphanFiles()).isPositive();
+    assertThat(result.missingFiles()).isPositive();
+    assertThat(Files.exists(fileManager.resolvePath(orphan))).isTrue(); // 보고만 함
+  }
+
+  @Test
+  @DisplayName("격리: orphan만 같은 상대 경로로 격리 디렉토리에 옮기고 참조 중인 파일은 그대로 둠")
+  void quarantinesOnlyOrphans() throws Exception {
+    String referenced = attachmentUrl(createPost("LIQUOR_REVIEW", 23L, 1, 0));
+    age(fileManager.resolvePath(referenced));
+    String orphan = writeUpload("quarantined", true);
+
+    ReconcileResult result = storageReconciliationService.run(Mode.QUARANTINE);
+
+    assertThat(Files.readAllLines(result.reportFile(), StandardCharsets.UTF_8))
+        .contains("ORPHAN_QUARANTINED\t" + orphan + "\t6");
+    assertThat(Files.exists(fileManager.resolvePath(orphan))).isFalse();
+    assertThat(Paths.get(quarantinePath).resolve(orphan.substring("/uploads/".length())))
+        .hasContent("orphan");
+    assertThat(Files.exists(fileManager.resolvePath(referenced))).isTrue();
+  }
+
+  /** 업로드 디렉토리에 레코드 없는 파일 생성 (old면 유예 시간보다 오래된 파일로) */
+  private String writeUpload(String prefix, boolean old) throws Exception {
+    String fileUrl = "/uploads/posts/reconcile/" + prefix + "-" + System.nanoTime() + ".txt";
+    Path path = Paths.get(uploadPath).resolve(fileUrl.substring("/uploads/".length()));
+    Files.createDirectories(path.getParent());
+    Files.writeString(path, "orphan");
+    if (old) {
+      age(path);
+    }
+    return fileUrl;
+  }
+
+  private String attachmentUrl(long postId) throws Exception {
+    String response =
+        mockMvc
+            .perform(get("/api/posts/" + postId + "/attachments"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+    return objectMapper.readTree(response).path("data").path(0).path("fileUrl").asText();
+  }
+
+  private static void age(Path path) throws Exception {
+    Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(OLD)));
+  }
+}
@@ -0,0 +1,190 @@
+package com.example.communityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.communityservice.global.exception.BusinessException;
+import com.example.communityservice.global.exception.ErrorCode;
+import com.example.communityservice.global.util.FileManager;
+import com.example.communityservice.global.util.ImageVariant;
+
+/**
+ * 요청 시 축소본 생성: 같은 축소본 중복 생성 방지와 동시 생성 한도 <br>
+ * - 저장소는 @TempDir 위의 URL → 파일 맵으로 흉내 내고, 저장(storeTempFile)을 막아 두는 방식으로 생성 중인 상태를 만듦
+ */
+class ThumbnailServiceTest {
+
+  private static final String FIRST = "/uploads/posts/first.png";
+  private static final String SECOND = "/uploads/posts/second.png";
+
+  @TempDir Path tempDir;
+
+  private final Map<String, Path> stored = new ConcurrentHashMap<>();
+  private final AtomicInteger stores = new AtomicInteger();
+  private final CountDownLatch storing = new CountDownLatch(1);
+  private volatile CountDownLatch release = new CountDownLatch(0);
+  private ExecutorService callers;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    stored.put(FIRST, image("first", 1200, 600));
+    stored.put(SECOND, image("second", 1200, 600));
+    callers = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    callers.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("thumb는 긴 변 200, w800은 가로 800으로 축소")
+  void resizesWithinBounds() throws Exception {
+    ThumbnailService service = service(2, 50_000_000L);
+
+    assertThat(dimensions(service.getOrCreate(FIRST, ImageVariant.THUMB)))
+        .containsExactly(200, 100);
+    assertThat(dimensions(service.getOrCreate(FIRST, ImageVariant.PREVIEW)))
+        .containsExactly(800, 400);
+    assertThat(stored).containsKeys("/uploads/posts/first.thumb.png");
+  }
+
+  @Test
+  @DisplayName("같은 축소본을 동시에 요청하면 한 번만 생성하고 모두 같은 결과를 받음")
+  void dedupesConcurrentRequests() throws Exception {
+    ThumbnailService service = service(2, 50_000_000L);
+    release = new CountDownLatch(1);
+
+    List<Future<Resource>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(callers.submit(() -> service.getOrCreate(FIRST, ImageVariant.THUMB)));
+    }
+    assertThat(storing.await(5, TimeUnit.SECONDS)).isTrue();
+    Thread.sleep(200); // 나머지 요청이 생성 중인 결과를 기다리는 상태가 되도록
+    release.countDown();
+
+    for (Future<Resource> future : futures) {
+      assertThat(dimensions(future.get(5, TimeUnit.SECONDS))).containsExactly(200, 100);
+    }
+    assertThat(stores).hasValue(1);
+    assertThat(service.inFlightCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("동시 생성 한도를 넘으면 기다리지 않고 THUMBNAIL_BUSY, 앞의 생성이 끝나면 다시 생성 가능")
+  void rejectsBeyondOnDemandConcurrency() throws Exception {
+    ThumbnailService service = service(1, 50_000_000L);
+    release = new CountDownLatch(1);
+
+    Future<Resource> first = callers.submit(() -> service.getOrCreate(FIRST, ImageVariant.THUMB));
+    assertThat(storing.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> service.getOrCreate(SECOND, ImageVariant.THUMB))
+        .isInstanceOfSatisfying(
+            BusinessException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.THUMBNAIL_BUSY));
+    assertThat(service.inFlightCount()).isEqualTo(1); // 거절된 요청은 남기지 않음
+
+    release.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS).exists()).isTrue();
+    assertThat(dimensions(service.getOrCreate(SECOND, ImageVariant.THUMB)))
+        .containsExactly(200, 100);
+  }
+
+  @Test
+  @DisplayName("원본 픽셀 수 제한을 넘으면 실패하고, 실패해도 생성 한도는 반환")
+  void rejectsOversizedSource() throws Exception {
+    ThumbnailService service = service(1, 1200L * 600 - 1);
+
+    assertThatThrownBy(() -> service.getOrCreate(FIRST, ImageVariant.THUMB))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("이미지가 너무 큽니다");
+    assertThat(stores).hasValue(0);
+    assertThat(service.inFlightCount()).isZero();
+
+    ReflectionTestUtils.setField(service, "maxSourcePixels", 50_000_000L);
+    assertThat(dimensions(service.getOrCreate(FIRST, ImageVariant.THUMB)))
+        .containsExactly(200, 100);
+  }
+
+  /** 저장소 동작을 맵으로 흉내 낸 FileManager로 생성 (비동기 생성 풀은 사용하지 않음) */
+  private ThumbnailService service(int onDemandConcurrency, long maxSourcePixels)
+      throws IOException {
+    FileManager fileManager = mock(FileManager.class);
+    when(fileManager.findResource(anyString()))
+        .thenAnswer(
+            invocation ->
+                Optional.ofNullable(stored.get(invocation.<String>getArgument(0)))
+                    .map(FileSystemResource::new));
+    when(fileManager.exists(anyString()))
+        .thenAnswer(invocation -> stored.containsKey(invocation.<String>getArgument(0)));
+    when(fileManager.createTempFileFor(anyString()))
+        .thenAnswer(invocation -> Files.createTempFile(tempDir, "variant-", ".tmp"));
+    doAnswer(
+            invocation -> {
+              storing.countDown();
+              assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+              Path target = tempDir.resolve("stored-" + stores.incrementAndGet());
+              Files.move(invocation.<Path>getArgument(0), target);
+              stored.put(invocation.getArgument(1), target);
+              return null;
+            })
+        .when(fileManager)
+        .storeTempFile(any(), anyString());
+
+    ThumbnailService service =
+        new ThumbnailService(
+            fileManager,
+            command -> {
+              throw new IllegalStateException("비동기 생성은 사용하지 않음");
+            },
+            onDemandConcurrency);
+    ReflectionTestUtils.setField(service, "maxSourcePixels", maxSourcePixels);
+    ReflectionTestUtils.setField(service, "jpegQuality", 0.85f);
+    return service;
+  }
+
+  private Path image(String name, int width, int height) throws IOException {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Path path = tempDir.resolve(name + ".png");
+    ImageIO.write(image, "png", path.toFile());
+    return path;
+  }
+
+  private static int[] dimensions(Resource resource) throws IOException {
+    BufferedImage image = ImageIO.read(resource.getFile());
+    return new int[] {image.getWidth(), image.getHeight()};
+  }
+}